@@ -0,0 +1,6 @@
+package com.buildingmanagement.buildingmanagementbackend.common.enums;
+
+public enum AssignmentRole {
+    OWNER,
+    TENANT
+}
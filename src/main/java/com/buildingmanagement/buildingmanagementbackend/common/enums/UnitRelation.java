@@ -0,0 +1,7 @@
+package com.buildingmanagement.buildingmanagementbackend.common.enums;
+
+public enum UnitRelation {
+    OWNER,
+    TENANT,
+    OWNER_AND_TENANT
+}
@@ -0,0 +1,28 @@
+package com.buildingmanagement.buildingmanagementbackend.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Ejecuta la acción después del commit de la transacción actual,
+     * o inmediatamente si no hay una transacción activa.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
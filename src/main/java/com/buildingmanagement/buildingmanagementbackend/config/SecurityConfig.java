@@ -1,10 +1,13 @@
 package com.buildingmanagement.buildingmanagementbackend.config;
 
+import com.buildingmanagement.buildingmanagementbackend.security.BoundedPasswordEncoder;
 import com.buildingmanagement.buildingmanagementbackend.security.JwtAuthenticationEntryPoint;
 import com.buildingmanagement.buildingmanagementbackend.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -12,9 +15,9 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -30,12 +33,23 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Value("${app.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.password-hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, hashingQueueCapacity);
     }
 
     @Bean
@@ -43,6 +57,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Re-hashea la contraseña al hacer login si se subió el cost factor
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -63,6 +79,7 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/test/public").permitAll()
                         .requestMatchers("/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/public/**").permitAll()
                         // Endpoints protegidos
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/board/**").hasAnyRole("ADMIN", "BOARD_MEMBER")
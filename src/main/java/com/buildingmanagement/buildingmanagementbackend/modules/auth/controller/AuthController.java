@@ -3,6 +3,7 @@ package com.buildingmanagement.buildingmanagementbackend.modules.auth.controller
 import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.auth.service.AuthService;
 import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +17,9 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
-        LoginResponse response = authService.login(loginRequest);
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+                                                            HttpServletRequest request) {
+        LoginResponse response = authService.login(loginRequest, request.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success(response, "Login successful"));
     }
 
@@ -40,8 +42,14 @@ public class AuthController {
     }
 
     @PostMapping("/refresh-token")
-    public ResponseEntity<ApiResponse<String>> refreshToken(@RequestParam String refreshToken) {
-        String message = authService.refreshToken(refreshToken);
+    public ResponseEntity<ApiResponse<LoginResponse>> refreshToken(@RequestParam String refreshToken) {
+        LoginResponse response = authService.refreshToken(refreshToken);
+        return ResponseEntity.ok(ApiResponse.success(response, "Token refreshed successfully"));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<String>> logout(@RequestParam String refreshToken) {
+        String message = authService.logout(refreshToken);
         return ResponseEntity.ok(ApiResponse.success(message));
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IssuedRefreshToken {
+    private String token;      // valor en claro: solo se entrega al cliente, nunca se guarda
+    private Long userId;
+    private String sessionId;  // family_id, viaja como claim sid en el access token
+    private long expiresIn;
+}
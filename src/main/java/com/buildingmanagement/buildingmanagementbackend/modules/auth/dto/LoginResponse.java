@@ -15,5 +15,7 @@ public class LoginResponse {
     private UserRole role;
     private Long buildingId;
     private long expiresIn;
+    private String refreshToken;
+    private long refreshExpiresIn;
 }
 
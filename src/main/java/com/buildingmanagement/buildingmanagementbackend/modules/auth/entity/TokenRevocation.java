@@ -0,0 +1,35 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del log de revocaciones. expires_at es el último instante en que un
+ * access token de la sesión puede seguir siendo válido; después se puede purgar.
+ */
+@Entity
+@Table(name = "token_revocations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // Lectura incremental del log: solo las entradas recientes que aún no expiraron
+    @Query("SELECT r FROM TokenRevocation r WHERE r.createdAt >= :since AND r.expiresAt > :now")
+    List<TokenRevocation> findCreatedSince(@Param("since") LocalDateTime since,
+                                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
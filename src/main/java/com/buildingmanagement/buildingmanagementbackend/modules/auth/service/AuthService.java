@@ -3,9 +3,10 @@ package com.buildingmanagement.buildingmanagementbackend.modules.auth.service;
 import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.*;
 
 public interface AuthService {
-    LoginResponse login(LoginRequest loginRequest);
+    LoginResponse login(LoginRequest loginRequest, String clientIp);
     String signup(SignupRequest signupRequest);
     String forgotPassword(ForgotPasswordRequest forgotPasswordRequest);
     String resetPassword(ResetPasswordRequest resetPasswordRequest);
-    String refreshToken(String refreshToken);
+    LoginResponse refreshToken(String refreshToken);
+    String logout(String refreshToken);
 }
@@ -1,10 +1,13 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.auth.service;
 
 import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.UnauthorizedException;
 import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
 import com.buildingmanagement.buildingmanagementbackend.security.JwtTokenProvider;
+import com.buildingmanagement.buildingmanagementbackend.security.LoginRateLimiter;
+import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,15 +28,25 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Value("${app.jwt.expiration}")
     private long jwtExpirationInMs;
 
+    /**
+     * Sin transacción: una transacción abierta tomaría una conexión del pool antes de
+     * autenticar y la retendría mientras se espera a BCrypt. La búsqueda del usuario,
+     * la actualización del hash y la emisión del refresh token usan cada una la suya.
+     */
     @Override
-    @Transactional
-    public LoginResponse login(LoginRequest loginRequest) {
+    public LoginResponse login(LoginRequest loginRequest, String clientIp) {
         log.info("Attempting login for email: {}", loginRequest.getEmail());
 
+        // Antes de autenticar y sin transacción abierta: un intento rechazado no toma
+        // conexión del pool ni cuesta consulta o BCrypt
+        loginRateLimiter.checkLoginAttempt(clientIp, loginRequest.getEmail());
+
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getEmail(),
@@ -43,22 +56,13 @@ public class AuthServiceImpl implements AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        String jwt = tokenProvider.generateToken(authentication);
-
-        User user = userRepository.findByEmailAndIsActiveTrue(loginRequest.getEmail())
-                .orElseThrow(() -> new BusinessException("User not found"));
+        // El principal autenticado ya trae los datos del usuario: no hace falta otra consulta
+        UserPrincipal user = (UserPrincipal) authentication.getPrincipal();
+        IssuedRefreshToken refreshToken = refreshTokenService.issue(user.getId());
 
         log.info("User {} logged in successfully", user.getEmail());
 
-        return LoginResponse.builder()
-                .token(jwt)
-                .userId(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .buildingId(user.getBuildingId())
-                .expiresIn(jwtExpirationInMs)
-                .build();
+        return buildLoginResponse(user, refreshToken);
     }
 
     @Override
@@ -110,9 +114,41 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public String refreshToken(String refreshToken) {
-        // TODO: Implement refresh token logic
-        log.info("Token refresh attempted");
-        return "Token refreshed successfully";
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public LoginResponse refreshToken(String refreshToken) {
+        IssuedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+
+        // Se recargan rol y edificio por si cambiaron desde el login
+        User user = userRepository.findById(rotated.getUserId())
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()))
+                .orElse(null);
+        if (user == null) {
+            refreshTokenService.revokeSession(rotated.getToken());
+            throw new UnauthorizedException("User is no longer active");
+        }
+
+        log.info("Token refreshed for user {}", user.getId());
+        return buildLoginResponse(UserPrincipal.create(user), rotated);
+    }
+
+    @Override
+    @Transactional
+    public String logout(String refreshToken) {
+        refreshTokenService.revokeSession(refreshToken);
+        return "Logged out successfully";
+    }
+
+    private LoginResponse buildLoginResponse(UserPrincipal user, IssuedRefreshToken refreshToken) {
+        return LoginResponse.builder()
+                .token(tokenProvider.generateToken(user, refreshToken.getSessionId()))
+                .userId(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .buildingId(user.getBuildingId())
+                .expiresIn(jwtExpirationInMs)
+                .refreshToken(refreshToken.getToken())
+                .refreshExpiresIn(refreshToken.getExpiresIn())
+                .build();
     }
 }
@@ -0,0 +1,22 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.IssuedRefreshToken;
+
+public interface RefreshTokenService {
+
+    /**
+     * Emite el primer refresh token de una nueva sesión.
+     */
+    IssuedRefreshToken issue(Long userId);
+
+    /**
+     * Consume el refresh token y emite el siguiente de la misma sesión.
+     * Si el token ya había sido usado se revoca toda la sesión.
+     */
+    IssuedRefreshToken rotate(String refreshToken);
+
+    /**
+     * Revoca la sesión del token (logout). Los access tokens de la sesión dejan de aceptarse.
+     */
+    void revokeSession(String refreshToken);
+}
@@ -0,0 +1,136 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.UnauthorizedException;
+import com.buildingmanagement.buildingmanagementbackend.common.utils.TransactionUtils;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.IssuedRefreshToken;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.RefreshToken;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.TokenRevocation;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.repository.RefreshTokenRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.repository.TokenRevocationRepository;
+import com.buildingmanagement.buildingmanagementbackend.security.JwtTokenProvider;
+import com.buildingmanagement.buildingmanagementbackend.security.RevokedSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationRepository revocationRepository;
+    private final RevokedSessionRegistry revokedSessionRegistry;
+    private final JwtTokenProvider tokenProvider;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${app.jwt.refresh-expiration}")
+    private long refreshExpirationInMs;
+
+    @Override
+    @Transactional
+    public IssuedRefreshToken issue(Long userId) {
+        return store(userId, UUID.randomUUID().toString());
+    }
+
+    // La revocación por reutilización debe confirmarse aunque se responda 401
+    @Override
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public IssuedRefreshToken rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking session {}",
+                    current.getUserId(), current.getFamilyId());
+            revokeFamily(current.getFamilyId(), now);
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+
+        return store(current.getUserId(), current.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void revokeSession(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int tokens = refreshTokenRepository.deleteExpired(now);
+        int revocations = revocationRepository.deleteExpired(now);
+        log.info("Purged {} expired refresh tokens and {} expired revocations", tokens, revocations);
+    }
+
+    private IssuedRefreshToken store(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationInMs * 1_000_000))
+                .build());
+
+        return IssuedRefreshToken.builder()
+                .token(token)
+                .userId(userId)
+                .sessionId(familyId)
+                .expiresIn(refreshExpirationInMs)
+                .build();
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+
+        // Los access tokens de la sesión siguen siendo válidos hasta su expiración
+        LocalDateTime accessTokensExpireAt = now.plusNanos(tokenProvider.getExpirationInMs() * 1_000_000);
+        revocationRepository.save(TokenRevocation.builder()
+                .sessionId(familyId)
+                .expiresAt(accessTokensExpireAt)
+                .createdAt(now)
+                .build());
+
+        long expiresAtMillis = accessTokensExpireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TransactionUtils.afterCommit(() -> revokedSessionRegistry.revoke(familyId, expiresAtMillis));
+    }
+
+    private static String hash(String token) {
+        if (token == null || token.isBlank()) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.building.controller;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.service.BuildingService;
 import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
 import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,10 +45,10 @@ public class BuildingController {
 
     /**
      * Obtener edificio por ID
-     * Usuarios autenticados pueden ver edificios
+     * Usuarios autenticados pueden ver los edificios a los que pertenecen
      */
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')")
+    @PreAuthorize("(hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.canAccess(#id)")
     public ResponseEntity<ApiResponse<BuildingResponse>> getBuildingById(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -60,11 +62,13 @@ public class BuildingController {
 
     /**
      * Listar todos los edificios con filtros y paginación
+     * q busca en nombre, dirección y descripción (ordenado por relevancia)
      * Solo administradores pueden ver todos los edificios
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Page<BuildingListResponse>>> getAllBuildings(
+            @RequestParam(defaultValue = "") String q,
             @RequestParam(defaultValue = "") String name,
             @RequestParam(defaultValue = "") String address,
             @RequestParam(defaultValue = "0") Integer page,
@@ -76,6 +80,7 @@ public class BuildingController {
         log.debug("Getting all buildings requested by admin: {}", currentUser.getEmail());
 
         BuildingSearchRequest searchRequest = new BuildingSearchRequest();
+        searchRequest.setQ(q);
         searchRequest.setName(name);
         searchRequest.setAddress(address);
         searchRequest.setPage(page);
@@ -88,12 +93,42 @@ public class BuildingController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Listar edificios en modo cursor (pagination=cursor)
+     * Sin COUNT: la siguiente página se pide con el nextCursor de la respuesta
+     */
+    @GetMapping(params = "pagination=cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PageResponse<BuildingListResponse>>> scrollBuildings(
+            @RequestParam(defaultValue = "") String name,
+            @RequestParam(defaultValue = "") String address,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.debug("Scrolling buildings requested by admin: {}", currentUser.getEmail());
+
+        BuildingSearchRequest searchRequest = new BuildingSearchRequest();
+        searchRequest.setName(name);
+        searchRequest.setAddress(address);
+        searchRequest.setCursor(cursor);
+        searchRequest.setSize(size);
+        searchRequest.setSortBy(sortBy);
+        searchRequest.setSortDirection(sortDirection);
+
+        PageResponse<BuildingListResponse> response = buildingService.scrollBuildings(searchRequest);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Actualizar edificio
-     * Solo administradores y board members pueden actualizar
+     * Solo administradores y board members del edificio pueden actualizar
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#id))")
     public ResponseEntity<ApiResponse<BuildingResponse>> updateBuilding(
             @PathVariable Long id,
             @Valid @RequestBody BuildingUpdateRequest request,
@@ -158,15 +193,17 @@ public class BuildingController {
 
         log.debug("Getting buildings managed by user: {}", currentUser.getEmail());
 
-        // Para admin, mostrar todos los edificios
-        // Para board member, filtrar por adminUserId
         BuildingSearchRequest searchRequest = new BuildingSearchRequest();
         searchRequest.setPage(page);
         searchRequest.setSize(size);
         searchRequest.setSortBy(sortBy);
         searchRequest.setSortDirection(sortDirection);
 
-        Page<BuildingListResponse> response = buildingService.getAllBuildings(searchRequest);
+        // Para admin, mostrar todos los edificios
+        // Para board member, filtrar por adminUserId
+        Page<BuildingListResponse> response = currentUser.getRole() == UserRole.ADMIN
+                ? buildingService.getAllBuildings(searchRequest)
+                : buildingService.getBuildingsByAdmin(currentUser.getId(), searchRequest);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -1,13 +1,18 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.building.controller;
 
 import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingBasicInfoResponse;
-import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.CachedBuildingInfo;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.service.BuildingService;
 import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -17,26 +22,29 @@ public class PublicBuildingController {
 
     private final BuildingService buildingService;
 
+    @Value("${app.buildings.public-info-cache.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
     /**
      * Obtener información básica de un edificio (para usuarios no autenticados)
      * Útil para páginas de información pública
+     * Cacheable por navegadores y proxies: ETag fuerte, Last-Modified y Cache-Control public
      */
     @GetMapping("/{id}/basic-info")
     public ResponseEntity<ApiResponse<BuildingBasicInfoResponse>> getBuildingBasicInfo(
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
 
         log.debug("Getting basic info for building: {}", id);
 
-        BuildingResponse building = buildingService.getBuildingById(id);
+        CachedBuildingInfo building = buildingService.getBuildingBasicInfo(id);
 
-        // Crear respuesta con información limitada (sin datos sensibles)
-        BuildingBasicInfoResponse response = BuildingBasicInfoResponse.builder()
-                .id(building.getId())
-                .name(building.getName())
-                .address(building.getAddress())
-                .totalUnits(building.getTotalUnits())
-                .build();
+        if (webRequest.checkNotModified(building.eTag(), building.lastModified())) {
+            return null; // 304 Not Modified
+        }
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .body(ApiResponse.success(building.info()));
     }
-}
\ No newline at end of file
+}
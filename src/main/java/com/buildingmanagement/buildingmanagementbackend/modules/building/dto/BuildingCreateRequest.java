@@ -18,7 +18,5 @@ public class BuildingCreateRequest {
     @Size(max = 1000, message = "Description must not exceed 1000 characters")
     private String description;
 
-    private Integer totalUnits;
-
     private Long adminUserId;
 }
\ No newline at end of file
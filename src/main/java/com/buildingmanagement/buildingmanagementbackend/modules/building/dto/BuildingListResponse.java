@@ -13,6 +13,9 @@ public class BuildingListResponse {
     private String name;
     private String address;
     private Integer totalUnits;
+    private Integer occupiedUnits;
+    private Double totalArea;
+    private Integer assignedOccupants;
     private String adminName;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
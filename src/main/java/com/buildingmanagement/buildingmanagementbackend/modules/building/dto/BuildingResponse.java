@@ -17,6 +17,9 @@ public class BuildingResponse {
     private String address;
     private String description;
     private Integer totalUnits;
+    private Integer occupiedUnits;
+    private Double totalArea;
+    private Integer assignedOccupants;
     private Long adminUserId;
     private String adminName; // AGREGADO
     private LocalDateTime createdAt;
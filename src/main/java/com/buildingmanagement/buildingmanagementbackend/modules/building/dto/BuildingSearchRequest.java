@@ -5,10 +5,12 @@ import lombok.Data;
 @Data
 public class BuildingSearchRequest {
 
+    private String q; // texto libre sobre nombre, dirección y descripción
     private String name;
     private String address;
     private Integer page = 0;
     private Integer size = 10;
     private String sortBy = "createdAt";
     private String sortDirection = "desc";
+    private String cursor; // solo en modo cursor (pagination=cursor)
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+
+/**
+ * Edificio junto con el nombre de su administrador, leídos en una sola consulta.
+ */
+public record BuildingWithAdminName(Building building, String adminName) {
+}
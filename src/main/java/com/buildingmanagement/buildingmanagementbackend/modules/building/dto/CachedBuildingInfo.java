@@ -0,0 +1,8 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.dto;
+
+/**
+ * Información pública de un edificio con los validadores HTTP ya calculados.
+ * lastModified en epoch millis (-1 si se desconoce).
+ */
+public record CachedBuildingInfo(BuildingBasicInfoResponse info, String eTag, long lastModified) {
+}
@@ -28,15 +28,24 @@ public class Building extends Auditable {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(name = "total_units")
+    // Contadores mantenidos en la BD con UPDATEs relativos (BuildingRepository.applyCounterDelta).
+    // JPA nunca los escribe: guardar una entidad leída antes no pisa los cambios concurrentes
+    @Builder.Default
+    @Column(name = "total_units", insertable = false, updatable = false)
     private Integer totalUnits = 0;
 
+    @Builder.Default
+    @Column(name = "occupied_units", insertable = false, updatable = false)
+    private Integer occupiedUnits = 0;
+
+    @Builder.Default
+    @Column(name = "total_area", insertable = false, updatable = false)
+    private Double totalArea = 0.0;
+
+    @Builder.Default
+    @Column(name = "assigned_occupants", insertable = false, updatable = false)
+    private Integer assignedOccupants = 0;
+
     @Column(name = "admin_user_id")
     private Long adminUserId;
-
-    public void prePersist() {
-        if (this.totalUnits == null) {
-            this.totalUnits = 0;
-        }
-    }
 }
\ No newline at end of file
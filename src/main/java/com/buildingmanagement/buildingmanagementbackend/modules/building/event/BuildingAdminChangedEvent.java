@@ -0,0 +1,8 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.event;
+
+/**
+ * Se publica al crear, eliminar o cambiar el administrador de un edificio.
+ * Los ids de administrador pueden ser null.
+ */
+public record BuildingAdminChangedEvent(Long buildingId, Long previousAdminId, Long adminUserId) {
+}
@@ -16,7 +16,6 @@ public class BuildingMapper {
                 .name(request.getName())
                 .address(request.getAddress())
                 .description(request.getDescription())
-                .totalUnits(request.getTotalUnits() != null ? request.getTotalUnits() : 0)
                 .adminUserId(request.getAdminUserId())
                 .build();
     }
@@ -32,6 +31,9 @@ public class BuildingMapper {
                 .address(building.getAddress())
                 .description(building.getDescription())
                 .totalUnits(building.getTotalUnits())
+                .occupiedUnits(building.getOccupiedUnits())
+                .totalArea(building.getTotalArea())
+                .assignedOccupants(building.getAssignedOccupants())
                 .adminUserId(building.getAdminUserId())
                 .adminName(null) // Se asignará en el service
                 .createdAt(building.getCreatedAt())
@@ -49,6 +51,9 @@ public class BuildingMapper {
                 .name(building.getName())
                 .address(building.getAddress())
                 .totalUnits(building.getTotalUnits())
+                .occupiedUnits(building.getOccupiedUnits())
+                .totalArea(building.getTotalArea())
+                .assignedOccupants(building.getAssignedOccupants())
                 .adminName(null) // Se asignará en el service
                 .createdAt(building.getCreatedAt())
                 .build();
@@ -62,7 +67,6 @@ public class BuildingMapper {
         building.setName(request.getName());
         building.setAddress(request.getAddress());
         building.setDescription(request.getDescription());
-        building.setTotalUnits(request.getTotalUnits() != null ? request.getTotalUnits() : 0);
         building.setAdminUserId(request.getAdminUserId());
     }
 }
\ No newline at end of file
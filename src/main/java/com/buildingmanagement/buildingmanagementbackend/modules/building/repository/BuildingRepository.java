@@ -1,18 +1,35 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingWithAdminName;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BuildingRepository extends JpaRepository<Building, Long> {
+public interface BuildingRepository extends JpaRepository<Building, Long>, JpaSpecificationExecutor<Building>,
+        BuildingSearchRepository {
+
+    // Contadores reales por edificio calculados desde units (ver V15, V21 y V22). Ocupantes asignados =
+    // huecos de propietario e inquilino ocupados en unidades activas, igual que los deltas de UnitSnapshot;
+    // un mismo usuario en dos unidades cuenta dos veces, no son personas distintas
+    String UNIT_COUNTERS_SQL = "SELECT u.building_id, " +
+            "COUNT(*) AS total_units, " +
+            "SUM(u.owner_id IS NOT NULL) AS occupied_units, " +
+            "COALESCE(SUM(u.area), 0) AS total_area, " +
+            "SUM(u.owner_id IS NOT NULL) + SUM(u.tenant_id IS NOT NULL) AS assigned_occupants " +
+            "FROM units u " +
+            "WHERE u.is_active = TRUE " +
+            "GROUP BY u.building_id";
 
     // Buscar edificio por nombre
     Optional<Building> findByName(String name);
@@ -23,24 +40,86 @@ public interface BuildingRepository extends JpaRepository<Building, Long> {
     // Verificar si existe un edificio con ese nombre excluyendo un ID específico
     boolean existsByNameAndIdNot(String name, Long id);
 
+    // Edificio y nombre del administrador en un solo round trip
+    @Query("SELECT new com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingWithAdminName(b, a.name) " +
+            "FROM Building b LEFT JOIN User a ON a.id = b.adminUserId WHERE b.id = :id")
+    Optional<BuildingWithAdminName> findWithAdminNameById(@Param("id") Long id);
+
     // Buscar edificios por administrador
     List<Building> findByAdminUserId(Long adminUserId);
 
-    // Buscar edificios con paginación
-    Page<Building> findAll(Pageable pageable);
+    Page<Building> findByAdminUserId(Long adminUserId, Pageable pageable);
 
-    // Buscar edificios por nombre que contenga un texto (para búsqueda)
-    @Query("SELECT b FROM Building b WHERE LOWER(b.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Building> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+    // Edificios a los que pertenece un usuario: administrador, edificio asignado o unidades propias/alquiladas
+    @Query(value = "SELECT b.id FROM buildings b WHERE b.admin_user_id = :userId " +
+            "UNION SELECT u.building_id FROM users u WHERE u.id = :userId AND u.building_id IS NOT NULL " +
+            "UNION SELECT un.building_id FROM units un WHERE un.owner_id = :userId AND un.is_active = TRUE " +
+            "UNION SELECT un.building_id FROM units un WHERE un.tenant_id = :userId AND un.is_active = TRUE",
+            nativeQuery = true)
+    List<Long> findScopeBuildingIds(@Param("userId") Long userId);
 
-    // Buscar edificios por dirección que contenga un texto
-    @Query("SELECT b FROM Building b WHERE LOWER(b.address) LIKE LOWER(CONCAT('%', :address, '%'))")
-    Page<Building> findByAddressContainingIgnoreCase(@Param("address") String address, Pageable pageable);
+    // Edificios que un usuario puede gestionar: solo administrador del edificio o edificio asignado
+    @Query(value = "SELECT b.id FROM buildings b WHERE b.admin_user_id = :userId " +
+            "UNION SELECT u.building_id FROM users u WHERE u.id = :userId AND u.building_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findManagedBuildingIds(@Param("userId") Long userId);
+
+    // Buscar edificios con paginación
+    Page<Building> findAll(Pageable pageable);
 
     // Contar total de edificios
     long count();
 
-    // Buscar edificios con más de X unidades
+    // Suma el delta en la BD: sin leer la fila, las escrituras concurrentes no se pisan
+    @Modifying
+    @Query(value = "UPDATE buildings SET total_units = total_units + :units, " +
+            "occupied_units = occupied_units + :occupied, " +
+            "total_area = total_area + :area, " +
+            "assigned_occupants = assigned_occupants + :occupants " +
+            "WHERE id = :buildingId", nativeQuery = true)
+    int applyCounterDelta(@Param("buildingId") Long buildingId,
+                          @Param("units") long units,
+                          @Param("occupied") long occupied,
+                          @Param("area") double area,
+                          @Param("occupants") long occupants);
+
+    // Edificios cuyos contadores no coinciden con la tabla units
+    @Query(value = "SELECT b.id FROM buildings b LEFT JOIN (" + UNIT_COUNTERS_SQL + ") c ON c.building_id = b.id " +
+            "WHERE b.total_units <> COALESCE(c.total_units, 0) " +
+            "OR b.occupied_units <> COALESCE(c.occupied_units, 0) " +
+            "OR ABS(b.total_area - COALESCE(c.total_area, 0)) >= 0.01 " +
+            "OR b.assigned_occupants <> COALESCE(c.assigned_occupants, 0)", nativeQuery = true)
+    List<Long> findCounterDriftIds();
+
+    // Bloqueo de la fila del edificio: serializa el recálculo con applyCounterDelta
+    @Query(value = "SELECT id FROM buildings WHERE id = :buildingId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("buildingId") Long buildingId);
+
+    // Recalcula los contadores de los edificios indicados desde units
+    @Modifying
+    @Query(value = "UPDATE buildings b LEFT JOIN (" + UNIT_COUNTERS_SQL + ") c ON c.building_id = b.id " +
+            "SET b.total_units = COALESCE(c.total_units, 0), " +
+            "b.occupied_units = COALESCE(c.occupied_units, 0), " +
+            "b.total_area = COALESCE(c.total_area, 0), " +
+            "b.assigned_occupants = COALESCE(c.assigned_occupants, 0) " +
+            "WHERE b.id IN (:ids)", nativeQuery = true)
+    int recountCounters(@Param("ids") Collection<Long> ids);
+
+    // Fila del resumen de unidades en cero al crear el edificio; los deltas posteriores son upserts relativos
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO building_unit_summaries (building_id) VALUES (:buildingId)", nativeQuery = true)
+    int insertEmptyUnitSummary(@Param("buildingId") Long buildingId);
+
+    // Versión del catálogo de tipos de cuota; el UPDATE también serializa las escrituras de tipos del edificio
+    @Modifying
+    @Query(value = "UPDATE buildings SET fee_type_version = fee_type_version + 1 WHERE id = :buildingId",
+            nativeQuery = true)
+    int incrementFeeTypeVersion(@Param("buildingId") Long buildingId);
+
+    @Query(value = "SELECT fee_type_version FROM buildings WHERE id = :buildingId", nativeQuery = true)
+    Optional<Long> findFeeTypeVersion(@Param("buildingId") Long buildingId);
+
+    // Buscar edificios con más de X unidades (total_units es un contador, sin JOIN a units)
     @Query("SELECT b FROM Building b WHERE b.totalUnits >= :minUnits")
     List<Building> findBuildingsWithMinUnits(@Param("minUnits") Integer minUnits);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Búsqueda de edificios sobre los índices FULLTEXT (ver V14__Add_buildings_fulltext_indexes.sql).
+ */
+public interface BuildingSearchRepository {
+
+    /**
+     * Filtros combinados con AND; los vacíos se ignoran. Con text se ordena por
+     * relevancia, si no por el orden del Pageable.
+     */
+    Page<Building> search(String text, String name, String address, Pageable pageable);
+}
@@ -0,0 +1,142 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BuildingSearchRepositoryImpl implements BuildingSearchRepository {
+
+    private static final String SEARCH_MATCH = "MATCH(b.name, b.address, b.description) AGAINST (:text IN NATURAL LANGUAGE MODE)";
+    private static final String NAME_MATCH = "MATCH(b.name) AGAINST (:name IN BOOLEAN MODE)";
+    private static final String ADDRESS_MATCH = "MATCH(b.address) AGAINST (:address IN BOOLEAN MODE)";
+
+    // Términos más cortos que ngram_token_size (2 por defecto en MySQL) no generan tokens
+    // y MATCH no devuelve nada: para ellos se mantiene el LIKE de antes
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String SEARCH_LIKE = "(b.name LIKE :text ESCAPE '\\\\' OR b.address LIKE :text ESCAPE '\\\\' "
+            + "OR b.description LIKE :text ESCAPE '\\\\')";
+    private static final String NAME_LIKE = "b.name LIKE :name ESCAPE '\\\\'";
+    private static final String ADDRESS_LIKE = "b.address LIKE :address ESCAPE '\\\\'";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "b.id",
+            "name", "b.name",
+            "address", "b.address",
+            "totalUnits", "b.total_units",
+            "createdAt", "b.created_at",
+            "updatedAt", "b.updated_at");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<Building> search(String text, String name, String address, Pageable pageable) {
+        SearchSql sql = SearchSql.of(text, name, address, pageable.getSort());
+
+        Query query = entityManager.createNativeQuery(sql.select(), Building.class);
+        sql.parameters().forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Building> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query count = entityManager.createNativeQuery(sql.count());
+            sql.parameters().forEach(count::setParameter);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    /**
+     * SQL nativo de la búsqueda: un MATCH (o LIKE, con términos cortos) por filtro presente,
+     * unidos con AND.
+     */
+    record SearchSql(String where, String orderBy, Map<String, Object> parameters) {
+
+        static SearchSql of(String text, String name, String address, Sort sort) {
+            List<String> conditions = new ArrayList<>();
+            Map<String, Object> parameters = new LinkedHashMap<>();
+
+            String terms = terms(text);
+            boolean ranked = false;
+            if (terms != null) {
+                ranked = indexable(terms);
+                conditions.add(ranked ? SEARCH_MATCH : SEARCH_LIKE);
+                parameters.put("text", ranked ? terms : likePattern(terms));
+            }
+            addFilter(conditions, parameters, "name", terms(name), NAME_MATCH, NAME_LIKE);
+            addFilter(conditions, parameters, "address", terms(address), ADDRESS_MATCH, ADDRESS_LIKE);
+
+            String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+            String orderBy = ranked ? " ORDER BY " + SEARCH_MATCH + " DESC, b.id" : " ORDER BY " + sortColumns(sort);
+            return new SearchSql(where, orderBy, parameters);
+        }
+
+        private static void addFilter(List<String> conditions, Map<String, Object> parameters, String parameter,
+                                      String cleaned, String match, String like) {
+            if (cleaned == null) {
+                return;
+            }
+            boolean indexable = indexable(cleaned);
+            conditions.add(indexable ? match : like);
+            parameters.put(parameter, indexable ? "\"" + cleaned + "\"" : likePattern(cleaned));
+        }
+
+        String select() {
+            return "SELECT b.* FROM buildings b" + where + orderBy;
+        }
+
+        String count() {
+            return "SELECT COUNT(*) FROM buildings b" + where;
+        }
+
+        private static String sortColumns(Sort sort) {
+            List<String> columns = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                String column = SORT_COLUMNS.get(order.getProperty());
+                if (column == null) {
+                    throw new BusinessException("Sort field '" + order.getProperty() + "' is not supported");
+                }
+                columns.add(column + (order.isDescending() ? " DESC" : " ASC"));
+            }
+            columns.add("b.id");
+            return String.join(", ", columns);
+        }
+
+        // Sin operadores del modo booleano: el usuario no controla la sintaxis de MATCH
+        private static String terms(String value) {
+            if (!StringUtils.hasText(value)) {
+                return null;
+            }
+            String cleaned = value.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+            return cleaned.isEmpty() ? null : cleaned;
+        }
+
+        // Con ngram una frase entre comillas equivale a "contiene el texto", si alguna palabra da tokens
+        private static boolean indexable(String cleaned) {
+            for (String word : cleaned.split(" ")) {
+                if (word.length() >= NGRAM_TOKEN_SIZE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // La collation ya es case-insensitive; %, _ y \ se buscan literalmente
+        private static String likePattern(String cleaned) {
+            return "%" + cleaned.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Filtros del listado de edificios en modo cursor.
+ */
+public final class BuildingSpecifications {
+
+    private BuildingSpecifications() {
+    }
+
+    public static Specification<Building> nameContains(String name) {
+        String pattern = containsPattern(name);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
+    }
+
+    public static Specification<Building> addressContains(String address) {
+        String pattern = containsPattern(address);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("address")), pattern, '\\');
+    }
+
+    // %, _ y \ del texto se buscan literalmente, como en UnitSpecifications
+    private static String containsPattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,123 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingBasicInfoResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.CachedBuildingInfo;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de lectura de la información pública de edificios (endpoint sin autenticación).
+ * Los ids inexistentes también se cachean, con un TTL más corto, para que recorrer ids
+ * no llegue a la base. Las invalidaciones se aplican después del commit (BuildingServiceImpl).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildingInfoCache implements MetricsSource {
+
+    // Marca de id inexistente (negative caching)
+    private static final CachedBuildingInfo MISSING = new CachedBuildingInfo(null, null, -1);
+
+    private final BuildingRepository buildingRepository;
+
+    @Value("${app.buildings.public-info-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.buildings.public-info-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.buildings.public-info-cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    private BoundedCache<Long, CachedBuildingInfo> cache;
+
+    // Cada invalidación avanza la generación: una carga que empezó antes no se guarda
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder negativeHits = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    public CachedBuildingInfo get(Long id) {
+        CachedBuildingInfo cached = cache.get(id);
+        if (cached == null) {
+            cached = load(id);
+        }
+        if (cached == MISSING) {
+            negativeHits.increment();
+            throw new ResourceNotFoundException("Building not found with id: " + id);
+        }
+        return cached;
+    }
+
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+        log.debug("Invalidated public info cache for building {}", id);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "building-info-cache";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cache", cache.stats());
+        metrics.put("negativeHits", negativeHits.sum());
+        return metrics;
+    }
+
+    private CachedBuildingInfo load(Long id) {
+        long startGeneration = generation.get();
+        Optional<Building> building = buildingRepository.findById(id);
+        CachedBuildingInfo loaded = building.map(BuildingInfoCache::toCached).orElse(MISSING);
+
+        if (generation.get() == startGeneration) {
+            if (loaded == MISSING) {
+                cache.put(id, MISSING, System.currentTimeMillis() + negativeTtlSeconds * 1000);
+            } else {
+                cache.put(id, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    static CachedBuildingInfo toCached(Building building) {
+        BuildingBasicInfoResponse info = BuildingBasicInfoResponse.builder()
+                .id(building.getId())
+                .name(building.getName())
+                .address(building.getAddress())
+                .totalUnits(building.getTotalUnits())
+                .build();
+
+        // ETag fuerte: hash del contenido que se devuelve
+        String content = info.getId() + "\n" + info.getName() + "\n" + info.getAddress() + "\n" + info.getTotalUnits();
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        long lastModified = building.getUpdatedAt() != null
+                ? building.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return new CachedBuildingInfo(info, eTag, lastModified);
+    }
+}
@@ -1,6 +1,7 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.building.service;
 
 import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.*;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
 import org.springframework.data.domain.Page;
 
 public interface BuildingService {
@@ -9,8 +10,14 @@ public interface BuildingService {
 
     BuildingResponse getBuildingById(Long id);
 
+    CachedBuildingInfo getBuildingBasicInfo(Long id);
+
     Page<BuildingListResponse> getAllBuildings(BuildingSearchRequest searchRequest);
 
+    Page<BuildingListResponse> getBuildingsByAdmin(Long adminUserId, BuildingSearchRequest searchRequest);
+
+    PageResponse<BuildingListResponse> scrollBuildings(BuildingSearchRequest searchRequest);
+
     BuildingResponse updateBuilding(Long id, BuildingUpdateRequest request);
 
     void deleteBuilding(Long id);
@@ -2,22 +2,40 @@ package com.buildingmanagement.buildingmanagementbackend.modules.building.servic
 
 import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
 import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.common.utils.TransactionUtils;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.event.BuildingAdminChangedEvent;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.mapper.BuildingMapper;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingSpecifications;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserNameProjection;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,6 +44,13 @@ public class BuildingServiceImpl implements BuildingService {
     private final BuildingRepository buildingRepository;
     private final UserRepository userRepository;
     private final BuildingMapper buildingMapper;
+    private final BuildingInfoCache buildingInfoCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Campos ordenables en modo cursor: NOT NULL y con índice (idx_buildings_created, idx_buildings_name)
+    private static final KeysetPaginator<Building> BUILDING_KEYSET = new KeysetPaginator<Building>(Building::getId)
+            .field("createdAt", Building::getCreatedAt, LocalDateTime::parse)
+            .field("name", Building::getName, Function.identity());
 
     @Override
     @Transactional
@@ -38,47 +63,47 @@ public class BuildingServiceImpl implements BuildingService {
         }
 
         // Validar administrador si se proporciona
-        if (request.getAdminUserId() != null) {
-            User admin = userRepository.findById(request.getAdminUserId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Admin user not found with id: " + request.getAdminUserId()));
-
-            // Verificar que el usuario puede ser administrador
-            if (!admin.getRole().name().equals("ADMIN") && !admin.getRole().name().equals("BOARD_MEMBER")) {
-                throw new BusinessException("User must be ADMIN or BOARD_MEMBER to manage a building");
-            }
-        }
+        User admin = validateAdmin(request.getAdminUserId());
 
         // Crear y guardar el edificio
         Building building = buildingMapper.toEntity(request);
         Building savedBuilding = buildingRepository.save(building);
+        buildingRepository.insertEmptyUnitSummary(savedBuilding.getId());
 
         log.info("Building created successfully with id: {}", savedBuilding.getId());
 
-        // Convertir a response y agregar nombre del admin
-        BuildingResponse response = buildingMapper.toResponse(savedBuilding);
+        // El id pudo haberse consultado antes y estar cacheado como inexistente
+        Long savedId = savedBuilding.getId();
+        TransactionUtils.afterCommit(() -> buildingInfoCache.invalidate(savedId));
         if (savedBuilding.getAdminUserId() != null) {
-            userRepository.findById(savedBuilding.getAdminUserId())
-                    .ifPresent(admin -> response.setAdminName(admin.getName()));
+            eventPublisher.publishEvent(new BuildingAdminChangedEvent(savedId, null, savedBuilding.getAdminUserId()));
+        }
+
+        // Convertir a response con el nombre del admin ya validado
+        BuildingResponse response = buildingMapper.toResponse(savedBuilding);
+        if (admin != null) {
+            response.setAdminName(admin.getName());
         }
 
         return response;
     }
 
+    @Override
+    public CachedBuildingInfo getBuildingBasicInfo(Long id) {
+        return buildingInfoCache.get(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BuildingResponse getBuildingById(Long id) {
         log.debug("Getting building by id: {}", id);
 
-        Building building = buildingRepository.findById(id)
+        // Edificio y nombre del admin en una sola consulta
+        BuildingWithAdminName result = buildingRepository.findWithAdminNameById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Building not found with id: " + id));
 
-        BuildingResponse response = buildingMapper.toResponse(building);
-
-        // Agregar nombre del admin
-        if (building.getAdminUserId() != null) {
-            userRepository.findById(building.getAdminUserId())
-                    .ifPresent(admin -> response.setAdminName(admin.getName()));
-        }
+        BuildingResponse response = buildingMapper.toResponse(result.building());
+        response.setAdminName(result.adminName());
 
         return response;
     }
@@ -88,37 +113,58 @@ public class BuildingServiceImpl implements BuildingService {
     public Page<BuildingListResponse> getAllBuildings(BuildingSearchRequest searchRequest) {
         log.debug("Getting all buildings with search: {}", searchRequest);
 
-        // Configurar paginación y ordenamiento
-        Sort sort = Sort.by(
-                searchRequest.getSortDirection().equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
-                searchRequest.getSortBy()
-        );
-
-        Pageable pageable = PageRequest.of(
-                searchRequest.getPage(),
-                searchRequest.getSize(),
-                sort
-        );
-
+        Pageable pageable = toPageable(searchRequest);
         Page<Building> buildingsPage;
 
-        // Aplicar filtros de búsqueda
-        if (StringUtils.hasText(searchRequest.getName())) {
-            buildingsPage = buildingRepository.findByNameContainingIgnoreCase(searchRequest.getName(), pageable);
-        } else if (StringUtils.hasText(searchRequest.getAddress())) {
-            buildingsPage = buildingRepository.findByAddressContainingIgnoreCase(searchRequest.getAddress(), pageable);
+        // Aplicar filtros de búsqueda (FULLTEXT, combinados con AND; con q se ordena por relevancia)
+        if (StringUtils.hasText(searchRequest.getQ())
+                || StringUtils.hasText(searchRequest.getName())
+                || StringUtils.hasText(searchRequest.getAddress())) {
+            buildingsPage = buildingRepository.search(
+                    searchRequest.getQ(), searchRequest.getName(), searchRequest.getAddress(), pageable);
         } else {
             buildingsPage = buildingRepository.findAll(pageable);
         }
 
-        // Convertir a DTOs y agregar nombres de admin
-        return buildingsPage.map(building -> {
-            BuildingListResponse response = buildingMapper.toListResponse(building);
-            if (building.getAdminUserId() != null) {
-                userRepository.findById(building.getAdminUserId())
-                        .ifPresent(admin -> response.setAdminName(admin.getName()));
-            }
-            return response;
+        // Convertir a DTOs con los nombres de admin de toda la página en una sola consulta
+        Map<Long, String> adminNames = loadAdminNames(buildingsPage.getContent());
+        return buildingsPage.map(building -> toListResponse(building, adminNames));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BuildingListResponse> getBuildingsByAdmin(Long adminUserId, BuildingSearchRequest searchRequest) {
+        log.debug("Getting buildings managed by user {}", adminUserId);
+
+        // Usa idx_buildings_admin
+        Page<Building> buildingsPage = buildingRepository.findByAdminUserId(adminUserId, toPageable(searchRequest));
+
+        Map<Long, String> adminNames = loadAdminNames(buildingsPage.getContent());
+        return buildingsPage.map(building -> toListResponse(building, adminNames));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<BuildingListResponse> scrollBuildings(BuildingSearchRequest searchRequest) {
+        log.debug("Scrolling buildings with search: {}", searchRequest);
+
+        KeysetPaginator.Query<Building> page = BUILDING_KEYSET.query(searchRequest.getSortBy(),
+                searchRequest.getSortDirection(), searchRequest.getCursor(), searchRequest.getSize());
+
+        Specification<Building> spec = Specification.where(null);
+        if (StringUtils.hasText(searchRequest.getName())) {
+            spec = spec.and(BuildingSpecifications.nameContains(searchRequest.getName()));
+        }
+        if (StringUtils.hasText(searchRequest.getAddress())) {
+            spec = spec.and(BuildingSpecifications.addressContains(searchRequest.getAddress()));
+        }
+
+        List<Building> buildings = buildingRepository.findBy(page.after(spec),
+                query -> query.sortBy(page.sort()).limit(page.limit()).all());
+
+        return page.toResponse(buildings, rows -> {
+            Map<Long, String> adminNames = loadAdminNames(rows);
+            return rows.stream().map(building -> toListResponse(building, adminNames)).toList();
         });
     }
 
@@ -136,26 +182,23 @@ public class BuildingServiceImpl implements BuildingService {
         }
 
         // Validar administrador si se proporciona
-        if (request.getAdminUserId() != null) {
-            User admin = userRepository.findById(request.getAdminUserId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Admin user not found with id: " + request.getAdminUserId()));
-
-            if (!admin.getRole().name().equals("ADMIN") && !admin.getRole().name().equals("BOARD_MEMBER")) {
-                throw new BusinessException("User must be ADMIN or BOARD_MEMBER to manage a building");
-            }
-        }
+        User admin = validateAdmin(request.getAdminUserId());
 
         // Actualizar campos
+        Long previousAdminId = building.getAdminUserId();
         buildingMapper.updateEntityFromRequest(request, building);
         Building updatedBuilding = buildingRepository.save(building);
 
         log.info("Building updated successfully with id: {}", updatedBuilding.getId());
+        TransactionUtils.afterCommit(() -> buildingInfoCache.invalidate(id));
+        if (!Objects.equals(previousAdminId, updatedBuilding.getAdminUserId())) {
+            eventPublisher.publishEvent(new BuildingAdminChangedEvent(id, previousAdminId, updatedBuilding.getAdminUserId()));
+        }
 
-        // Convertir a response
+        // Convertir a response con el nombre del admin ya validado
         BuildingResponse response = buildingMapper.toResponse(updatedBuilding);
-        if (updatedBuilding.getAdminUserId() != null) {
-            userRepository.findById(updatedBuilding.getAdminUserId())
-                    .ifPresent(admin -> response.setAdminName(admin.getName()));
+        if (admin != null) {
+            response.setAdminName(admin.getName());
         }
 
         return response;
@@ -173,6 +216,8 @@ public class BuildingServiceImpl implements BuildingService {
         // TODO: Verificar que no tenga cuotas o pagos pendientes
 
         buildingRepository.delete(building);
+        TransactionUtils.afterCommit(() -> buildingInfoCache.invalidate(id));
+        eventPublisher.publishEvent(new BuildingAdminChangedEvent(id, building.getAdminUserId(), null));
         log.info("Building deleted successfully with id: {}", id);
     }
 
@@ -187,4 +232,61 @@ public class BuildingServiceImpl implements BuildingService {
     public boolean existsByNameAndIdNot(String name, Long id) {
         return buildingRepository.existsByNameAndIdNot(name, id);
     }
-}
\ No newline at end of file
+
+    // Devuelve el usuario validado (o null si no se indicó administrador) para reutilizar su nombre
+    private User validateAdmin(Long adminUserId) {
+        if (adminUserId == null) {
+            return null;
+        }
+
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Admin user not found with id: " + adminUserId));
+
+        // Verificar que el usuario puede ser administrador
+        if (!admin.getRole().name().equals("ADMIN") && !admin.getRole().name().equals("BOARD_MEMBER")) {
+            throw new BusinessException("User must be ADMIN or BOARD_MEMBER to manage a building");
+        }
+        return admin;
+    }
+
+    private static Pageable toPageable(BuildingSearchRequest searchRequest) {
+        // Configurar paginación y ordenamiento
+        Sort sort = Sort.by(
+                searchRequest.getSortDirection().equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
+                searchRequest.getSortBy()
+        );
+
+        return PageRequest.of(
+                searchRequest.getPage(),
+                searchRequest.getSize(),
+                sort
+        );
+    }
+
+    private BuildingListResponse toListResponse(Building building, Map<Long, String> adminNames) {
+        BuildingListResponse response = buildingMapper.toListResponse(building);
+        if (building.getAdminUserId() != null) {
+            response.setAdminName(adminNames.get(building.getAdminUserId()));
+        }
+        return response;
+    }
+
+    private Map<Long, String> loadAdminNames(List<Building> buildings) {
+        Set<Long> adminIds = new HashSet<>();
+        for (Building building : buildings) {
+            if (building.getAdminUserId() != null) {
+                adminIds.add(building.getAdminUserId());
+            }
+        }
+
+        if (adminIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (UserNameProjection user : userRepository.findNamesByIdIn(adminIds)) {
+            names.put(user.getId(), user.getName());
+        }
+        return names;
+    }
+}
@@ -1,4 +1,107 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.controller;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.BalanceRebuildResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRunResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.UnitBalanceResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.service.FeeService;
+import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/fees")
+@RequiredArgsConstructor
 public class FeeController {
+
+    private final FeeService feeService;
+
+    /**
+     * Generar las cuotas de un período para un edificio o para todos
+     * Se ejecuta en segundo plano: responde 202 con el id de la ejecución para consultar el progreso
+     * Sin buildingId solo los administradores pueden lanzarla
+     */
+    @PostMapping("/generate")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and #request.buildingId != null " +
+            "and @buildingScope.canManage(#request.buildingId))")
+    public ResponseEntity<ApiResponse<FeeGenerationRunResponse>> generateFees(
+            @Valid @RequestBody FeeGenerationRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Starting fee generation for {}/{} (building: {}) by user: {}",
+                request.getPeriodMonth(), request.getPeriodYear(), request.getBuildingId(), currentUser.getEmail());
+
+        FeeGenerationRunResponse response = feeService.startGeneration(request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Fee generation started"));
+    }
+
+    /**
+     * Consultar el progreso de una generación de cuotas
+     * Un miembro de la junta solo ve las ejecuciones de un edificio a su alcance
+     * (las de todos los edificios solo las lanza un administrador)
+     */
+    @GetMapping("/generation-runs/{runId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PostAuthorize("hasRole('ADMIN') or (returnObject.body.data.buildingId != null " +
+            "and @buildingScope.canAccess(returnObject.body.data.buildingId))")
+    public ResponseEntity<ApiResponse<FeeGenerationRunResponse>> getGenerationRun(@PathVariable String runId) {
+        return ResponseEntity.ok(ApiResponse.success(feeService.getGenerationRun(runId)));
+    }
+
+    /**
+     * Cancelar una cuota (se descuenta del saldo de la unidad)
+     * Solo administradores
+     */
+    @PatchMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<FeeResponse>> cancelFee(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Cancelling fee {} by admin: {}", id, currentUser.getEmail());
+
+        FeeResponse response = feeService.cancelFee(id);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Fee cancelled successfully"));
+    }
+
+    /**
+     * Saldo adeudado de una unidad, total y por tipo de cuota
+     * Propietarios e inquilinos solo ven el de sus propias unidades
+     */
+    @GetMapping("/units/{unitId}/balance")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canAccessUnit(#unitId)) " +
+            "or ((hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.isUnitOccupant(#unitId))")
+    public ResponseEntity<ApiResponse<UnitBalanceResponse>> getUnitBalance(@PathVariable Long unitId) {
+        return ResponseEntity.ok(ApiResponse.success(feeService.getUnitBalance(unitId)));
+    }
+
+    /**
+     * Recalcular los saldos desde cuotas y pagos (un edificio o todos)
+     * Herramienta de mantenimiento: solo administradores
+     */
+    @PostMapping("/balances/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BalanceRebuildResponse>> rebuildBalances(
+            @RequestParam(required = false) Long buildingId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Rebuilding unit balances (building: {}) by admin: {}", buildingId, currentUser.getEmail());
+
+        BalanceRebuildResponse response = feeService.rebuildBalances(buildingId);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Unit balances rebuilt"));
+    }
 }
@@ -1,4 +1,90 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.controller;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.service.FeeTypeService;
+import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/fee-types")
+@RequiredArgsConstructor
 public class FeeTypeController {
+
+    private final FeeTypeService feeTypeService;
+
+    /**
+     * Crear tipo de cuota en un edificio
+     * Solo administradores y board members del edificio
+     */
+    @PostMapping("/buildings/{buildingId}")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
+    public ResponseEntity<ApiResponse<FeeTypeResponse>> createFeeType(
+            @PathVariable Long buildingId,
+            @Valid @RequestBody FeeTypeCreateRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Creating fee type in building {} by user: {}", buildingId, currentUser.getEmail());
+
+        FeeTypeResponse response = feeTypeService.createFeeType(buildingId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Fee type created successfully"));
+    }
+
+    /**
+     * Obtener los tipos de cuota activos de un edificio
+     */
+    @GetMapping("/buildings/{buildingId}")
+    @PreAuthorize("hasRole('ADMIN') or @buildingScope.canAccess(#buildingId)")
+    public ResponseEntity<ApiResponse<List<FeeTypeResponse>>> getActiveFeeTypes(@PathVariable Long buildingId) {
+        return ResponseEntity.ok(ApiResponse.success(feeTypeService.getActiveFeeTypes(buildingId)));
+    }
+
+    /**
+     * Actualizar tipo de cuota
+     * Las cuotas pendientes toman el nuevo monto al regenerar el período
+     */
+    @PutMapping("/buildings/{buildingId}/{id}")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
+    public ResponseEntity<ApiResponse<FeeTypeResponse>> updateFeeType(
+            @PathVariable Long buildingId,
+            @PathVariable Long id,
+            @Valid @RequestBody FeeTypeCreateRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Updating fee type {} by user: {}", id, currentUser.getEmail());
+
+        FeeTypeResponse response = feeTypeService.updateFeeType(buildingId, id, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Fee type updated successfully"));
+    }
+
+    /**
+     * Desactivar tipo de cuota (deja de generarse en los próximos períodos)
+     */
+    @DeleteMapping("/buildings/{buildingId}/{id}")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
+    public ResponseEntity<ApiResponse<String>> deactivateFeeType(
+            @PathVariable Long buildingId,
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Deactivating fee type {} by user: {}", id, currentUser.getEmail());
+
+        feeTypeService.deactivateFeeType(buildingId, id);
+
+        return ResponseEntity.ok(ApiResponse.success("Fee type deactivated successfully"));
+    }
 }
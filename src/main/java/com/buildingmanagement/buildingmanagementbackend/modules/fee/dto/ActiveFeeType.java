@@ -0,0 +1,21 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tipo de cuota activo tal como se guarda en el catálogo cacheado (inmutable).
+ */
+public record ActiveFeeType(
+        Long id,
+        Long buildingId,
+        String name,
+        String description,
+        Money baseAmount,
+        FeeFrequency frequency,
+        boolean perArea,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
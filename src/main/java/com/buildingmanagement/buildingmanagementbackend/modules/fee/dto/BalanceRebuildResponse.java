@@ -0,0 +1,16 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BalanceRebuildResponse {
+
+    private int totalBuildings;
+    private int rebuiltBuildings;
+    private List<Long> failedBuildingIds;
+    private long durationMillis;
+}
@@ -1,4 +1,26 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
 public class FeeGenerationRequest {
+
+    private Long buildingId; // null = todos los edificios con tipos de cuota activos
+
+    @NotNull(message = "Period month is required")
+    @Min(value = 1, message = "Period month must be between 1 and 12")
+    @Max(value = 12, message = "Period month must be between 1 and 12")
+    private Integer periodMonth;
+
+    @NotNull(message = "Period year is required")
+    @Min(value = 2000, message = "Period year must be 2000 or later")
+    @Max(value = 2100, message = "Period year must be 2100 or earlier")
+    private Integer periodYear;
+
+    private LocalDate dueDate; // por defecto el día app.fees.generation.due-day del período
 }
@@ -0,0 +1,44 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class FeeGenerationRunResponse {
+
+    public enum Status { RUNNING, COMPLETED, COMPLETED_WITH_ERRORS }
+
+    private String runId;
+    private Status status;
+    private Long buildingId;
+    private int periodMonth;
+    private int periodYear;
+    private int totalBuildings;
+    private int completedBuildings;
+    private int failedBuildings;
+    private long feesProcessed; // filas enviadas al upsert (reejecutar no duplica cuotas)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<BuildingError> errors;
+    private List<SkippedUnits> skippedUnits; // unidades sin área a las que no se generó la cuota por área
+
+    @Data
+    @AllArgsConstructor
+    public static class BuildingError {
+        private Long buildingId;
+        private String message;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class SkippedUnits {
+        private Long buildingId;
+        private int count;
+        private List<Long> unitIds;
+    }
+}
@@ -1,4 +1,25 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.PaymentStatus;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
 public class FeeResponse {
+
+    private Long id;
+    private Long unitId;
+    private Long feeTypeId;
+    private Money amount;
+    private LocalDate dueDate;
+    private PaymentStatus status;
+    private Integer periodMonth;
+    private Integer periodYear;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
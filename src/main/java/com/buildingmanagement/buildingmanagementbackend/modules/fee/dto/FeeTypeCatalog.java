@@ -0,0 +1,41 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tipos de cuota activos de un edificio en una versión del catálogo (buildings.fee_type_version).
+ * Inmutable: se comparte entre hilos sin copiar. Búsqueda por id y por nombre en O(1).
+ */
+public record FeeTypeCatalog(
+        Long buildingId,
+        long version,
+        List<ActiveFeeType> feeTypes,
+        Map<Long, ActiveFeeType> byId,
+        Map<String, ActiveFeeType> byName) {
+
+    public static FeeTypeCatalog of(Long buildingId, long version, List<ActiveFeeType> feeTypes) {
+        Map<Long, ActiveFeeType> byId = new HashMap<>();
+        Map<String, ActiveFeeType> byName = new HashMap<>();
+        for (ActiveFeeType feeType : feeTypes) {
+            byId.put(feeType.id(), feeType);
+            byName.putIfAbsent(normalize(feeType.name()), feeType);
+        }
+        return new FeeTypeCatalog(buildingId, version, List.copyOf(feeTypes), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    public ActiveFeeType findById(Long id) {
+        return byId.get(id);
+    }
+
+    public ActiveFeeType findByName(String name) {
+        return name != null ? byName.get(normalize(name)) : null;
+    }
+
+    // Los nombres se comparan sin distinguir mayúsculas ni espacios extremos
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
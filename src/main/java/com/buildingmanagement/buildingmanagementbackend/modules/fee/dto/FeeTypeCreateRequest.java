@@ -1,4 +1,27 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
 public class FeeTypeCreateRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must not exceed 255 characters")
+    private String name;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+
+    @NotNull(message = "Base amount is required")
+    private Money baseAmount; // por m² si isPerArea
+
+    @NotNull(message = "Frequency is required")
+    private FeeFrequency frequency;
+
+    private Boolean isPerArea;
 }
@@ -1,4 +1,24 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
 public class FeeTypeResponse {
+
+    private Long id;
+    private Long buildingId;
+    private String name;
+    private String description;
+    private Money baseAmount;
+    private FeeFrequency frequency;
+    private Boolean isPerArea;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
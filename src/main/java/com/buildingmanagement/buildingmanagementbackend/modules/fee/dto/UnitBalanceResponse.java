@@ -0,0 +1,28 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UnitBalanceResponse {
+
+    private Long unitId;
+    private Money charged; // cuotas no canceladas
+    private Money paid;
+    private Money balance; // saldo adeudado
+    private List<FeeTypeBalance> feeTypes;
+
+    @Data
+    @AllArgsConstructor
+    public static class FeeTypeBalance {
+        private Long feeTypeId;
+        private Money charged;
+        private Money paid;
+        private Money balance;
+    }
+}
@@ -1,4 +1,50 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.entity;
 
-public class Fee {
+import com.buildingmanagement.buildingmanagementbackend.common.enums.PaymentStatus;
+import com.buildingmanagement.buildingmanagementbackend.shared.audit.Auditable;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "fees", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fees_unit_type_period",
+                columnNames = {"unit_id", "fee_type_id", "period_month", "period_year"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Fee extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "unit_id", nullable = false)
+    private Long unitId;
+
+    @Column(name = "fee_type_id", nullable = false)
+    private Long feeTypeId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private Money amount;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentStatus status;
+
+    @Column(name = "period_month", nullable = false)
+    private Integer periodMonth;
+
+    @Column(name = "period_year", nullable = false)
+    private Integer periodYear;
 }
@@ -1,4 +1,46 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.entity;
 
-public class FeeType {
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.shared.audit.Auditable;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "fee_types")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeType extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "building_id", nullable = false)
+    private Long buildingId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "base_amount", nullable = false, precision = 10, scale = 2)
+    private Money baseAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FeeFrequency frequency;
+
+    // El monto es base_amount × área de la unidad
+    @Column(name = "is_per_area")
+    private Boolean isPerArea;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
 }
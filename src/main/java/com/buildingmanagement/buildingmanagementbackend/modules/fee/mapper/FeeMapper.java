@@ -1,4 +1,28 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.Fee;
+import org.springframework.stereotype.Component;
+
+@Component
 public class FeeMapper {
+
+    public FeeResponse toResponse(Fee fee) {
+        if (fee == null) {
+            return null;
+        }
+
+        return FeeResponse.builder()
+                .id(fee.getId())
+                .unitId(fee.getUnitId())
+                .feeTypeId(fee.getFeeTypeId())
+                .amount(fee.getAmount())
+                .dueDate(fee.getDueDate())
+                .status(fee.getStatus())
+                .periodMonth(fee.getPeriodMonth())
+                .periodYear(fee.getPeriodYear())
+                .createdAt(fee.getCreatedAt())
+                .updatedAt(fee.getUpdatedAt())
+                .build();
+    }
 }
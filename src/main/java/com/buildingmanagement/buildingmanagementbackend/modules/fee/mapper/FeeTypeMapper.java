@@ -1,4 +1,82 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.ActiveFeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.FeeType;
+import org.springframework.stereotype.Component;
+
+@Component
 public class FeeTypeMapper {
+
+    public FeeType toEntity(FeeTypeCreateRequest request, Long buildingId) {
+        if (request == null) {
+            return null;
+        }
+
+        return FeeType.builder()
+                .buildingId(buildingId)
+                .name(request.getName().trim())
+                .description(request.getDescription())
+                .baseAmount(request.getBaseAmount())
+                .frequency(request.getFrequency())
+                .isPerArea(Boolean.TRUE.equals(request.getIsPerArea()))
+                .isActive(true)
+                .build();
+    }
+
+    public void updateEntity(FeeType feeType, FeeTypeCreateRequest request) {
+        feeType.setName(request.getName().trim());
+        feeType.setDescription(request.getDescription());
+        feeType.setBaseAmount(request.getBaseAmount());
+        feeType.setFrequency(request.getFrequency());
+        feeType.setIsPerArea(Boolean.TRUE.equals(request.getIsPerArea()));
+    }
+
+    public FeeTypeResponse toResponse(FeeType feeType) {
+        if (feeType == null) {
+            return null;
+        }
+
+        return FeeTypeResponse.builder()
+                .id(feeType.getId())
+                .buildingId(feeType.getBuildingId())
+                .name(feeType.getName())
+                .description(feeType.getDescription())
+                .baseAmount(feeType.getBaseAmount())
+                .frequency(feeType.getFrequency())
+                .isPerArea(feeType.getIsPerArea())
+                .isActive(feeType.getIsActive())
+                .createdAt(feeType.getCreatedAt())
+                .updatedAt(feeType.getUpdatedAt())
+                .build();
+    }
+
+    public FeeTypeResponse toResponse(ActiveFeeType feeType) {
+        return FeeTypeResponse.builder()
+                .id(feeType.id())
+                .buildingId(feeType.buildingId())
+                .name(feeType.name())
+                .description(feeType.description())
+                .baseAmount(feeType.baseAmount())
+                .frequency(feeType.frequency())
+                .isPerArea(feeType.perArea())
+                .isActive(true)
+                .createdAt(feeType.createdAt())
+                .updatedAt(feeType.updatedAt())
+                .build();
+    }
+
+    public ActiveFeeType toActive(FeeType feeType) {
+        return new ActiveFeeType(
+                feeType.getId(),
+                feeType.getBuildingId(),
+                feeType.getName(),
+                feeType.getDescription(),
+                feeType.getBaseAmount(),
+                feeType.getFrequency(),
+                Boolean.TRUE.equals(feeType.getIsPerArea()),
+                feeType.getCreatedAt(),
+                feeType.getUpdatedAt());
+    }
 }
@@ -1,4 +1,20 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.repository;
 
-public class FeeRepository {
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.Fee;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FeeRepository extends JpaRepository<Fee, Long> {
+
+    // Bloquea la cuota hasta el commit: el cambio de estado y el delta del saldo no se cruzan con un pago
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Fee f WHERE f.id = :id")
+    Optional<Fee> findByIdForUpdate(@Param("id") Long id);
 }
@@ -1,4 +1,26 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.repository;
 
-public class FeeTypeRepository {
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.FeeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FeeTypeRepository extends JpaRepository<FeeType, Long> {
+
+    List<FeeType> findByBuildingIdAndIsActiveTrue(Long buildingId);
+
+    // Nombre en uso por otro tipo activo del edificio (la collation ignora mayúsculas)
+    @Query("SELECT COUNT(ft) > 0 FROM FeeType ft WHERE ft.buildingId = :buildingId AND ft.isActive = true " +
+            "AND ft.name = :name AND (:excludeId IS NULL OR ft.id <> :excludeId)")
+    boolean existsActiveByName(@Param("buildingId") Long buildingId,
+                               @Param("name") String name,
+                               @Param("excludeId") Long excludeId);
+
+    // Edificios con al menos un tipo de cuota activo (los únicos que generan cuotas)
+    @Query("SELECT DISTINCT ft.buildingId FROM FeeType ft WHERE ft.isActive = true ORDER BY ft.buildingId")
+    List<Long> findBuildingIdsWithActiveFeeTypes();
 }
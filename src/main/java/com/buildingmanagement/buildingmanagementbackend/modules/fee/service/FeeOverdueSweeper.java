@@ -0,0 +1,196 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.shared.job.JobCheckpointRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pasa a OVERDUE las cuotas PENDING vencidas con UPDATEs por rangos de id, sin cargar
+ * cuotas en memoria. Cada rango es una transacción corta: bloquea la fila del job en
+ * job_checkpoints, actualiza las cuotas del rango y avanza la posición antes del commit.
+ * Un fallo revierte ambas cosas y el rango se reintenta; mientras un nodo tiene la fila,
+ * los demás omiten el ciclo en lugar de esperar. Al llegar al último id la posición
+ * vuelve a 0 y la siguiente ejecución inicia otra pasada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeeOverdueSweeper implements MetricsSource {
+
+    static final String JOB_NAME = "fees-overdue-sweep";
+
+    // Resultados de un rango que no son filas actualizadas
+    private static final int LOCKED = -1;
+    private static final int PASS_COMPLETED = -2;
+
+    private static final String SWEEP_SQL =
+            "UPDATE fees SET status = 'OVERDUE' " +
+            "WHERE id > ? AND id <= ? AND status = 'PENDING' AND due_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.fees.overdue-sweep.chunk-size:5000}")
+    private long chunkSize; // ids por rango (no filas actualizadas)
+
+    @Value("${app.fees.overdue-sweep.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+
+    @Value("${app.fees.overdue-sweep.pause-ms:20}")
+    private long pauseMillis;
+
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder rowsUpdated = new LongAdder();
+    private final LongAdder claimConflicts = new LongAdder();
+    private final LongAdder passesCompleted = new LongAdder();
+    private volatile long lastChunkRows;
+    private volatile long maxChunkRows;
+    private volatile long position;
+    private volatile LocalDateTime lastPassCompletedAt;
+    private volatile LocalDate oldestPendingDueDate;
+    private volatile long lagDays;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.fees.overdue-sweep.interval-ms:300000}",
+            initialDelayString = "${app.fees.overdue-sweep.interval-ms:300000}")
+    public void sweep() {
+        try {
+            LocalDate today = LocalDate.now();
+            int updated = sweep(today);
+            refreshLag(today);
+            if (updated > 0) {
+                log.info("Fee overdue sweep marked {} fees as OVERDUE", updated);
+            }
+        } catch (Exception ex) {
+            // El rango que falló no avanzó la posición: el siguiente ciclo lo reintenta
+            log.error("Error sweeping overdue fees: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Procesa rangos hasta completar la pasada o agotar {@code max-chunks-per-run}.
+     * Devuelve las cuotas marcadas como vencidas por este nodo.
+     */
+    int sweep(LocalDate today) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM fees", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+
+        checkpointRepository.getPosition(JOB_NAME); // crea la fila del job si falta
+        Date cutoff = Date.valueOf(today);
+        int updated = 0;
+        for (int i = 0; i < maxChunksPerRun && !Thread.currentThread().isInterrupted(); i++) {
+            Integer rows = transactionTemplate.execute(status -> sweepChunk(maxId, cutoff));
+            if (rows == null || rows == LOCKED) {
+                claimConflicts.increment(); // otro nodo está barriendo
+                break;
+            }
+            if (rows == PASS_COMPLETED) {
+                passesCompleted.increment();
+                lastPassCompletedAt = LocalDateTime.now();
+                break;
+            }
+
+            recordChunk(rows);
+            updated += rows;
+            pause();
+        }
+        return updated;
+    }
+
+    // Dentro de la transacción del rango: la posición avanza junto con el UPDATE de las cuotas
+    private int sweepChunk(long maxId, Date cutoff) {
+        Long from = checkpointRepository.lockPosition(JOB_NAME);
+        if (from == null) {
+            return LOCKED;
+        }
+        position = from;
+        if (from >= maxId) {
+            checkpointRepository.setPosition(JOB_NAME, 0);
+            return PASS_COMPLETED;
+        }
+
+        long to = Math.min(from + chunkSize, maxId);
+        int rows = jdbcTemplate.update(SWEEP_SQL, from, to, cutoff);
+        checkpointRepository.setPosition(JOB_NAME, to);
+        return rows;
+    }
+
+    private void recordChunk(int rows) {
+        chunks.increment();
+        rowsUpdated.add(rows);
+        lastChunkRows = rows;
+        if (rows > maxChunkRows) {
+            maxChunkRows = rows;
+        }
+    }
+
+    // Cuánto atraso queda: vencimiento de la cuota pendiente más antigua ya vencida
+    private void refreshLag(LocalDate today) {
+        Date oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(due_date) FROM fees WHERE status = 'PENDING'", Date.class);
+        oldestPendingDueDate = oldest != null ? oldest.toLocalDate() : null;
+        lagDays = oldestPendingDueDate != null && oldestPendingDueDate.isBefore(today)
+                ? ChronoUnit.DAYS.between(oldestPendingDueDate, today)
+                : 0;
+    }
+
+    // Pausa entre rangos para dejar respirar a la réplica y a otras transacciones
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "fee-overdue-sweep";
+    }
+
+    @Override
+    public Object getMetrics() {
+        long chunkCount = chunks.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("chunks", chunkCount);
+        metrics.put("rowsUpdated", rowsUpdated.sum());
+        metrics.put("avgRowsPerChunk", chunkCount == 0 ? 0 : rowsUpdated.sum() / chunkCount);
+        metrics.put("lastChunkRows", lastChunkRows);
+        metrics.put("maxChunkRows", maxChunkRows);
+        metrics.put("claimConflicts", claimConflicts.sum());
+        metrics.put("position", position);
+        metrics.put("passesCompleted", passesCompleted.sum());
+        metrics.put("lastPassCompletedAt", lastPassCompletedAt);
+        metrics.put("oldestPendingDueDate", oldestPendingDueDate);
+        metrics.put("lagDays", lagDays);
+        return metrics;
+    }
+}
@@ -1,4 +1,30 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.BalanceRebuildResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRunResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.UnitBalanceResponse;
+
 public interface FeeService {
+
+    /**
+     * Inicia la generación de cuotas del período en segundo plano y devuelve la ejecución.
+     * Reejecutar el mismo período no duplica cuotas.
+     */
+    FeeGenerationRunResponse startGeneration(FeeGenerationRequest request);
+
+    FeeGenerationRunResponse getGenerationRun(String runId);
+
+    FeeResponse cancelFee(Long id);
+
+    /**
+     * Saldo adeudado de la unidad (lectura de unit_balances, sin recorrer cuotas ni pagos).
+     */
+    UnitBalanceResponse getUnitBalance(Long unitId);
+
+    /**
+     * Recalcula los saldos desde fees y payments para un edificio, o para todos si es null.
+     */
+    BalanceRebuildResponse rebuildBalances(Long buildingId);
 }
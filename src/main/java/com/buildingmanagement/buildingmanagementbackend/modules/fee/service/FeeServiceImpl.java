@@ -1,4 +1,478 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
 
-public class FeeServiceImpl {
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.common.enums.PaymentStatus;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.ActiveFeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.BalanceRebuildResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeGenerationRunResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.UnitBalanceResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.Fee;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Motor de generación de cuotas: tipos de cuota activos × unidades activas por edificio.
+ * Cada edificio se procesa en su propia transacción dentro de un pool acotado y escribe
+ * con batches JDBC de INSERT ... ON DUPLICATE KEY UPDATE sobre uk_fees_unit_type_period,
+ * de modo que reejecutar un período solo corrige las cuotas que siguen pendientes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeeServiceImpl implements FeeService, MetricsSource {
+
+    private static final String ACTIVE_UNITS_SQL =
+            "SELECT id, ROUND(area * 100) AS area_hundredths FROM units WHERE building_id = ? AND is_active = TRUE";
+
+    // Las cuotas ya pagadas, vencidas o canceladas conservan su monto y vencimiento.
+    // Alias de fila (MySQL 8.0.19+) en lugar de VALUES(), obsoleto en ON DUPLICATE KEY UPDATE
+    private static final String UPSERT_FEE_SQL =
+            "INSERT INTO fees (unit_id, fee_type_id, amount, due_date, status, period_month, period_year) " +
+            "VALUES (?, ?, ?, ?, 'PENDING', ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "amount = IF(fees.status = 'PENDING', new.amount, fees.amount), " +
+            "due_date = IF(fees.status = 'PENDING', new.due_date, fees.due_date)";
+
+    private static final int[] UPSERT_TYPES = {Types.BIGINT, Types.BIGINT, Types.DECIMAL, Types.DATE,
+            Types.INTEGER, Types.INTEGER};
+
+    private final FeeTypeRepository feeTypeRepository;
+    private final FeeTypeService feeTypeService;
+    private final FeeRepository feeRepository;
+    private final UnitRepository unitRepository;
+    private final UnitBalanceLedger balanceLedger;
+    private final UnitBalanceRebuilder balanceRebuilder;
+    private final FeeMapper feeMapper;
+    private final BuildingRepository buildingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.fees.generation.threads:4}")
+    private int threads;
+
+    @Value("${app.fees.generation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.fees.generation.due-day:10}")
+    private int dueDay;
+
+    @Value("${app.fees.generation.run-retention-hours:24}")
+    private long runRetentionHours;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate transactionTemplate;
+    private BoundedCache<String, GenerationRun> runs;
+
+    // edificio + período en curso, para no procesar el mismo edificio dos veces en paralelo
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new GenerationThreadFactory());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        runs = new BoundedCache<>(1000, TimeUnit.HOURS.toMillis(runRetentionHours));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public FeeGenerationRunResponse startGeneration(FeeGenerationRequest request) {
+        List<Long> buildingIds;
+        if (request.getBuildingId() != null) {
+            if (!buildingRepository.existsById(request.getBuildingId())) {
+                throw new ResourceNotFoundException("Building not found with id: " + request.getBuildingId());
+            }
+            buildingIds = List.of(request.getBuildingId());
+        } else {
+            buildingIds = feeTypeRepository.findBuildingIdsWithActiveFeeTypes();
+        }
+
+        int month = request.getPeriodMonth();
+        int year = request.getPeriodYear();
+        LocalDate dueDate = request.getDueDate() != null ? request.getDueDate() : defaultDueDate(month, year);
+        if (dueDate.isBefore(LocalDate.of(year, month, 1))) {
+            throw new BusinessException("Due date must not be before the start of the period");
+        }
+
+        GenerationRun run = new GenerationRun(UUID.randomUUID().toString(), request.getBuildingId(),
+                month, year, buildingIds.size());
+        runs.put(run.runId, run);
+        log.info("Fee generation run {} started for {}/{}: {} buildings", run.runId, month, year, buildingIds.size());
+
+        if (buildingIds.isEmpty()) {
+            run.finish();
+        }
+        for (Long buildingId : buildingIds) {
+            try {
+                executor.execute(() -> runBuilding(run, buildingId, dueDate));
+            } catch (RejectedExecutionException ex) {
+                run.buildingFailed(buildingId, "Fee generation is shutting down");
+            }
+        }
+        return run.toResponse();
+    }
+
+    @Override
+    public FeeGenerationRunResponse getGenerationRun(String runId) {
+        GenerationRun run = runs.get(runId);
+        if (run == null) {
+            throw new ResourceNotFoundException("Fee generation run not found with id: " + runId);
+        }
+        return run.toResponse();
+    }
+
+    /**
+     * Cancela una cuota y descuenta su monto del saldo de la unidad en la misma transacción.
+     */
+    @Override
+    @Transactional
+    public FeeResponse cancelFee(Long id) {
+        log.info("Cancelling fee with id: {}", id);
+
+        Fee fee = feeRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Fee not found with id: " + id));
+        if (fee.getStatus() == PaymentStatus.CANCELLED) {
+            throw new BusinessException("Fee is already cancelled");
+        }
+        if (fee.getStatus() == PaymentStatus.PAID || fee.getStatus() == PaymentStatus.PARTIAL) {
+            throw new BusinessException("Fees with payments cannot be cancelled");
+        }
+
+        Long buildingId = unitRepository.findBuildingIdById(fee.getUnitId())
+                .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + fee.getUnitId()));
+        fee.setStatus(PaymentStatus.CANCELLED);
+        Fee cancelledFee = feeRepository.saveAndFlush(fee);
+        balanceLedger.apply(buildingId, List.of(UnitBalanceLedger.Delta.charge(
+                fee.getUnitId(), fee.getFeeTypeId(), -fee.getAmount().cents())));
+
+        log.info("Fee cancelled successfully with id: {}", id);
+        return feeMapper.toResponse(cancelledFee);
+    }
+
+    @Override
+    public UnitBalanceResponse getUnitBalance(Long unitId) {
+        if (!unitRepository.existsById(unitId)) {
+            throw new ResourceNotFoundException("Unit not found with id: " + unitId);
+        }
+        return balanceLedger.getBalance(unitId);
+    }
+
+    @Override
+    public BalanceRebuildResponse rebuildBalances(Long buildingId) {
+        if (buildingId != null && !buildingRepository.existsById(buildingId)) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
+        }
+        return balanceRebuilder.rebuild(buildingId);
+    }
+
+    private void runBuilding(GenerationRun run, Long buildingId, LocalDate dueDate) {
+        String key = buildingId + ":" + run.periodYear + "-" + run.periodMonth;
+        if (!inProgress.add(key)) {
+            run.buildingFailed(buildingId, "Fees for this building and period are already being generated");
+            return;
+        }
+        try {
+            // Una transacción por edificio: un fallo no revierte los edificios ya procesados.
+            // El progreso del run solo suma las cuotas de edificios confirmados
+            BuildingGeneration result = transactionTemplate.execute(status ->
+                    generateForBuilding(buildingId, run.periodMonth, run.periodYear, dueDate));
+            if (result != null) {
+                run.feesProcessed.addAndGet(result.written());
+                run.unitsSkipped(buildingId, result.skippedUnitIds());
+            }
+            run.buildingCompleted();
+        } catch (Exception ex) {
+            log.error("Fee generation run {} failed for building {}", run.runId, buildingId, ex);
+            run.buildingFailed(buildingId, ex.getMessage());
+        } finally {
+            inProgress.remove(key);
+        }
+    }
+
+    /**
+     * Escribe las cuotas de un edificio para el período. Devuelve las filas enviadas y las
+     * unidades sin área registrada a las que no se les generó alguna cuota por área.
+     */
+    BuildingGeneration generateForBuilding(Long buildingId, int month, int year, LocalDate dueDate) {
+        List<ActiveFeeType> feeTypes = feeTypeService.getCatalog(buildingId).feeTypes().stream()
+                .filter(feeType -> appliesTo(feeType, month, year))
+                .toList();
+        if (feeTypes.isEmpty()) {
+            return new BuildingGeneration(0, List.of());
+        }
+
+        // Área en centésimas de m² (-1 = sin área registrada)
+        List<long[]> units = jdbcTemplate.query(ACTIVE_UNITS_SQL, (rs, rowNum) -> {
+            long area = rs.getLong("area_hundredths");
+            return new long[]{rs.getLong("id"), rs.wasNull() ? -1 : area};
+        }, buildingId);
+
+        Date due = Date.valueOf(dueDate);
+        List<UnitBalanceLedger.Delta> batch = new ArrayList<>(batchSize);
+        long written = 0;
+        List<Long> skippedUnitIds = new ArrayList<>();
+        for (long[] unit : units) {
+            boolean skipped = false;
+            for (ActiveFeeType feeType : feeTypes) {
+                Money amount = amount(feeType, unit[1]);
+                if (amount == null) {
+                    skipped = true; // cuota por área en una unidad sin área registrada
+                    continue;
+                }
+                batch.add(UnitBalanceLedger.Delta.charge(unit[0], feeType.id(), amount.cents()));
+                if (batch.size() >= batchSize) {
+                    written += flush(buildingId, batch, due, month, year);
+                }
+            }
+            if (skipped) {
+                skippedUnitIds.add(unit[0]);
+            }
+        }
+        written += flush(buildingId, batch, due, month, year);
+        if (!skippedUnitIds.isEmpty()) {
+            log.warn("Per-area fees for {}/{} skipped on {} units of building {} without area: {}",
+                    month, year, skippedUnitIds.size(), buildingId, skippedUnitIds);
+        }
+        return new BuildingGeneration(written, skippedUnitIds);
+    }
+
+    record BuildingGeneration(long written, List<Long> skippedUnitIds) {
+    }
+
+    private int flush(Long buildingId, List<UnitBalanceLedger.Delta> batch, Date due, int month, int year) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Cuotas ya existentes del batch, bloqueadas hasta el commit: el saldo suma solo la diferencia
+        Map<FeeKey, long[]> existing = lockExisting(batch, month, year);
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        List<UnitBalanceLedger.Delta> deltas = new ArrayList<>(batch.size());
+        for (UnitBalanceLedger.Delta fee : batch) {
+            rows.add(new Object[]{fee.unitId(), fee.feeTypeId(), Money.ofCents(fee.chargedCents()).toBigDecimal(),
+                    due, month, year});
+            long[] current = existing.get(new FeeKey(fee.unitId(), fee.feeTypeId()));
+            if (current == null) {
+                deltas.add(fee);
+            } else if (current[1] == 1) {
+                deltas.add(UnitBalanceLedger.Delta.charge(fee.unitId(), fee.feeTypeId(),
+                        fee.chargedCents() - current[0]));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_FEE_SQL, rows, UPSERT_TYPES);
+        balanceLedger.apply(buildingId, deltas);
+
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    // (unit, tipo) -> {monto en centavos, 1 si sigue PENDING}
+    private Map<FeeKey, long[]> lockExisting(List<UnitBalanceLedger.Delta> batch, int month, int year) {
+        Set<Long> unitIds = new LinkedHashSet<>();
+        batch.forEach(fee -> unitIds.add(fee.unitId()));
+        List<Object> args = new ArrayList<>(unitIds);
+        args.add(month);
+        args.add(year);
+
+        Map<FeeKey, long[]> existing = new HashMap<>();
+        jdbcTemplate.query("SELECT unit_id, fee_type_id, amount, status FROM fees WHERE unit_id IN (" +
+                        String.join(",", Collections.nCopies(unitIds.size(), "?")) +
+                        ") AND period_month = ? AND period_year = ? FOR UPDATE",
+                (RowCallbackHandler) rs -> existing.put(
+                        new FeeKey(rs.getLong("unit_id"), rs.getLong("fee_type_id")),
+                        new long[]{Money.of(rs.getBigDecimal("amount")).cents(),
+                                PaymentStatus.PENDING.name().equals(rs.getString("status")) ? 1 : 0}),
+                args.toArray());
+        return existing;
+    }
+
+    private record FeeKey(long unitId, long feeTypeId) {
+    }
+
+    static boolean appliesTo(ActiveFeeType feeType, int month, int year) {
+        FeeFrequency frequency = feeType.frequency() != null ? feeType.frequency() : FeeFrequency.MONTHLY;
+        return switch (frequency) {
+            case MONTHLY -> true;
+            case QUARTERLY -> (month - 1) % 3 == 0;
+            case ANNUAL -> month == 1;
+            // Una sola vez: en el período en que se creó el tipo de cuota
+            case ONE_TIME -> feeType.createdAt() != null
+                    && feeType.createdAt().getMonthValue() == month
+                    && feeType.createdAt().getYear() == year;
+        };
+    }
+
+    // Por área: tarifa × área redondeada HALF_UP al centavo (areaHundredths < 0 = sin área)
+    static Money amount(ActiveFeeType feeType, long areaHundredths) {
+        if (!feeType.perArea()) {
+            return feeType.baseAmount();
+        }
+        if (areaHundredths < 0) {
+            return null;
+        }
+        return feeType.baseAmount().timesArea(areaHundredths);
+    }
+
+    private LocalDate defaultDueDate(int month, int year) {
+        LocalDate first = LocalDate.of(year, month, 1);
+        return first.withDayOfMonth(Math.min(Math.max(dueDay, 1), first.lengthOfMonth()));
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "fee-generation";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("threads", executor.getMaximumPoolSize());
+        metrics.put("active", executor.getActiveCount());
+        metrics.put("queuedBuildings", executor.getQueue().size());
+        metrics.put("completedBuildings", executor.getCompletedTaskCount());
+        metrics.put("runs", runs.size());
+        return metrics;
+    }
+
+    private static final class GenerationRun {
+        private final String runId;
+        private final Long buildingId;
+        private final int periodMonth;
+        private final int periodYear;
+        private final int totalBuildings;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger completedBuildings = new AtomicInteger();
+        private final AtomicInteger failedBuildings = new AtomicInteger();
+        private final AtomicLong feesProcessed = new AtomicLong();
+        private final ConcurrentLinkedQueue<FeeGenerationRunResponse.BuildingError> errors = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<FeeGenerationRunResponse.SkippedUnits> skippedUnits = new ConcurrentLinkedQueue<>();
+        private volatile LocalDateTime finishedAt;
+
+        private GenerationRun(String runId, Long buildingId, int periodMonth, int periodYear, int totalBuildings) {
+            this.runId = runId;
+            this.buildingId = buildingId;
+            this.periodMonth = periodMonth;
+            this.periodYear = periodYear;
+            this.totalBuildings = totalBuildings;
+        }
+
+        private void buildingCompleted() {
+            completedBuildings.incrementAndGet();
+            finishIfDone();
+        }
+
+        private void unitsSkipped(Long skippedBuildingId, List<Long> unitIds) {
+            if (!unitIds.isEmpty()) {
+                skippedUnits.add(new FeeGenerationRunResponse.SkippedUnits(skippedBuildingId, unitIds.size(), unitIds));
+            }
+        }
+
+        private void buildingFailed(Long failedBuildingId, String message) {
+            errors.add(new FeeGenerationRunResponse.BuildingError(failedBuildingId, message));
+            failedBuildings.incrementAndGet();
+            finishIfDone();
+        }
+
+        private void finishIfDone() {
+            if (completedBuildings.get() + failedBuildings.get() == totalBuildings) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            finishedAt = LocalDateTime.now();
+            log.info("Fee generation run {} finished: {} buildings completed, {} failed, {} fees processed",
+                    runId, completedBuildings.get(), failedBuildings.get(), feesProcessed.get());
+        }
+
+        private FeeGenerationRunResponse toResponse() {
+            FeeGenerationRunResponse.Status status;
+            if (finishedAt == null) {
+                status = FeeGenerationRunResponse.Status.RUNNING;
+            } else if (failedBuildings.get() > 0) {
+                status = FeeGenerationRunResponse.Status.COMPLETED_WITH_ERRORS;
+            } else {
+                status = FeeGenerationRunResponse.Status.COMPLETED;
+            }
+            return FeeGenerationRunResponse.builder()
+                    .runId(runId)
+                    .status(status)
+                    .buildingId(buildingId)
+                    .periodMonth(periodMonth)
+                    .periodYear(periodYear)
+                    .totalBuildings(totalBuildings)
+                    .completedBuildings(completedBuildings.get())
+                    .failedBuildings(failedBuildings.get())
+                    .feesProcessed(feesProcessed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errors(List.copyOf(errors))
+                    .skippedUnits(List.copyOf(skippedUnits))
+                    .build();
+        }
+    }
+
+    private static final class GenerationThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fee-generation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
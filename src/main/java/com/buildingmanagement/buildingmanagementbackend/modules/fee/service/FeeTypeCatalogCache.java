@@ -0,0 +1,108 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.ActiveFeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeTypeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Catálogo de tipos de cuota activos por edificio. Dentro de la ventana
+ * {@code version-check-ms} se sirve sin ir a la base; pasada la ventana se lee solo
+ * buildings.fee_type_version (lectura por PK) y el catálogo se recarga únicamente si
+ * otro nodo cambió la versión. Las escrituras de este nodo lo invalidan tras el commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeeTypeCatalogCache implements MetricsSource {
+
+    private final BuildingRepository buildingRepository;
+    private final FeeTypeRepository feeTypeRepository;
+    private final FeeTypeMapper feeTypeMapper;
+
+    @Value("${app.fees.fee-type-catalog.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.fees.fee-type-catalog.version-check-ms:5000}")
+    private long versionCheckMillis;
+
+    private BoundedCache<Long, Entry> cache;
+
+    private final LongAdder versionChecks = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        // Las entradas no caducan por TTL: la versión decide si siguen vigentes
+        cache = new BoundedCache<>(maxSize, Long.MAX_VALUE / 2);
+    }
+
+    public FeeTypeCatalog get(Long buildingId) {
+        Entry entry = cache.get(buildingId);
+        long now = System.currentTimeMillis();
+        if (entry != null && now - entry.checkedAt < versionCheckMillis) {
+            return entry.catalog;
+        }
+
+        versionChecks.increment();
+        long version = buildingRepository.findFeeTypeVersion(buildingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Building not found with id: " + buildingId));
+        if (entry != null && entry.catalog.version() == version) {
+            entry.checkedAt = now;
+            return entry.catalog;
+        }
+
+        // La versión se lee antes que los tipos: si cambian entre ambas lecturas,
+        // el catálogo queda con la versión vieja y se recarga en la siguiente verificación
+        reloads.increment();
+        List<ActiveFeeType> feeTypes = feeTypeRepository.findByBuildingIdAndIsActiveTrue(buildingId).stream()
+                .map(feeTypeMapper::toActive)
+                .toList();
+        FeeTypeCatalog catalog = FeeTypeCatalog.of(buildingId, version, feeTypes);
+        cache.put(buildingId, new Entry(catalog, now));
+        log.debug("Loaded fee type catalog for building {} (version {}, {} types)", buildingId, version, feeTypes.size());
+        return catalog;
+    }
+
+    public void invalidate(Long buildingId) {
+        cache.invalidate(buildingId);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "fee-type-catalog";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cache", cache.stats());
+        metrics.put("versionChecks", versionChecks.sum());
+        metrics.put("reloads", reloads.sum());
+        return metrics;
+    }
+
+    private static final class Entry {
+        private final FeeTypeCatalog catalog;
+        private volatile long checkedAt;
+
+        private Entry(FeeTypeCatalog catalog, long checkedAt) {
+            this.catalog = catalog;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -1,4 +1,23 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeResponse;
+
+import java.util.List;
+
 public interface FeeTypeService {
+
+    FeeTypeResponse createFeeType(Long buildingId, FeeTypeCreateRequest request);
+
+    FeeTypeResponse updateFeeType(Long buildingId, Long id, FeeTypeCreateRequest request);
+
+    void deactivateFeeType(Long buildingId, Long id);
+
+    List<FeeTypeResponse> getActiveFeeTypes(Long buildingId);
+
+    /**
+     * Catálogo inmutable de tipos de cuota activos del edificio (cacheado por versión).
+     */
+    FeeTypeCatalog getCatalog(Long buildingId);
 }
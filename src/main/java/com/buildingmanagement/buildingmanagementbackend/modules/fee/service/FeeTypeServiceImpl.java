@@ -1,4 +1,113 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
 
-public class FeeTypeServiceImpl {
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.common.utils.TransactionUtils;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.FeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeTypeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeeTypeServiceImpl implements FeeTypeService {
+
+    private final FeeTypeRepository feeTypeRepository;
+    private final BuildingRepository buildingRepository;
+    private final FeeTypeMapper feeTypeMapper;
+    private final FeeTypeCatalogCache catalogCache;
+
+    @Override
+    @Transactional
+    public FeeTypeResponse createFeeType(Long buildingId, FeeTypeCreateRequest request) {
+        log.info("Creating fee type '{}' in building: {}", request.getName(), buildingId);
+
+        bumpVersion(buildingId);
+        validate(buildingId, null, request);
+
+        FeeType savedFeeType = feeTypeRepository.save(feeTypeMapper.toEntity(request, buildingId));
+
+        log.info("Fee type created successfully with id: {}", savedFeeType.getId());
+        return feeTypeMapper.toResponse(savedFeeType);
+    }
+
+    @Override
+    @Transactional
+    public FeeTypeResponse updateFeeType(Long buildingId, Long id, FeeTypeCreateRequest request) {
+        log.info("Updating fee type {} in building: {}", id, buildingId);
+
+        bumpVersion(buildingId);
+        FeeType feeType = findActive(buildingId, id);
+        validate(buildingId, id, request);
+
+        feeTypeMapper.updateEntity(feeType, request);
+        FeeType updatedFeeType = feeTypeRepository.save(feeType);
+
+        log.info("Fee type updated successfully with id: {}", id);
+        return feeTypeMapper.toResponse(updatedFeeType);
+    }
+
+    /**
+     * Baja lógica: las cuotas ya generadas conservan su referencia al tipo.
+     */
+    @Override
+    @Transactional
+    public void deactivateFeeType(Long buildingId, Long id) {
+        log.info("Deactivating fee type {} in building: {}", id, buildingId);
+
+        bumpVersion(buildingId);
+        FeeType feeType = findActive(buildingId, id);
+        feeType.setIsActive(false);
+        feeTypeRepository.save(feeType);
+
+        log.info("Fee type deactivated successfully with id: {}", id);
+    }
+
+    @Override
+    public List<FeeTypeResponse> getActiveFeeTypes(Long buildingId) {
+        return getCatalog(buildingId).feeTypes().stream()
+                .map(feeTypeMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public FeeTypeCatalog getCatalog(Long buildingId) {
+        return catalogCache.get(buildingId);
+    }
+
+    // Avanza la versión del catálogo y bloquea la fila del edificio hasta el commit:
+    // las escrituras de tipos de un mismo edificio quedan serializadas
+    private void bumpVersion(Long buildingId) {
+        if (buildingRepository.incrementFeeTypeVersion(buildingId) == 0) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
+        }
+        TransactionUtils.afterCommit(() -> catalogCache.invalidate(buildingId));
+    }
+
+    private FeeType findActive(Long buildingId, Long id) {
+        return feeTypeRepository.findById(id)
+                .filter(feeType -> feeType.getBuildingId().equals(buildingId))
+                .filter(feeType -> Boolean.TRUE.equals(feeType.getIsActive()))
+                .orElseThrow(() -> new ResourceNotFoundException("Fee type not found with id: " + id));
+    }
+
+    private void validate(Long buildingId, Long id, FeeTypeCreateRequest request) {
+        if (request.getBaseAmount().cents() <= 0) {
+            throw new BusinessException("Base amount must be greater than 0");
+        }
+        // Los nombres activos son únicos por edificio (búsqueda por nombre del catálogo)
+        if (feeTypeRepository.existsActiveByName(buildingId, request.getName().trim(), id)) {
+            throw new BusinessException("A fee type named '" + request.getName().trim() + "' already exists in this building");
+        }
+    }
 }
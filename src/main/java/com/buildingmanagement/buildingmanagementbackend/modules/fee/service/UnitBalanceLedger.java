@@ -0,0 +1,125 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.UnitBalanceResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saldos por unidad (unit_balances) y por unidad y tipo de cuota (unit_fee_type_balances).
+ * Las escrituras suman deltas en la base (upsert relativo, sin leer la fila) y exigen una
+ * transacción en curso: se confirman o revierten junto con la cuota o el pago que las origina.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnitBalanceLedger {
+
+    // Alias de fila (MySQL 8.0.19+) en lugar de VALUES(), obsoleto en ON DUPLICATE KEY UPDATE
+    private static final String FEE_TYPE_DELTA_SQL =
+            "INSERT INTO unit_fee_type_balances (unit_id, fee_type_id, charged, paid) VALUES (?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE charged = unit_fee_type_balances.charged + new.charged, " +
+            "paid = unit_fee_type_balances.paid + new.paid";
+
+    private static final String UNIT_DELTA_SQL =
+            "INSERT INTO unit_balances (unit_id, building_id, charged, paid) VALUES (?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE charged = unit_balances.charged + new.charged, " +
+            "paid = unit_balances.paid + new.paid";
+
+    private static final int[] FEE_TYPE_DELTA_TYPES = {Types.BIGINT, Types.BIGINT, Types.DECIMAL, Types.DECIMAL};
+    private static final int[] UNIT_DELTA_TYPES = {Types.BIGINT, Types.BIGINT, Types.DECIMAL, Types.DECIMAL};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cambio en lo cobrado o pagado de una unidad para un tipo de cuota, en centavos.
+     */
+    public record Delta(long unitId, long feeTypeId, long chargedCents, long paidCents) {
+
+        public static Delta charge(long unitId, long feeTypeId, long cents) {
+            return new Delta(unitId, feeTypeId, cents, 0);
+        }
+
+        public static Delta payment(long unitId, long feeTypeId, long cents) {
+            return new Delta(unitId, feeTypeId, 0, cents);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long buildingId, Collection<Delta> deltas) {
+        List<Object[]> feeTypeRows = new ArrayList<>(deltas.size());
+        // Agrupado por unidad: una fila de unit_balances por unidad y batch
+        Map<Long, long[]> unitTotals = new LinkedHashMap<>();
+        for (Delta delta : deltas) {
+            if (delta.chargedCents() == 0 && delta.paidCents() == 0) {
+                continue;
+            }
+            feeTypeRows.add(new Object[]{delta.unitId(), delta.feeTypeId(),
+                    decimal(delta.chargedCents()), decimal(delta.paidCents())});
+            long[] totals = unitTotals.computeIfAbsent(delta.unitId(), id -> new long[2]);
+            totals[0] = Math.addExact(totals[0], delta.chargedCents());
+            totals[1] = Math.addExact(totals[1], delta.paidCents());
+        }
+        if (feeTypeRows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> unitRows = new ArrayList<>(unitTotals.size());
+        unitTotals.forEach((unitId, totals) ->
+                unitRows.add(new Object[]{unitId, buildingId, decimal(totals[0]), decimal(totals[1])}));
+
+        // Siempre en el mismo orden (tipo y luego unidad) para no cruzar bloqueos entre transacciones
+        jdbcTemplate.batchUpdate(FEE_TYPE_DELTA_SQL, feeTypeRows, FEE_TYPE_DELTA_TYPES);
+        jdbcTemplate.batchUpdate(UNIT_DELTA_SQL, unitRows, UNIT_DELTA_TYPES);
+    }
+
+    /**
+     * Saldo de la unidad: una lectura por PK más el detalle por tipo de cuota (mismo prefijo de PK).
+     * Una unidad sin cuotas generadas devuelve saldo cero.
+     */
+    public UnitBalanceResponse getBalance(Long unitId) {
+        List<UnitBalanceResponse.FeeTypeBalance> feeTypes = jdbcTemplate.query(
+                "SELECT fee_type_id, charged, paid, balance FROM unit_fee_type_balances WHERE unit_id = ?",
+                (rs, rowNum) -> new UnitBalanceResponse.FeeTypeBalance(
+                        rs.getLong("fee_type_id"),
+                        Money.of(rs.getBigDecimal("charged")),
+                        Money.of(rs.getBigDecimal("paid")),
+                        Money.of(rs.getBigDecimal("balance"))),
+                unitId);
+
+        List<UnitBalanceResponse> balances = jdbcTemplate.query(
+                "SELECT charged, paid, balance FROM unit_balances WHERE unit_id = ?",
+                (rs, rowNum) -> UnitBalanceResponse.builder()
+                        .unitId(unitId)
+                        .charged(Money.of(rs.getBigDecimal("charged")))
+                        .paid(Money.of(rs.getBigDecimal("paid")))
+                        .balance(Money.of(rs.getBigDecimal("balance")))
+                        .feeTypes(feeTypes)
+                        .build(),
+                unitId);
+
+        if (!balances.isEmpty()) {
+            return balances.get(0);
+        }
+        return UnitBalanceResponse.builder()
+                .unitId(unitId)
+                .charged(Money.ZERO)
+                .paid(Money.ZERO)
+                .balance(Money.ZERO)
+                .feeTypes(feeTypes)
+                .build();
+    }
+
+    private static Object decimal(long cents) {
+        return Money.ofCents(cents).toBigDecimal();
+    }
+}
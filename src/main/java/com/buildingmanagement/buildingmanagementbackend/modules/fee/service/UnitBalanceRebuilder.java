@@ -0,0 +1,234 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.BalanceRebuildResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recalcula los saldos de unidades desde fees y payments (reconstrucción completa, por
+ * edificio y en paralelo) y verifica periódicamente que los saldos mantenidos con deltas
+ * coincidan con el cálculo desde cero; los edificios con diferencias se reconstruyen.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnitBalanceRebuilder implements MetricsSource {
+
+    // Saldos esperados por unidad y tipo de cuota de un edificio
+    static final String EXPECTED_SQL =
+            "SELECT f.unit_id, f.fee_type_id, " +
+            "SUM(CASE WHEN f.status <> 'CANCELLED' THEN f.amount ELSE 0 END) AS charged, " +
+            "COALESCE(SUM(p.paid), 0) AS paid " +
+            "FROM fees f " +
+            "JOIN units u ON u.id = f.unit_id " +
+            "LEFT JOIN (SELECT py.fee_id, SUM(py.amount) AS paid FROM payments py " +
+            "JOIN fees pf ON pf.id = py.fee_id JOIN units pu ON pu.id = pf.unit_id " +
+            "WHERE pu.building_id = ? GROUP BY py.fee_id) p ON p.fee_id = f.id " +
+            "WHERE u.building_id = ? " +
+            "GROUP BY f.unit_id, f.fee_type_id";
+
+    private static final String STORED_SQL =
+            "SELECT b.unit_id, b.fee_type_id, b.charged, b.paid FROM unit_fee_type_balances b " +
+            "JOIN units u ON u.id = b.unit_id WHERE u.building_id = ?";
+
+    private static final String STORED_UNITS_SQL =
+            "SELECT b.unit_id, b.charged, b.paid FROM unit_balances b WHERE b.building_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.fees.balances.rebuild-threads:4}")
+    private int rebuildThreads;
+
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder verifiedBuildings = new LongAdder();
+    private final LongAdder driftedBuildings = new LongAdder();
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Reconstruye los saldos de un edificio, o de todos si {@code buildingId} es null.
+     * Cada edificio en su propia transacción, en un pool de {@code rebuild-threads} hilos.
+     */
+    public BalanceRebuildResponse rebuild(Long buildingId) {
+        long start = System.currentTimeMillis();
+        List<Long> buildingIds = buildingId != null ? List.of(buildingId) : allBuildingIds();
+
+        AtomicInteger rebuilt = new AtomicInteger();
+        List<Long> failed = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(rebuildThreads, buildingIds.size())));
+        try {
+            CompletableFuture.allOf(buildingIds.stream()
+                    .map(id -> CompletableFuture.runAsync(() -> {
+                        try {
+                            rebuildBuilding(id);
+                            rebuilt.incrementAndGet();
+                        } catch (Exception ex) {
+                            log.error("Error rebuilding unit balances for building {}", id, ex);
+                            failed.add(id);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Unit balances rebuilt for {} of {} buildings in {} ms", rebuilt.get(), buildingIds.size(), duration);
+        return BalanceRebuildResponse.builder()
+                .totalBuildings(buildingIds.size())
+                .rebuiltBuildings(rebuilt.get())
+                .failedBuildingIds(List.copyOf(failed))
+                .durationMillis(duration)
+                .build();
+    }
+
+    public void rebuildBuilding(Long buildingId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Bloquea la fila del edificio mientras se recalcula: no se cruzan dos reconstrucciones
+            jdbcTemplate.queryForList("SELECT id FROM buildings WHERE id = ? FOR UPDATE", Long.class, buildingId);
+            jdbcTemplate.update("DELETE b FROM unit_fee_type_balances b JOIN units u ON u.id = b.unit_id " +
+                    "WHERE u.building_id = ?", buildingId);
+            jdbcTemplate.update("DELETE FROM unit_balances WHERE building_id = ?", buildingId);
+            jdbcTemplate.update("INSERT INTO unit_fee_type_balances (unit_id, fee_type_id, charged, paid) " +
+                    EXPECTED_SQL, buildingId, buildingId);
+            jdbcTemplate.update("INSERT INTO unit_balances (unit_id, building_id, charged, paid) " +
+                    "SELECT b.unit_id, u.building_id, SUM(b.charged), SUM(b.paid) FROM unit_fee_type_balances b " +
+                    "JOIN units u ON u.id = b.unit_id WHERE u.building_id = ? GROUP BY b.unit_id, u.building_id",
+                    buildingId);
+        });
+        rebuilds.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.fees.balances.verify-interval-ms:3600000}",
+            initialDelayString = "${app.fees.balances.verify-interval-ms:3600000}")
+    public void verifyAll() {
+        List<Long> drifted = new ArrayList<>();
+        for (Long buildingId : allBuildingIds()) {
+            try {
+                if (!isConsistent(buildingId)) {
+                    rebuildBuilding(buildingId);
+                    drifted.add(buildingId);
+                }
+            } catch (Exception ex) {
+                log.error("Error verifying unit balances for building {}: {}", buildingId, ex.getMessage());
+            }
+        }
+        if (!drifted.isEmpty()) {
+            log.warn("Unit balance drift repaired in {} buildings: {}", drifted.size(), drifted);
+        }
+    }
+
+    /**
+     * Compara los saldos guardados del edificio con el cálculo desde fees y payments.
+     * Las tres lecturas se hacen en una transacción de solo lectura (misma snapshot).
+     */
+    public boolean isConsistent(Long buildingId) {
+        verifiedBuildings.increment();
+        boolean consistent = Boolean.TRUE.equals(readOnlyTemplate.execute(status -> compare(buildingId)));
+        if (!consistent) {
+            driftedBuildings.increment();
+        }
+        return consistent;
+    }
+
+    private boolean compare(Long buildingId) {
+
+        Map<String, BigDecimal[]> expected = new HashMap<>();
+        Map<Long, BigDecimal[]> expectedUnits = new HashMap<>();
+        jdbcTemplate.query(EXPECTED_SQL, rs -> {
+            BigDecimal charged = rs.getBigDecimal("charged");
+            BigDecimal paid = rs.getBigDecimal("paid");
+            expected.put(rs.getLong("unit_id") + ":" + rs.getLong("fee_type_id"), new BigDecimal[]{charged, paid});
+            expectedUnits.merge(rs.getLong("unit_id"), new BigDecimal[]{charged, paid},
+                    (a, b) -> new BigDecimal[]{a[0].add(b[0]), a[1].add(b[1])});
+        }, buildingId, buildingId);
+
+        Map<String, BigDecimal[]> stored = new HashMap<>();
+        jdbcTemplate.query(STORED_SQL, rs -> {
+            stored.put(rs.getLong("unit_id") + ":" + rs.getLong("fee_type_id"),
+                    new BigDecimal[]{rs.getBigDecimal("charged"), rs.getBigDecimal("paid")});
+        }, buildingId);
+
+        Map<Long, BigDecimal[]> storedUnits = new HashMap<>();
+        jdbcTemplate.query(STORED_UNITS_SQL, rs -> {
+            storedUnits.put(rs.getLong("unit_id"),
+                    new BigDecimal[]{rs.getBigDecimal("charged"), rs.getBigDecimal("paid")});
+        }, buildingId);
+
+        return sameBalances(expected, stored) && sameBalances(expectedUnits, storedUnits);
+    }
+
+    // Una fila guardada en cero equivale a una fila ausente (p. ej. cuotas canceladas)
+    static <K> boolean sameBalances(Map<K, BigDecimal[]> expected, Map<K, BigDecimal[]> stored) {
+        for (Map.Entry<K, BigDecimal[]> entry : expected.entrySet()) {
+            if (!sameAmounts(entry.getValue(), stored.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        for (Map.Entry<K, BigDecimal[]> entry : stored.entrySet()) {
+            if (!expected.containsKey(entry.getKey()) && !sameAmounts(entry.getValue(), null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameAmounts(BigDecimal[] a, BigDecimal[] b) {
+        for (int i = 0; i < 2; i++) {
+            BigDecimal left = a != null ? a[i] : BigDecimal.ZERO;
+            BigDecimal right = b != null ? b[i] : BigDecimal.ZERO;
+            if (left.compareTo(right) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Long> allBuildingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM buildings ORDER BY id", Long.class);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "unit-balances";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("rebuilds", rebuilds.sum());
+        metrics.put("verifiedBuildings", verifiedBuildings.sum());
+        metrics.put("driftedBuildings", driftedBuildings.sum());
+        return metrics;
+    }
+}
@@ -2,19 +2,28 @@ package com.buildingmanagement.buildingmanagementbackend.modules.unit.controller
 
 import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.*;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportParser;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.service.UnitBulkAssignmentService;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.service.UnitImportService;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.service.UnitService;
 import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
 import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -24,13 +33,15 @@ import java.util.List;
 public class UnitController {
 
     private final UnitService unitService;
+    private final UnitImportService unitImportService;
+    private final UnitBulkAssignmentService unitBulkAssignmentService;
 
     /**
      * Crear nueva unidad en un edificio
      * Solo administradores y board members pueden crear unidades
      */
     @PostMapping("/buildings/{buildingId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
     public ResponseEntity<ApiResponse<UnitResponse>> createUnit(
             @PathVariable Long buildingId,
             @Valid @RequestBody UnitCreateRequest request,
@@ -45,12 +56,37 @@ public class UnitController {
                 .body(ApiResponse.success(response, "Unit created successfully"));
     }
 
+    /**
+     * Importación masiva de unidades desde CSV o XLSX
+     * Con dryRun=true solo se valida el archivo y se devuelve el reporte de errores
+     */
+    @PostMapping(value = "/buildings/{buildingId}/import", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
+    public ResponseEntity<ApiResponse<UnitImportResponse>> importUnits(
+            @PathVariable Long buildingId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+
+        log.info("Importing units from {} into building {} requested by user: {}",
+                file.getOriginalFilename(), buildingId, currentUser.getEmail());
+
+        UnitImportParser.Format format = UnitImportParser.detectFormat(file.getOriginalFilename());
+        UnitImportResponse response;
+        try (InputStream input = file.getInputStream()) {
+            response = unitImportService.importUnits(buildingId, input, format, dryRun);
+        }
+
+        String message = dryRun ? "Import file validated" : "Units imported successfully";
+        return ResponseEntity.ok(ApiResponse.success(response, message));
+    }
+
     /**
      * Obtener unidad por ID
      * Usuarios autenticados pueden ver unidades
      */
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')")
+    @PreAuthorize("(hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.canAccessUnit(#id)")
     public ResponseEntity<ApiResponse<UnitResponse>> getUnitById(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -66,7 +102,7 @@ public class UnitController {
      * Listar unidades de un edificio con filtros y paginación
      */
     @GetMapping("/buildings/{buildingId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')")
+    @PreAuthorize("(hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.canAccess(#buildingId)")
     public ResponseEntity<ApiResponse<Page<UnitListResponse>>> getUnitsByBuilding(
             @PathVariable Long buildingId,
             @RequestParam(defaultValue = "") String unitNumber,
@@ -96,6 +132,56 @@ public class UnitController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Listar unidades de un edificio en modo cursor (pagination=cursor)
+     * Sin COUNT: la siguiente página se pide con el nextCursor de la respuesta
+     */
+    @GetMapping(value = "/buildings/{buildingId}", params = "pagination=cursor")
+    @PreAuthorize("(hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.canAccess(#buildingId)")
+    public ResponseEntity<ApiResponse<PageResponse<UnitListResponse>>> scrollUnitsByBuilding(
+            @PathVariable Long buildingId,
+            @RequestParam(defaultValue = "") String unitNumber,
+            @RequestParam(required = false) UnitType unitType,
+            @RequestParam(required = false) Boolean hasOwner,
+            @RequestParam(required = false) Boolean hasTenant,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "unitNumber") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.debug("Scrolling units for building {} requested by user: {}", buildingId, currentUser.getEmail());
+
+        UnitSearchRequest searchRequest = new UnitSearchRequest();
+        searchRequest.setUnitNumber(unitNumber);
+        searchRequest.setUnitType(unitType);
+        searchRequest.setHasOwner(hasOwner);
+        searchRequest.setHasTenant(hasTenant);
+        searchRequest.setCursor(cursor);
+        searchRequest.setSize(size);
+        searchRequest.setSortBy(sortBy);
+        searchRequest.setSortDirection(sortDirection);
+
+        PageResponse<UnitListResponse> response = unitService.scrollUnitsByBuilding(buildingId, searchRequest);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Autocompletado de números de unidad (top K por relevancia, sin COUNT)
+     */
+    @GetMapping("/buildings/{buildingId}/autocomplete")
+    @PreAuthorize("(hasRole('ADMIN') or hasRole('BOARD_MEMBER') or hasRole('OWNER') or hasRole('TENANT')) and @buildingScope.canAccess(#buildingId)")
+    public ResponseEntity<ApiResponse<List<UnitAutocompleteResponse>>> autocompleteUnitNumbers(
+            @PathVariable Long buildingId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        List<UnitAutocompleteResponse> response = unitService.autocompleteUnitNumbers(buildingId, q, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Obtener unidades de un propietario específico
      */
@@ -129,30 +215,34 @@ public class UnitController {
     }
 
     /**
-     * Obtener mis unidades (del usuario actual)
+     * Obtener mis unidades (del usuario actual), como propietario y/o inquilino
+     * Soporta GET condicional: con If-None-Match vigente responde 304 sin cargar las unidades
      */
     @GetMapping("/my-units")
     @PreAuthorize("hasRole('OWNER') or hasRole('TENANT')")
     public ResponseEntity<ApiResponse<List<UnitListResponse>>> getMyUnits(
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
 
         log.debug("Getting units for current user: {}", currentUser.getEmail());
 
-        // Buscar como propietario e inquilino
-        List<UnitListResponse> ownerUnits = unitService.getUnitsByOwner(currentUser.getId());
-        List<UnitListResponse> tenantUnits = unitService.getUnitsByTenant(currentUser.getId());
+        String eTag = unitService.getMyUnitsETag(currentUser.getId());
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
 
-        // Combinar ambas listas
-        ownerUnits.addAll(tenantUnits);
+        List<UnitListResponse> units = unitService.getMyUnits(currentUser.getId());
 
-        return ResponseEntity.ok(ApiResponse.success(ownerUnits));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(units));
     }
 
     /**
      * Actualizar unidad
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManageUnit(#id))")
     public ResponseEntity<ApiResponse<UnitResponse>> updateUnit(
             @PathVariable Long id,
             @Valid @RequestBody UnitUpdateRequest request,
@@ -185,7 +275,7 @@ public class UnitController {
      * Asignar propietario a una unidad
      */
     @PutMapping("/{id}/assign-owner")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManageUnit(#id))")
     public ResponseEntity<ApiResponse<UnitResponse>> assignOwner(
             @PathVariable Long id,
             @Valid @RequestBody UnitAssignmentRequest request,
@@ -203,7 +293,7 @@ public class UnitController {
      * Asignar inquilino a una unidad
      */
     @PutMapping("/{id}/assign-tenant")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManageUnit(#id))")
     public ResponseEntity<ApiResponse<UnitResponse>> assignTenant(
             @PathVariable Long id,
             @Valid @RequestBody UnitAssignmentRequest request,
@@ -217,11 +307,30 @@ public class UnitController {
         return ResponseEntity.ok(ApiResponse.success(response, "Tenant assigned successfully"));
     }
 
+    /**
+     * Asignación masiva de propietarios/inquilinos en un edificio
+     * userId null quita la asignación; los ítems inválidos se informan sin abortar el lote
+     */
+    @PostMapping("/buildings/{buildingId}/assignments")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManage(#buildingId))")
+    public ResponseEntity<ApiResponse<UnitBulkAssignmentResponse>> bulkAssign(
+            @PathVariable Long buildingId,
+            @Valid @RequestBody UnitBulkAssignmentRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        log.info("Bulk assignment of {} units in building {} requested by user: {}",
+                request.getAssignments().size(), buildingId, currentUser.getEmail());
+
+        UnitBulkAssignmentResponse response = unitBulkAssignmentService.assign(buildingId, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Bulk assignment processed"));
+    }
+
     /**
      * Remover propietario de una unidad
      */
     @DeleteMapping("/{id}/owner")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManageUnit(#id))")
     public ResponseEntity<ApiResponse<UnitResponse>> removeOwner(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -237,7 +346,7 @@ public class UnitController {
      * Remover inquilino de una unidad
      */
     @DeleteMapping("/{id}/tenant")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canManageUnit(#id))")
     public ResponseEntity<ApiResponse<UnitResponse>> removeTenant(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -249,11 +358,38 @@ public class UnitController {
         return ResponseEntity.ok(ApiResponse.success(response, "Tenant removed successfully"));
     }
 
+    /**
+     * Primeras unidades libres (sin propietario) de un tipo, en orden de número
+     */
+    @GetMapping("/buildings/{buildingId}/available")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canAccess(#buildingId))")
+    public ResponseEntity<ApiResponse<List<AvailableUnitResponse>>> getAvailableUnits(
+            @PathVariable Long buildingId,
+            @RequestParam UnitType unitType,
+            @RequestParam(defaultValue = "20") Integer limit) {
+
+        List<AvailableUnitResponse> response = unitService.getAvailableUnits(buildingId, unitType, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Unidades ocupadas, libres y porcentaje de ocupación por tipo de unidad
+     */
+    @GetMapping("/buildings/{buildingId}/occupancy")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canAccess(#buildingId))")
+    public ResponseEntity<ApiResponse<List<UnitOccupancyResponse>>> getOccupancy(@PathVariable Long buildingId) {
+
+        List<UnitOccupancyResponse> response = unitService.getOccupancy(buildingId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Obtener resumen estadístico de un edificio
      */
     @GetMapping("/buildings/{buildingId}/summary")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canAccess(#buildingId))")
     public ResponseEntity<ApiResponse<UnitSummaryResponse>> getBuildingSummary(
             @PathVariable Long buildingId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -269,7 +405,7 @@ public class UnitController {
      * Verificar si existe una unidad con un número específico en un edificio
      */
     @GetMapping("/buildings/{buildingId}/check-unit-number")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('BOARD_MEMBER')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('BOARD_MEMBER') and @buildingScope.canAccess(#buildingId))")
     public ResponseEntity<ApiResponse<Boolean>> checkUnitNumberExists(
             @PathVariable Long buildingId,
             @RequestParam String unitNumber,
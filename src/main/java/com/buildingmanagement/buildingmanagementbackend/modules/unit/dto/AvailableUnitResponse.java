@@ -0,0 +1,16 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class AvailableUnitResponse {
+
+    private Long id;
+    private String unitNumber;
+    private UnitType unitType;
+}
@@ -0,0 +1,14 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class UnitAutocompleteResponse {
+
+    private Long id;
+    private String unitNumber;
+}
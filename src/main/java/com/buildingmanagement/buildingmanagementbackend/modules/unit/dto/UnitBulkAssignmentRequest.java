@@ -0,0 +1,30 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.AssignmentRole;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UnitBulkAssignmentRequest {
+
+    @NotEmpty(message = "At least one assignment is required")
+    @Size(max = 1000, message = "A maximum of 1000 assignments per request is allowed")
+    private List<@Valid Item> assignments;
+
+    @Data
+    public static class Item {
+
+        @NotNull(message = "Unit ID is required")
+        private Long unitId;
+
+        private Long userId; // null = quitar el propietario/inquilino actual
+
+        @NotNull(message = "Role is required")
+        private AssignmentRole role;
+    }
+}
@@ -0,0 +1,31 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.AssignmentRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UnitBulkAssignmentResponse {
+
+    private Long buildingId;
+    private int requested;
+    private int applied;
+    // Válidas al leerlas pero sin fila actualizada (dadas de baja o movidas entretanto)
+    private int skipped;
+    private int failed;
+    private int updateStatements;
+    private List<Failure> failures;
+
+    @Data
+    @AllArgsConstructor
+    public static class Failure {
+        private Long unitId;
+        private Long userId;
+        private AssignmentRole role;
+        private String message;
+    }
+}
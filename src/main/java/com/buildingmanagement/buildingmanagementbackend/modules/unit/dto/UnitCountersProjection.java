@@ -0,0 +1,15 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+/**
+ * Todos los contadores del resumen de un edificio, calculados en una sola consulta agregada.
+ */
+public interface UnitCountersProjection {
+    String getBuildingName();
+    Long getTotalUnits();
+    Long getOccupiedUnits();
+    Long getApartmentUnits();
+    Long getParkingUnits();
+    Long getStorageUnits();
+    Long getCommercialUnits();
+    Double getTotalArea();
+}
@@ -0,0 +1,10 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+/**
+ * Nombres de edificio, propietario e inquilino de una unidad, resueltos en una sola consulta.
+ */
+public interface UnitDisplayNames {
+    String getBuildingName();
+    String getOwnerName();
+    String getTenantName();
+}
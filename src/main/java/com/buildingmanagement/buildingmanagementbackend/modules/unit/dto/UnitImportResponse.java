@@ -0,0 +1,27 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UnitImportResponse {
+
+    private Long buildingId;
+    private boolean dryRun;
+    private int totalRows;
+    private int importedRows; // en dry run: filas que se importarían
+    private int failedRows;
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String unitNumber;
+        private String message;
+    }
+}
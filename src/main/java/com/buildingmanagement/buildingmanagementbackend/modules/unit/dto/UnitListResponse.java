@@ -1,6 +1,8 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitRelation;
 import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,4 +17,7 @@ public class UnitListResponse {
     private String ownerName;
     private String tenantName;
     private Boolean isActive;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UnitRelation relation; // solo en "mis unidades"
 }
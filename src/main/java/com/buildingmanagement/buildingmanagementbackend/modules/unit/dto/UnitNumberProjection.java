@@ -0,0 +1,10 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+/**
+ * Datos mínimos para construir el índice de números de unidad.
+ */
+public interface UnitNumberProjection {
+    Long getId();
+    Long getBuildingId();
+    String getUnitNumber();
+}
@@ -0,0 +1,13 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+
+/**
+ * Unidades activas y ocupadas por edificio y tipo, para verificar el índice de ocupación.
+ */
+public interface UnitOccupancyCountProjection {
+    Long getBuildingId();
+    UnitType getUnitType();
+    Long getTotalUnits();
+    Long getOccupiedUnits();
+}
@@ -0,0 +1,14 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+
+/**
+ * Datos mínimos para construir el índice de ocupación.
+ */
+public interface UnitOccupancyProjection {
+    Long getId();
+    Long getBuildingId();
+    String getUnitNumber();
+    UnitType getUnitType();
+    Long getOwnerId();
+}
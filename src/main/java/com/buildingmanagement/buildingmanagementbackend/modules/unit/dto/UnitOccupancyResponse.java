@@ -0,0 +1,16 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UnitOccupancyResponse {
+
+    private UnitType unitType;
+    private Long totalUnits;
+    private Long occupiedUnits;
+    private Long vacantUnits;
+    private Double occupancyRate; // Porcentaje de ocupación
+}
@@ -14,4 +14,5 @@ public class UnitSearchRequest {
     private Integer size = 10;
     private String sortBy = "unitNumber";
     private String sortDirection = "asc";
+    private String cursor; // solo en modo cursor (pagination=cursor)
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ public class UnitSummaryResponse {
     private Long apartmentUnits;
     private Long parkingUnits;
     private Long storageUnits;
+    private Long commercialUnits;
     private Double totalArea;
     private Double occupancyRate; // Porcentaje de ocupación
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión de un listado de unidades: cantidad de filas y última modificación de las
+ * unidades y de los usuarios cuyos nombres se muestran.
+ */
+public interface UnitVersionProjection {
+    Long getUnitCount();
+    LocalDateTime getLastUnitUpdate();
+    LocalDateTime getLastOwnerUpdate();
+    LocalDateTime getLastTenantUpdate();
+}
@@ -0,0 +1,50 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contadores de unidades activas por edificio. Solo se modifica con UPDATEs relativos
+ * (ver BuildingUnitSummaryRepository), nunca leyendo y reescribiendo la entidad.
+ */
+@Entity
+@Table(name = "building_unit_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildingUnitSummary {
+
+    @Id
+    @Column(name = "building_id")
+    private Long buildingId;
+
+    @Column(name = "total_units", nullable = false)
+    private Long totalUnits;
+
+    @Column(name = "occupied_units", nullable = false)
+    private Long occupiedUnits;
+
+    @Column(name = "apartment_units", nullable = false)
+    private Long apartmentUnits;
+
+    @Column(name = "parking_units", nullable = false)
+    private Long parkingUnits;
+
+    @Column(name = "storage_units", nullable = false)
+    private Long storageUnits;
+
+    @Column(name = "commercial_units", nullable = false)
+    private Long commercialUnits;
+
+    @Column(name = "total_area", nullable = false)
+    private Double totalArea;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
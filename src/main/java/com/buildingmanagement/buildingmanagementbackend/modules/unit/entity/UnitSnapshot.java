@@ -0,0 +1,44 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.entity;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+
+/**
+ * Estado de una unidad relevante para los contadores del edificio, capturado
+ * antes y después de cada cambio para calcular el delta.
+ */
+public record UnitSnapshot(Long buildingId, UnitType unitType, boolean active, boolean occupied, double area,
+                           int occupants) {
+
+    public static UnitSnapshot of(Unit unit) {
+        if (unit == null) {
+            return null;
+        }
+        return new UnitSnapshot(
+                unit.getBuildingId(),
+                unit.getUnitType(),
+                !Boolean.FALSE.equals(unit.getIsActive()),
+                unit.getOwnerId() != null,
+                unit.getArea() != null ? unit.getArea() : 0.0,
+                occupants(unit.getOwnerId(), unit.getTenantId()));
+    }
+
+    /**
+     * Misma unidad con otro propietario e inquilino (asignaciones masivas).
+     */
+    public UnitSnapshot withAssignments(Long ownerId, Long tenantId) {
+        return new UnitSnapshot(buildingId, unitType, active, ownerId != null, area, occupants(ownerId, tenantId));
+    }
+
+    /**
+     * Las unidades inactivas no cuentan en el resumen.
+     */
+    public boolean counts() {
+        return buildingId != null && active;
+    }
+
+    // Huecos de propietario e inquilino ocupados; las asignaciones solo aceptan usuarios activos
+    // (UnitAssignmentRules), pero un usuario desactivado después sigue contando
+    private static int occupants(Long ownerId, Long tenantId) {
+        return (ownerId != null ? 1 : 0) + (tenantId != null ? 1 : 0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.event;
+
+/**
+ * Cambio masivo de unidades de un edificio (importación, asignaciones en lote):
+ * los índices en memoria recargan el edificio completo después del commit.
+ */
+public record BuildingUnitsChangedEvent(Long buildingId) {
+}
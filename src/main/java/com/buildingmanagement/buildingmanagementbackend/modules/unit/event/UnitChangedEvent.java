@@ -0,0 +1,22 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.event;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+
+/**
+ * Se publica al crear, modificar, eliminar o (des)asignar una unidad. Los índices
+ * en memoria lo procesan después del commit. occupied = tiene propietario.
+ */
+public record UnitChangedEvent(Long unitId, Long buildingId, String unitNumber, UnitType unitType,
+                               boolean active, boolean occupied) {
+
+    public static UnitChangedEvent saved(Unit unit) {
+        return new UnitChangedEvent(unit.getId(), unit.getBuildingId(), unit.getUnitNumber(), unit.getUnitType(),
+                !Boolean.FALSE.equals(unit.getIsActive()), unit.getOwnerId() != null);
+    }
+
+    public static UnitChangedEvent deleted(Unit unit) {
+        return new UnitChangedEvent(unit.getId(), unit.getBuildingId(), unit.getUnitNumber(), unit.getUnitType(),
+                false, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.event;
+
+import java.util.Set;
+
+/**
+ * Usuarios que ganaron o perdieron la propiedad o el alquiler de alguna unidad
+ * (antes y después del cambio). Se procesa después del commit.
+ */
+public record UnitOccupantsChangedEvent(Set<Long> userIds) {
+}
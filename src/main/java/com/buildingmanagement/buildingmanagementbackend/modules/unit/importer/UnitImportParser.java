@@ -0,0 +1,210 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.importer;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Lee archivos CSV o XLSX de unidades fila por fila (el XLSX se procesa con el
+ * modelo de eventos de POI, sin cargar el libro completo en memoria).
+ * La primera fila debe tener los encabezados: unitNumber, unitType, area, ownerEmail, tenantEmail.
+ */
+@Component
+public class UnitImportParser {
+
+    private static final String[] COLUMNS = {"unitnumber", "unittype", "area", "owneremail", "tenantemail"};
+
+    public enum Format { CSV, XLSX }
+
+    public static Format detectFormat(String filename) {
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".xlsx")) {
+            return Format.XLSX;
+        }
+        throw new BusinessException("Unsupported file type, expected .csv or .xlsx");
+    }
+
+    public void parse(InputStream input, Format format, Consumer<UnitImportRow> consumer) {
+        try {
+            if (format == Format.CSV) {
+                parseCsv(input, consumer);
+            } else {
+                parseXlsx(input, consumer);
+            }
+        } catch (BusinessException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new BusinessException("Could not read import file: " + ex.getMessage(), ex);
+        }
+    }
+
+    private void parseCsv(InputStream input, Consumer<UnitImportRow> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (line == null) {
+            throw new BusinessException("Import file is empty");
+        }
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+
+        char delimiter = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+        int[] positions = resolveColumns(splitCsv(line, delimiter));
+
+        int rowNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            consumer.accept(toRow(rowNumber, splitCsv(line, delimiter), positions));
+        }
+    }
+
+    private void parseXlsx(InputStream input, Consumer<UnitImportRow> consumer) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(input)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new BusinessException("Import file has no sheets");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowHandler(consumer), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] positions = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            positions[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                String name = header.get(j).trim().replace("_", "").toLowerCase(Locale.ROOT);
+                if (name.equals(COLUMNS[i])) {
+                    positions[i] = j;
+                }
+            }
+        }
+        if (positions[0] < 0 || positions[1] < 0) {
+            throw new BusinessException("Import file must have unitNumber and unitType columns");
+        }
+        return positions;
+    }
+
+    private static UnitImportRow toRow(int rowNumber, List<String> values, int[] positions) {
+        return new UnitImportRow(rowNumber,
+                value(values, positions[0]),
+                value(values, positions[1]),
+                value(values, positions[2]),
+                value(values, positions[3]),
+                value(values, positions[4]));
+    }
+
+    private static String value(List<String> values, int position) {
+        if (position < 0 || position >= values.size()) {
+            return null;
+        }
+        String value = values.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // CSV simple: admite campos entre comillas con delimitadores y comillas dobles escapadas
+    static List<String> splitCsv(String line, char delimiter) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<UnitImportRow> consumer;
+        private final Map<Integer, String> cells = new HashMap<>();
+        private int[] positions;
+
+        private RowHandler(Consumer<UnitImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (cells.isEmpty()) {
+                return;
+            }
+            int width = cells.keySet().stream().max(Integer::compare).orElse(0) + 1;
+            List<String> values = new ArrayList<>(width);
+            for (int i = 0; i < width; i++) {
+                values.add(cells.getOrDefault(i, ""));
+            }
+
+            if (positions == null) {
+                positions = resolveColumns(values);
+            } else {
+                consumer.accept(toRow(rowNum + 1, values, positions));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            cells.put((int) new CellReference(cellReference).getCol(), formattedValue);
+        }
+    }
+}
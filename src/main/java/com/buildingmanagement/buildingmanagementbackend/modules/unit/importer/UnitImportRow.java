@@ -0,0 +1,12 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.importer;
+
+/**
+ * Fila leída del archivo de importación, sin validar (valores tal cual vienen en el archivo).
+ */
+public record UnitImportRow(int rowNumber,
+                            String unitNumber,
+                            String unitType,
+                            String area,
+                            String ownerEmail,
+                            String tenantEmail) {
+}
@@ -1,5 +1,6 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.unit.mapper;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
 import org.springframework.stereotype.Component;
@@ -84,6 +85,7 @@ public class UnitMapper {
                                                  Long apartmentUnits,
                                                  Long parkingUnits,
                                                  Long storageUnits,
+                                                 Long commercialUnits,
                                                  Double totalArea) {
 
         Long vacantUnits = totalUnits - occupiedUnits;
@@ -98,8 +100,21 @@ public class UnitMapper {
                 .apartmentUnits(apartmentUnits)
                 .parkingUnits(parkingUnits)
                 .storageUnits(storageUnits)
+                .commercialUnits(commercialUnits)
                 .totalArea(totalArea)
                 .occupancyRate(Math.round(occupancyRate * 100.0) / 100.0) // Redondear a 2 decimales
                 .build();
     }
-}
\ No newline at end of file
+
+    public UnitOccupancyResponse toOccupancyResponse(UnitType unitType, long totalUnits, long occupiedUnits) {
+        double occupancyRate = totalUnits > 0 ? ((double) occupiedUnits / totalUnits) * 100 : 0.0;
+
+        return UnitOccupancyResponse.builder()
+                .unitType(unitType)
+                .totalUnits(totalUnits)
+                .occupiedUnits(occupiedUnits)
+                .vacantUnits(totalUnits - occupiedUnits)
+                .occupancyRate(Math.round(occupancyRate * 100.0) / 100.0) // Redondear a 2 decimales
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitCountersProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.BuildingUnitSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BuildingUnitSummaryRepository extends JpaRepository<BuildingUnitSummary, Long> {
+
+    // Resumen ya calculado + nombre del edificio: una búsqueda por PK
+    @Query("SELECT b.name AS buildingName, s.totalUnits AS totalUnits, s.occupiedUnits AS occupiedUnits, " +
+            "s.apartmentUnits AS apartmentUnits, s.parkingUnits AS parkingUnits, s.storageUnits AS storageUnits, " +
+            "s.commercialUnits AS commercialUnits, s.totalArea AS totalArea " +
+            "FROM BuildingUnitSummary s JOIN Building b ON b.id = s.buildingId " +
+            "WHERE s.buildingId = :buildingId")
+    Optional<UnitCountersProjection> findCounters(@Param("buildingId") Long buildingId);
+
+    // Suma el delta de forma atómica en la BD: escrituras concurrentes no se pisan
+    @Modifying
+    @Query(value = "INSERT INTO building_unit_summaries (building_id, total_units, occupied_units, apartment_units, " +
+            "parking_units, storage_units, commercial_units, total_area) " +
+            "VALUES (:buildingId, :total, :occupied, :apartment, :parking, :storage, :commercial, :area) " +
+            "ON DUPLICATE KEY UPDATE total_units = total_units + :total, " +
+            "occupied_units = occupied_units + :occupied, " +
+            "apartment_units = apartment_units + :apartment, " +
+            "parking_units = parking_units + :parking, " +
+            "storage_units = storage_units + :storage, " +
+            "commercial_units = commercial_units + :commercial, " +
+            "total_area = total_area + :area", nativeQuery = true)
+    int applyDelta(@Param("buildingId") Long buildingId,
+                   @Param("total") long total,
+                   @Param("occupied") long occupied,
+                   @Param("apartment") long apartment,
+                   @Param("parking") long parking,
+                   @Param("storage") long storage,
+                   @Param("commercial") long commercial,
+                   @Param("area") double area);
+
+    // Recalcula el resumen de un edificio desde la tabla units. Con INSERT ... SELECT el alias
+    // de fila no está permitido: las columnas nuevas se leen de la tabla derivada (en lugar de VALUES())
+    @Modifying
+    @Query(value = "INSERT INTO building_unit_summaries (building_id, total_units, occupied_units, apartment_units, " +
+            "parking_units, storage_units, commercial_units, total_area) " +
+            "SELECT * FROM (SELECT :buildingId AS building_id, COUNT(u.id) AS total_units, " +
+            "COALESCE(SUM(u.owner_id IS NOT NULL), 0) AS occupied_units, " +
+            "COALESCE(SUM(u.unit_type = 'APARTMENT'), 0) AS apartment_units, " +
+            "COALESCE(SUM(u.unit_type = 'PARKING'), 0) AS parking_units, " +
+            "COALESCE(SUM(u.unit_type = 'STORAGE'), 0) AS storage_units, " +
+            "COALESCE(SUM(u.unit_type = 'COMMERCIAL'), 0) AS commercial_units, " +
+            "COALESCE(SUM(u.area), 0) AS total_area " +
+            "FROM units u WHERE u.building_id = :buildingId AND u.is_active = TRUE) AS new " +
+            "ON DUPLICATE KEY UPDATE total_units = new.total_units, " +
+            "occupied_units = new.occupied_units, " +
+            "apartment_units = new.apartment_units, " +
+            "parking_units = new.parking_units, " +
+            "storage_units = new.storage_units, " +
+            "commercial_units = new.commercial_units, " +
+            "total_area = new.total_area", nativeQuery = true)
+    int rebuild(@Param("buildingId") Long buildingId);
+}
@@ -1,19 +1,41 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.unit.repository;
 
 import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitCountersProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitDisplayNames;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitNumberProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitOccupancyCountProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitOccupancyProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitVersionProjection;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UnitRepository extends JpaRepository<Unit, Long> {
+public interface UnitRepository extends JpaRepository<Unit, Long>, JpaSpecificationExecutor<Unit> {
+
+    // Bloquea la unidad hasta el commit: el estado anterior del delta de contadores no se cruza
+    // con otra escritura concurrente sobre la misma unidad
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM Unit u WHERE u.id = :id")
+    Optional<Unit> findByIdForUpdate(@Param("id") Long id);
+
+    // Igual para un lote, siempre en orden de id para no cruzar bloqueos entre lotes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM Unit u WHERE u.id IN :ids ORDER BY u.id")
+    List<Unit> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
     // Buscar unidades por edificio
     List<Unit> findByBuildingIdAndIsActiveTrue(Long buildingId);
@@ -66,13 +88,92 @@ public interface UnitRepository extends JpaRepository<Unit, Long> {
     @Query("SELECT COALESCE(SUM(u.area), 0) FROM Unit u WHERE u.buildingId = :buildingId AND u.isActive = true")
     Double getTotalAreaByBuilding(@Param("buildingId") Long buildingId);
 
-    // Buscar unidades por múltiples filtros
-    @Query("SELECT u FROM Unit u WHERE u.buildingId = :buildingId " +
-            "AND (:unitType IS NULL OR u.unitType = :unitType) " +
-            "AND (:hasOwner IS NULL OR (:hasOwner = true AND u.ownerId IS NOT NULL) OR (:hasOwner = false AND u.ownerId IS NULL)) " +
-            "AND u.isActive = true")
-    Page<Unit> findUnitsByFilters(@Param("buildingId") Long buildingId,
-                                  @Param("unitType") UnitType unitType,
-                                  @Param("hasOwner") Boolean hasOwner,
-                                  Pageable pageable);
-}
\ No newline at end of file
+    // Nombres de edificio, propietario e inquilino en un solo round trip
+    @Query("SELECT b.name AS buildingName, o.name AS ownerName, t.name AS tenantName FROM Building b " +
+            "LEFT JOIN User o ON o.id = :ownerId " +
+            "LEFT JOIN User t ON t.id = :tenantId " +
+            "WHERE b.id = :buildingId")
+    Optional<UnitDisplayNames> findDisplayNames(@Param("buildingId") Long buildingId,
+                                                @Param("ownerId") Long ownerId,
+                                                @Param("tenantId") Long tenantId);
+
+    // Todos los contadores del resumen en una sola pasada sobre las unidades del edificio.
+    // Sin fila = el edificio no existe
+    @Query("SELECT b.name AS buildingName, " +
+            "COUNT(u.id) AS totalUnits, " +
+            "COALESCE(SUM(CASE WHEN u.ownerId IS NOT NULL THEN 1 ELSE 0 END), 0) AS occupiedUnits, " +
+            "COALESCE(SUM(CASE WHEN u.unitType = com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType.APARTMENT THEN 1 ELSE 0 END), 0) AS apartmentUnits, " +
+            "COALESCE(SUM(CASE WHEN u.unitType = com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType.PARKING THEN 1 ELSE 0 END), 0) AS parkingUnits, " +
+            "COALESCE(SUM(CASE WHEN u.unitType = com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType.STORAGE THEN 1 ELSE 0 END), 0) AS storageUnits, " +
+            "COALESCE(SUM(CASE WHEN u.unitType = com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType.COMMERCIAL THEN 1 ELSE 0 END), 0) AS commercialUnits, " +
+            "COALESCE(SUM(u.area), 0) AS totalArea " +
+            "FROM Building b LEFT JOIN Unit u ON u.buildingId = b.id AND u.isActive = true " +
+            "WHERE b.id = :buildingId GROUP BY b.id, b.name")
+    Optional<UnitCountersProjection> getBuildingCounters(@Param("buildingId") Long buildingId);
+
+    // Unidades de un usuario como propietario o inquilino (index merge sobre owner_id y tenant_id)
+    @Query("SELECT u FROM Unit u WHERE (u.ownerId = :userId OR u.tenantId = :userId) AND u.isActive = true " +
+            "ORDER BY u.buildingId, u.unitNumber")
+    List<Unit> findActiveByOwnerIdOrTenantId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(u.id) AS unitCount, MAX(u.updatedAt) AS lastUnitUpdate, " +
+            "MAX(o.updatedAt) AS lastOwnerUpdate, MAX(t.updatedAt) AS lastTenantUpdate FROM Unit u " +
+            "LEFT JOIN User o ON o.id = u.ownerId " +
+            "LEFT JOIN User t ON t.id = u.tenantId " +
+            "WHERE (u.ownerId = :userId OR u.tenantId = :userId) AND u.isActive = true")
+    UnitVersionProjection getVersionByOwnerIdOrTenantId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(u) > 0 FROM Unit u WHERE u.id = :unitId AND (u.ownerId = :userId OR u.tenantId = :userId)")
+    boolean isOccupant(@Param("unitId") Long unitId, @Param("userId") Long userId);
+
+    // Bloquea las unidades del edificio, y el hueco del índice para las altas
+    @Query(value = "SELECT id FROM units WHERE building_id = :buildingId FOR UPDATE", nativeQuery = true)
+    List<Long> lockByBuildingId(@Param("buildingId") Long buildingId);
+
+    // Asignaciones masivas: una sentencia por (rol, usuario) sobre todas sus unidades
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Unit u SET u.ownerId = :userId WHERE u.id IN :ids AND u.buildingId = :buildingId AND u.isActive = true")
+    int assignOwner(@Param("buildingId") Long buildingId, @Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Unit u SET u.ownerId = NULL WHERE u.id IN :ids AND u.buildingId = :buildingId AND u.isActive = true")
+    int clearOwner(@Param("buildingId") Long buildingId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Unit u SET u.tenantId = :userId WHERE u.id IN :ids AND u.buildingId = :buildingId AND u.isActive = true")
+    int assignTenant(@Param("buildingId") Long buildingId, @Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Unit u SET u.tenantId = NULL WHERE u.id IN :ids AND u.buildingId = :buildingId AND u.isActive = true")
+    int clearTenant(@Param("buildingId") Long buildingId, @Param("ids") Collection<Long> ids);
+
+    // Carga del índice de ocupación, ordenada por número para que "primeras N libres" siga ese orden
+    @Query("SELECT u.id AS id, u.buildingId AS buildingId, u.unitNumber AS unitNumber, u.unitType AS unitType, " +
+            "u.ownerId AS ownerId FROM Unit u WHERE u.isActive = true ORDER BY u.buildingId, u.unitNumber")
+    List<UnitOccupancyProjection> findAllActiveUnitOccupancy();
+
+    @Query("SELECT u.id AS id, u.buildingId AS buildingId, u.unitNumber AS unitNumber, u.unitType AS unitType, " +
+            "u.ownerId AS ownerId FROM Unit u WHERE u.buildingId = :buildingId AND u.isActive = true ORDER BY u.unitNumber")
+    List<UnitOccupancyProjection> findActiveUnitOccupancyByBuildingId(@Param("buildingId") Long buildingId);
+
+    @Query("SELECT u.buildingId AS buildingId, u.unitType AS unitType, COUNT(u.id) AS totalUnits, " +
+            "SUM(CASE WHEN u.ownerId IS NOT NULL THEN 1 ELSE 0 END) AS occupiedUnits " +
+            "FROM Unit u WHERE u.buildingId = :buildingId AND u.isActive = true GROUP BY u.buildingId, u.unitType")
+    List<UnitOccupancyCountProjection> countActiveOccupancyByBuildingId(@Param("buildingId") Long buildingId);
+
+    // Carga del índice en memoria de números de unidad
+    @Query("SELECT u.id AS id, u.buildingId AS buildingId, u.unitNumber AS unitNumber FROM Unit u WHERE u.isActive = true")
+    List<UnitNumberProjection> findAllActiveUnitNumbers();
+
+    @Query("SELECT u.id AS id, u.buildingId AS buildingId, u.unitNumber AS unitNumber FROM Unit u " +
+            "WHERE u.buildingId = :buildingId AND u.isActive = true")
+    List<UnitNumberProjection> findActiveUnitNumbersByBuildingId(@Param("buildingId") Long buildingId);
+
+    // Todos los números usados en el edificio (activos o no): la restricción única los incluye
+    @Query("SELECT u.unitNumber FROM Unit u WHERE u.buildingId = :buildingId")
+    List<String> findUnitNumbersByBuildingId(@Param("buildingId") Long buildingId);
+
+    // Edificio de una unidad (no cambia), para autorización por id de unidad
+    @Query("SELECT u.buildingId FROM Unit u WHERE u.id = :id")
+    Optional<Long> findBuildingIdById(@Param("id") Long id);
+}
@@ -0,0 +1,70 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Predicados de búsqueda de unidades. Solo se agregan los filtros presentes, así
+ * MySQL planifica cada combinación con el índice compuesto que le corresponde
+ * (ver V12__Add_units_filter_indexes.sql) en lugar de un plan genérico con "IS NULL OR".
+ */
+public final class UnitSpecifications {
+
+    private UnitSpecifications() {
+    }
+
+    public static Specification<Unit> forSearch(Long buildingId, UnitSearchRequest searchRequest) {
+        Specification<Unit> spec = activeInBuilding(buildingId);
+
+        if (searchRequest.getUnitType() != null) {
+            spec = spec.and(hasUnitType(searchRequest.getUnitType()));
+        }
+        if (searchRequest.getHasOwner() != null) {
+            spec = spec.and(hasOwner(searchRequest.getHasOwner()));
+        }
+        if (searchRequest.getHasTenant() != null) {
+            spec = spec.and(hasTenant(searchRequest.getHasTenant()));
+        }
+        if (StringUtils.hasText(searchRequest.getUnitNumber())) {
+            spec = spec.and(unitNumberContains(searchRequest.getUnitNumber()));
+        }
+        return spec;
+    }
+
+    public static Specification<Unit> activeInBuilding(Long buildingId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("buildingId"), buildingId),
+                cb.isTrue(root.get("isActive")));
+    }
+
+    public static Specification<Unit> hasUnitType(UnitType unitType) {
+        return (root, query, cb) -> cb.equal(root.get("unitType"), unitType);
+    }
+
+    public static Specification<Unit> hasOwner(boolean hasOwner) {
+        return (root, query, cb) -> hasOwner
+                ? cb.isNotNull(root.get("ownerId"))
+                : cb.isNull(root.get("ownerId"));
+    }
+
+    public static Specification<Unit> hasTenant(boolean hasTenant) {
+        return (root, query, cb) -> hasTenant
+                ? cb.isNotNull(root.get("tenantId"))
+                : cb.isNull(root.get("tenantId"));
+    }
+
+    // La collation de MySQL ya es case-insensitive: sin LOWER() sobre la columna
+    public static Specification<Unit> unitNumberContains(String text) {
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(root.get("unitNumber"), pattern, '\\');
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,63 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Compara periódicamente los contadores de buildings con la tabla units y recalcula
+ * los edificios que difieren (SQL manual o escrituras perdidas). También reconstruye
+ * sus resúmenes si la proyección está habilitada.
+ * Cada edificio se recalcula en su propia transacción, con sus unidades y su fila
+ * bloqueadas en el mismo orden que las escrituras (unidad y luego edificio): un delta
+ * concurrente espera al recálculo o el recálculo espera a que el delta se confirme.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildingCounterReconciler {
+
+    private final BuildingRepository buildingRepository;
+    private final UnitRepository unitRepository;
+    private final BuildingUnitSummaryProjector summaryProjector;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.buildings.counters.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.buildings.counters.reconcile-interval-ms:3600000}")
+    public int reconcile() {
+        List<Long> drifted = buildingRepository.findCounterDriftIds();
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        for (Long buildingId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> recount(buildingId));
+        }
+
+        log.warn("Building counters drift repaired in {} buildings: {}", drifted.size(), drifted);
+        return drifted.size();
+    }
+
+    private void recount(Long buildingId) {
+        unitRepository.lockByBuildingId(buildingId);
+        if (buildingRepository.lockById(buildingId).isEmpty()) {
+            return; // eliminado desde la búsqueda de desvíos
+        }
+        summaryProjector.recount(buildingId);
+    }
+}
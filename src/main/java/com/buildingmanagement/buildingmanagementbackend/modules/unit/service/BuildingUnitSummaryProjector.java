@@ -0,0 +1,136 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitCountersProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.UnitSnapshot;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.BuildingUnitSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mantiene los contadores de buildings (siempre) y building_unit_summaries (si la
+ * proyección está habilitada) a partir del estado de la unidad antes y después de
+ * cada operación. Debe llamarse dentro de la transacción que modifica la unidad.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildingUnitSummaryProjector {
+
+    private final BuildingUnitSummaryRepository summaryRepository;
+    private final BuildingRepository buildingRepository;
+
+    @Value("${app.units.summary-projection.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<UnitCountersProjection> find(Long buildingId) {
+        return enabled ? summaryRepository.findCounters(buildingId) : Optional.empty();
+    }
+
+    /**
+     * before = null para altas, after = null para bajas.
+     */
+    public void apply(UnitSnapshot before, UnitSnapshot after) {
+        applyAll(Collections.singletonList(before), Collections.singletonList(after));
+    }
+
+    /**
+     * Variante para operaciones masivas: before.get(i) y after.get(i) son la misma unidad.
+     * Los deltas se agrupan por edificio, así que se emite un UPDATE por edificio.
+     */
+    public void applyAll(List<UnitSnapshot> before, List<UnitSnapshot> after) {
+        Map<Long, Counters> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            UnitSnapshot previous = before.get(i);
+            UnitSnapshot current = after.get(i);
+            if (previous != null && previous.counts()) {
+                deltas.merge(previous.buildingId(), Counters.ZERO.minus(Counters.of(previous)), Counters::plus);
+            }
+            if (current != null && current.counts()) {
+                deltas.merge(current.buildingId(), Counters.of(current), Counters::plus);
+            }
+        }
+        deltas.forEach(this::applyDelta);
+    }
+
+    public void rebuild(Long buildingId) {
+        summaryRepository.rebuild(buildingId);
+    }
+
+    /**
+     * Recalcula desde units los contadores y el resumen del edificio, para escrituras
+     * cuyo delta exacto no se conoce.
+     */
+    public void recount(Long buildingId) {
+        buildingRepository.recountCounters(List.of(buildingId));
+        if (enabled) {
+            summaryRepository.rebuild(buildingId);
+        }
+    }
+
+    private void applyDelta(Long buildingId, Counters delta) {
+        if (delta.total != 0 || delta.occupied != 0 || delta.area != 0.0 || delta.occupants != 0) {
+            buildingRepository.applyCounterDelta(buildingId, delta.total, delta.occupied, delta.area, delta.occupants);
+        }
+        if (!enabled || delta.isSummaryZero()) {
+            return;
+        }
+
+        // La fila existe desde el alta del edificio (o desde V11/V19): un único upsert relativo,
+        // sin comprobar antes si existe, así dos primeras escrituras concurrentes no se cruzan
+        summaryRepository.applyDelta(buildingId,
+                delta.total, delta.occupied, delta.apartment, delta.parking,
+                delta.storage, delta.commercial, delta.area);
+    }
+
+    private record Counters(long total, long occupied, long apartment, long parking,
+                            long storage, long commercial, double area, long occupants) {
+
+        private static final Counters ZERO = new Counters(0, 0, 0, 0, 0, 0, 0.0, 0);
+
+        static Counters of(UnitSnapshot unit) {
+            return new Counters(
+                    1,
+                    unit.occupied() ? 1 : 0,
+                    unit.unitType() == UnitType.APARTMENT ? 1 : 0,
+                    unit.unitType() == UnitType.PARKING ? 1 : 0,
+                    unit.unitType() == UnitType.STORAGE ? 1 : 0,
+                    unit.unitType() == UnitType.COMMERCIAL ? 1 : 0,
+                    unit.area(),
+                    unit.occupants());
+        }
+
+        Counters plus(Counters other) {
+            return new Counters(total + other.total, occupied + other.occupied,
+                    apartment + other.apartment, parking + other.parking,
+                    storage + other.storage, commercial + other.commercial,
+                    area + other.area, occupants + other.occupants);
+        }
+
+        Counters minus(Counters other) {
+            return new Counters(total - other.total, occupied - other.occupied,
+                    apartment - other.apartment, parking - other.parking,
+                    storage - other.storage, commercial - other.commercial,
+                    area - other.area, occupants - other.occupants);
+        }
+
+        // Los ocupantes asignados no forman parte de building_unit_summaries
+        boolean isSummaryZero() {
+            return total == 0 && occupied == 0 && apartment == 0 && parking == 0
+                    && storage == 0 && commercial == 0 && area == 0.0;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+
+/**
+ * Roles que pueden asignarse como propietario o inquilino de una unidad.
+ */
+final class UnitAssignmentRules {
+
+    private UnitAssignmentRules() {
+    }
+
+    static boolean canBeOwner(UserRole role) {
+        return role == UserRole.OWNER || role == UserRole.ADMIN;
+    }
+
+    static boolean canBeTenant(UserRole role) {
+        return role == UserRole.TENANT || role == UserRole.OWNER || role == UserRole.ADMIN;
+    }
+}
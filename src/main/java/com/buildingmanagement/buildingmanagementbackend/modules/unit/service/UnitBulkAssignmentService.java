@@ -0,0 +1,13 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentResponse;
+
+public interface UnitBulkAssignmentService {
+
+    /**
+     * Asigna o quita propietarios/inquilinos de muchas unidades del edificio en una
+     * transacción. Los ítems inválidos se informan y no afectan al resto.
+     */
+    UnitBulkAssignmentResponse assign(Long buildingId, UnitBulkAssignmentRequest request);
+}
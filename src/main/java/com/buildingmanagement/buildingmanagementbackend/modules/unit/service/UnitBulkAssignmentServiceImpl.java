@@ -0,0 +1,214 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.AssignmentRole;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.UnitSnapshot;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitOccupantsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserReferenceProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnitBulkAssignmentServiceImpl implements UnitBulkAssignmentService {
+
+    private final BuildingRepository buildingRepository;
+    private final UnitRepository unitRepository;
+    private final UserRepository userRepository;
+    private final BuildingUnitSummaryProjector summaryProjector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public UnitBulkAssignmentResponse assign(Long buildingId, UnitBulkAssignmentRequest request) {
+        List<UnitBulkAssignmentRequest.Item> items = request.getAssignments();
+        log.info("Bulk assigning {} units in building {}", items.size(), buildingId);
+
+        if (!buildingRepository.existsById(buildingId)) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
+        }
+
+        // Unidades y usuarios de todo el lote en una consulta cada uno
+        Set<Long> unitIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (UnitBulkAssignmentRequest.Item item : items) {
+            unitIds.add(item.getUnitId());
+            if (item.getUserId() != null) {
+                userIds.add(item.getUserId());
+            }
+        }
+        Map<Long, Unit> units = new HashMap<>();
+        // Bloqueadas hasta el commit: el estado leído es el que reemplazan los UPDATE
+        for (Unit unit : unitRepository.findAllByIdForUpdate(unitIds)) {
+            units.put(unit.getId(), unit);
+        }
+        Map<Long, UserReferenceProjection> users = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UserReferenceProjection user : userRepository.findReferencesByIdIn(userIds)) {
+                users.put(user.getId(), user);
+            }
+        }
+
+        List<UnitBulkAssignmentResponse.Failure> failures = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        // (rol, usuario) -> unidades; null = quitar
+        Map<AssignmentRole, Map<Long, List<Long>>> groups = new EnumMap<>(AssignmentRole.class);
+        List<UnitBulkAssignmentRequest.Item> valid = new ArrayList<>();
+
+        for (UnitBulkAssignmentRequest.Item item : items) {
+            String error = validate(buildingId, item, units, users, seen);
+            if (error != null) {
+                failures.add(new UnitBulkAssignmentResponse.Failure(item.getUnitId(), item.getUserId(), item.getRole(), error));
+                continue;
+            }
+            groups.computeIfAbsent(item.getRole(), role -> new HashMap<>())
+                    .computeIfAbsent(item.getUserId(), userId -> new ArrayList<>())
+                    .add(item.getUnitId());
+            valid.add(item);
+        }
+
+        int statements = 0;
+        int updated = 0;
+        for (Map.Entry<AssignmentRole, Map<Long, List<Long>>> byRole : groups.entrySet()) {
+            for (Map.Entry<Long, List<Long>> byUser : byRole.getValue().entrySet()) {
+                updated += update(buildingId, byRole.getKey(), byUser.getKey(), byUser.getValue());
+                statements++;
+            }
+        }
+        int skipped = valid.size() - updated;
+
+        if (skipped > 0) {
+            // Los UPDATE filtran por edificio y activa: alguna unidad cambió después de leerla y no se
+            // sabe cuál, así que en vez de deltas por unidad se recalcula el edificio
+            log.warn("Bulk assignment in building {}: {} units changed concurrently and were skipped", buildingId, skipped);
+            summaryProjector.recount(buildingId);
+            eventPublisher.publishEvent(new BuildingUnitsChangedEvent(buildingId));
+            publishOccupants(valid, units);
+        } else if (!valid.isEmpty()) {
+            applyChanges(valid, units);
+        }
+
+        log.info("Bulk assignment in building {}: {} applied, {} skipped, {} failed, {} update statements",
+                buildingId, updated, skipped, failures.size(), statements);
+
+        return UnitBulkAssignmentResponse.builder()
+                .buildingId(buildingId)
+                .requested(items.size())
+                .applied(updated)
+                .skipped(skipped)
+                .failed(failures.size())
+                .updateStatements(statements)
+                .failures(failures)
+                .build();
+    }
+
+    private String validate(Long buildingId,
+                            UnitBulkAssignmentRequest.Item item,
+                            Map<Long, Unit> units,
+                            Map<Long, UserReferenceProjection> users,
+                            Set<String> seen) {
+        Unit unit = units.get(item.getUnitId());
+        if (unit == null || !buildingId.equals(unit.getBuildingId()) || !Boolean.TRUE.equals(unit.getIsActive())) {
+            return "Unit not found in this building";
+        }
+        if (!seen.add(item.getUnitId() + ":" + item.getRole())) {
+            return "Duplicate " + item.getRole().name().toLowerCase() + " assignment for this unit";
+        }
+        if (item.getUserId() == null) {
+            return null;
+        }
+
+        UserReferenceProjection user = users.get(item.getUserId());
+        if (user == null) {
+            return "User not found with id: " + item.getUserId();
+        }
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            return "User is not active";
+        }
+        if (item.getRole() == AssignmentRole.OWNER && !UnitAssignmentRules.canBeOwner(user.getRole())) {
+            return "User must be OWNER or ADMIN to be assigned as owner";
+        }
+        if (item.getRole() == AssignmentRole.TENANT && !UnitAssignmentRules.canBeTenant(user.getRole())) {
+            return "User must be TENANT, OWNER or ADMIN to be assigned as tenant";
+        }
+        return null;
+    }
+
+    // Filas que cumplen el filtro (Connector/J informa filas encontradas, no solo las modificadas)
+    private int update(Long buildingId, AssignmentRole role, Long userId, List<Long> unitIds) {
+        if (role == AssignmentRole.OWNER) {
+            return userId != null
+                    ? unitRepository.assignOwner(buildingId, unitIds, userId)
+                    : unitRepository.clearOwner(buildingId, unitIds);
+        }
+        return userId != null
+                ? unitRepository.assignTenant(buildingId, unitIds, userId)
+                : unitRepository.clearTenant(buildingId, unitIds);
+    }
+
+    // Ocupantes anteriores y nuevos de todas las unidades válidas, para invalidar sus alcances
+    private void publishOccupants(List<UnitBulkAssignmentRequest.Item> valid, Map<Long, Unit> units) {
+        Set<Long> occupants = new HashSet<>();
+        for (UnitBulkAssignmentRequest.Item item : valid) {
+            Unit unit = units.get(item.getUnitId());
+            Stream.of(unit.getOwnerId(), unit.getTenantId(), item.getUserId())
+                    .filter(Objects::nonNull)
+                    .forEach(occupants::add);
+        }
+        if (!occupants.isEmpty()) {
+            eventPublisher.publishEvent(new UnitOccupantsChangedEvent(occupants));
+        }
+    }
+
+    // Estado final de cada unidad: un evento por unidad para los índices en memoria
+    // y un único delta de contadores para el edificio
+    private void applyChanges(List<UnitBulkAssignmentRequest.Item> valid, Map<Long, Unit> units) {
+        Set<Long> changed = new LinkedHashSet<>();
+        Map<Long, Long> newOwners = new HashMap<>();
+        Map<Long, Long> newTenants = new HashMap<>();
+        for (UnitBulkAssignmentRequest.Item item : valid) {
+            changed.add(item.getUnitId());
+            if (item.getRole() == AssignmentRole.OWNER) {
+                newOwners.put(item.getUnitId(), item.getUserId());
+            } else {
+                newTenants.put(item.getUnitId(), item.getUserId());
+            }
+        }
+
+        Set<Long> occupants = new HashSet<>();
+        List<UnitSnapshot> before = new ArrayList<>(changed.size());
+        List<UnitSnapshot> after = new ArrayList<>(changed.size());
+        for (Long unitId : changed) {
+            Unit unit = units.get(unitId);
+            Long ownerId = newOwners.containsKey(unitId) ? newOwners.get(unitId) : unit.getOwnerId();
+            Long tenantId = newTenants.containsKey(unitId) ? newTenants.get(unitId) : unit.getTenantId();
+            UnitSnapshot snapshot = UnitSnapshot.of(unit);
+            before.add(snapshot);
+            after.add(snapshot.withAssignments(ownerId, tenantId));
+            eventPublisher.publishEvent(new UnitChangedEvent(unitId, unit.getBuildingId(), unit.getUnitNumber(),
+                    unit.getUnitType(), true, ownerId != null));
+            Stream.of(unit.getOwnerId(), unit.getTenantId(), ownerId, tenantId)
+                    .filter(Objects::nonNull)
+                    .forEach(occupants::add);
+        }
+        summaryProjector.applyAll(before, after);
+        if (!occupants.isEmpty()) {
+            eventPublisher.publishEvent(new UnitOccupantsChangedEvent(occupants));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitImportResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportParser;
+
+import java.io.InputStream;
+
+public interface UnitImportService {
+
+    /**
+     * Importa unidades desde un CSV o XLSX. Las filas inválidas se informan en el
+     * reporte y no se insertan; con dryRun solo se valida.
+     */
+    UnitImportResponse importUnits(Long buildingId, InputStream input, UnitImportParser.Format format, boolean dryRun);
+}
@@ -0,0 +1,263 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitImportResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.UnitSnapshot;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitOccupantsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportParser;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportRow;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserReferenceProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnitImportServiceImpl implements UnitImportService {
+
+    private static final String INSERT_UNIT_SQL =
+            "INSERT INTO units (building_id, unit_number, unit_type, area, owner_id, tenant_id, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+    private static final int MAX_UNIT_NUMBER_LENGTH = 50;
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+    // Mismos límites que UnitCreateRequest; units.area es DECIMAL(8,2)
+    private static final BigDecimal MAX_AREA = new BigDecimal("99999.99");
+    private static final int AREA_SCALE = 2;
+
+    private final BuildingRepository buildingRepository;
+    private final UnitRepository unitRepository;
+    private final UserRepository userRepository;
+    private final UnitImportParser parser;
+    private final JdbcTemplate jdbcTemplate;
+    private final BuildingUnitSummaryProjector summaryProjector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.units.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.units.import.max-rows:20000}")
+    private int maxRows;
+
+    @Override
+    @Transactional
+    public UnitImportResponse importUnits(Long buildingId, InputStream input, UnitImportParser.Format format, boolean dryRun) {
+        log.info("Importing units into building {} (dryRun={})", buildingId, dryRun);
+
+        if (!buildingRepository.existsById(buildingId)) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
+        }
+
+        List<UnitImportRow> rows = new ArrayList<>();
+        parser.parse(input, format, row -> {
+            if (rows.size() >= maxRows) {
+                throw new BusinessException("Import file exceeds the maximum of " + maxRows + " rows");
+            }
+            rows.add(row);
+        });
+
+        // Números ya usados en el edificio, precargados una sola vez (comparación sin mayúsculas)
+        Set<String> usedNumbers = new HashSet<>();
+        for (String number : unitRepository.findUnitNumbersByBuildingId(buildingId)) {
+            usedNumbers.add(number.toLowerCase(Locale.ROOT));
+        }
+        Map<String, UserReferenceProjection> usersByEmail = loadUsersByEmail(rows);
+
+        List<UnitImportResponse.RowError> errors = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        List<UnitSnapshot> created = new ArrayList<>();
+        Set<Long> occupants = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        for (UnitImportRow row : rows) {
+            String error = validate(row, usedNumbers, usersByEmail);
+            if (error != null) {
+                errors.add(new UnitImportResponse.RowError(row.rowNumber(), row.unitNumber(), error));
+                continue;
+            }
+            usedNumbers.add(row.unitNumber().toLowerCase(Locale.ROOT));
+            UnitType unitType = UnitType.valueOf(row.unitType().toUpperCase(Locale.ROOT));
+            Double area = row.area() != null ? Double.valueOf(row.area()) : null;
+            Long ownerId = userId(usersByEmail, row.ownerEmail());
+            Long tenantId = userId(usersByEmail, row.tenantEmail());
+            inserts.add(new Object[]{
+                    buildingId,
+                    row.unitNumber(),
+                    unitType.name(),
+                    area,
+                    ownerId,
+                    tenantId,
+                    timestamp,
+                    timestamp
+            });
+            if (ownerId != null) {
+                occupants.add(ownerId);
+            }
+            if (tenantId != null) {
+                occupants.add(tenantId);
+            }
+            created.add(UnitSnapshot.of(Unit.builder()
+                    .buildingId(buildingId)
+                    .unitType(unitType)
+                    .area(area)
+                    .ownerId(ownerId)
+                    .tenantId(tenantId)
+                    .isActive(true)
+                    .build()));
+        }
+
+        if (!dryRun && !inserts.isEmpty()) {
+            insert(inserts);
+            // Todas las altas del archivo suman en un único UPDATE relativo
+            summaryProjector.applyAll(Collections.nCopies(created.size(), null), created);
+            eventPublisher.publishEvent(new BuildingUnitsChangedEvent(buildingId));
+            if (!occupants.isEmpty()) {
+                eventPublisher.publishEvent(new UnitOccupantsChangedEvent(occupants));
+            }
+        }
+
+        log.info("Unit import for building {}: {} rows, {} valid, {} errors (dryRun={})",
+                buildingId, rows.size(), inserts.size(), errors.size(), dryRun);
+
+        return UnitImportResponse.builder()
+                .buildingId(buildingId)
+                .dryRun(dryRun)
+                .totalRows(rows.size())
+                .importedRows(inserts.size())
+                .failedRows(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    private void insert(List<Object[]> inserts) {
+        int[] types = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE,
+                Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP};
+        try {
+            for (int from = 0; from < inserts.size(); from += batchSize) {
+                List<Object[]> batch = inserts.subList(from, Math.min(from + batchSize, inserts.size()));
+                jdbcTemplate.batchUpdate(INSERT_UNIT_SQL, batch, types);
+            }
+        } catch (DuplicateKeyException ex) {
+            // Otra operación creó el mismo número mientras se importaba: se revierte todo
+            throw new BusinessException("A unit number in the file was created concurrently, please retry the import");
+        }
+    }
+
+    private String validate(UnitImportRow row,
+                            Set<String> usedNumbers,
+                            Map<String, UserReferenceProjection> usersByEmail) {
+        if (row.unitNumber() == null) {
+            return "Unit number is required";
+        }
+        if (row.unitNumber().length() > MAX_UNIT_NUMBER_LENGTH) {
+            return "Unit number must not exceed " + MAX_UNIT_NUMBER_LENGTH + " characters";
+        }
+        if (usedNumbers.contains(row.unitNumber().toLowerCase(Locale.ROOT))) {
+            return "Unit number '" + row.unitNumber() + "' already exists in this building or file";
+        }
+        if (row.unitType() == null || !isUnitType(row.unitType())) {
+            return "Invalid unit type: " + row.unitType();
+        }
+        if (row.area() != null) {
+            // BigDecimal rechaza NaN e Infinity y no redondea 1e400 a infinito como Double
+            BigDecimal area;
+            try {
+                area = new BigDecimal(row.area());
+            } catch (NumberFormatException ex) {
+                return "Invalid area: " + row.area();
+            }
+            if (area.signum() <= 0) {
+                return "Area must be positive";
+            }
+            if (area.compareTo(MAX_AREA) > 0) {
+                return "Area must be less than " + MAX_AREA;
+            }
+            if (area.stripTrailingZeros().scale() > AREA_SCALE) {
+                return "Area must have at most " + AREA_SCALE + " decimals";
+            }
+        }
+
+        String ownerError = validateUser(row.ownerEmail(), usersByEmail, true);
+        if (ownerError != null) {
+            return ownerError;
+        }
+        return validateUser(row.tenantEmail(), usersByEmail, false);
+    }
+
+    private String validateUser(String email, Map<String, UserReferenceProjection> usersByEmail, boolean owner) {
+        if (email == null) {
+            return null;
+        }
+        UserReferenceProjection user = usersByEmail.get(email.toLowerCase(Locale.ROOT));
+        if (user == null) {
+            return "User not found with email: " + email;
+        }
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            return "User is not active: " + email;
+        }
+        if (owner && !UnitAssignmentRules.canBeOwner(user.getRole())) {
+            return "User must be OWNER or ADMIN to be assigned as owner";
+        }
+        if (!owner && !UnitAssignmentRules.canBeTenant(user.getRole())) {
+            return "User must be TENANT, OWNER or ADMIN to be assigned as tenant";
+        }
+        return null;
+    }
+
+    // Todos los emails del archivo se resuelven en consultas IN por bloques
+    private Map<String, UserReferenceProjection> loadUsersByEmail(List<UnitImportRow> rows) {
+        Set<String> emails = new LinkedHashSet<>();
+        for (UnitImportRow row : rows) {
+            if (row.ownerEmail() != null) {
+                emails.add(row.ownerEmail());
+            }
+            if (row.tenantEmail() != null) {
+                emails.add(row.tenantEmail());
+            }
+        }
+
+        Map<String, UserReferenceProjection> usersByEmail = new HashMap<>();
+        List<String> pending = new ArrayList<>(emails);
+        for (int from = 0; from < pending.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = pending.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, pending.size()));
+            for (UserReferenceProjection user : userRepository.findReferencesByEmailIn(chunk)) {
+                usersByEmail.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+            }
+        }
+        return usersByEmail;
+    }
+
+    private static Long userId(Map<String, UserReferenceProjection> usersByEmail, String email) {
+        return email != null ? usersByEmail.get(email.toLowerCase(Locale.ROOT)).getId() : null;
+    }
+
+    private static boolean isUnitType(String value) {
+        for (UnitType type : UnitType.values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
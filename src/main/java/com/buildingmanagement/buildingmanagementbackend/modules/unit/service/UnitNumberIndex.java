@@ -0,0 +1,264 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitAutocompleteResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitNumberProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice en memoria de números de unidad por edificio, para búsqueda por prefijo
+ * y por subcadena sin recorrer la tabla units en cada tecla.
+ * Se carga al iniciar, se actualiza tras el commit de cada cambio de unidad y se
+ * recarga completo periódicamente (cambios hechos por otros nodos).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnitNumberIndex implements MetricsSource {
+
+    private static final int GRAM = 3;
+
+    private final UnitRepository unitRepository;
+
+    private final Map<Long, BuildingIndex> buildings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private final LongAdder searches = new LongAdder();
+
+    // Cada cambio de un edificio avanza la generación y la anota en lastChange: una recarga
+    // completa que empezó antes no pisa el índice de ese edificio
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Long> lastChange = new ConcurrentHashMap<>();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids de las unidades activas que contienen el texto, ordenados por relevancia:
+     * coincidencia exacta, luego prefijo, luego subcadena.
+     */
+    public List<Long> search(Long buildingId, String query) {
+        List<Match> matches = match(buildingId, query, Integer.MAX_VALUE);
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            ids.add(match.unitId);
+        }
+        return ids;
+    }
+
+    public List<UnitAutocompleteResponse> autocomplete(Long buildingId, String query, int limit) {
+        List<Match> matches = match(buildingId, query, limit);
+        List<UnitAutocompleteResponse> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            result.add(new UnitAutocompleteResponse(match.unitId, match.unitNumber));
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reloadAll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.units.number-index.refresh-interval-ms:600000}",
+            initialDelayString = "${app.units.number-index.refresh-interval-ms:600000}")
+    public void reloadAll() {
+        try {
+            long startGeneration = generation.get();
+            Map<Long, Map<Long, String>> numbersByBuilding = new HashMap<>();
+            for (UnitNumberProjection unit : unitRepository.findAllActiveUnitNumbers()) {
+                numbersByBuilding.computeIfAbsent(unit.getBuildingId(), id -> new HashMap<>())
+                        .put(unit.getId(), unit.getUnitNumber());
+            }
+
+            Set<Long> buildingIds = new HashSet<>(numbersByBuilding.keySet());
+            buildingIds.addAll(buildings.keySet());
+            for (Long buildingId : buildingIds) {
+                // compute bloquea la entrada: la comprobación y el reemplazo no se cruzan con un evento
+                buildings.compute(buildingId, (id, current) -> {
+                    if (lastChange.getOrDefault(id, 0L) > startGeneration) {
+                        return current;
+                    }
+                    Map<Long, String> numbers = numbersByBuilding.get(id);
+                    return numbers != null ? new BuildingIndex(numbers) : null;
+                });
+            }
+            lastChange.values().removeIf(changed -> changed <= startGeneration);
+            ready = true;
+
+            log.info("Unit number index loaded: {} buildings", numbersByBuilding.size());
+        } catch (Exception ex) {
+            log.error("Error loading unit number index: {}", ex.getMessage());
+        }
+    }
+
+    public void reloadBuilding(Long buildingId) {
+        Map<Long, String> numbers = new HashMap<>();
+        for (UnitNumberProjection unit : unitRepository.findActiveUnitNumbersByBuildingId(buildingId)) {
+            numbers.put(unit.getId(), unit.getUnitNumber());
+        }
+        buildings.compute(buildingId, (id, current) -> {
+            markChanged(id);
+            return numbers.isEmpty() ? null : new BuildingIndex(numbers);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnitChanged(UnitChangedEvent event) {
+        // Copy-on-write por edificio: las búsquedas concurrentes ven siempre un índice consistente
+        buildings.compute(event.buildingId(), (buildingId, current) -> {
+            markChanged(buildingId);
+            if (current != null && event.active() && event.unitNumber().equals(current.numbersById.get(event.unitId()))) {
+                return current; // asignaciones y cambios que no tocan el número
+            }
+            Map<Long, String> numbers = current != null ? new HashMap<>(current.numbersById) : new HashMap<>();
+            if (event.active()) {
+                numbers.put(event.unitId(), event.unitNumber());
+            } else {
+                numbers.remove(event.unitId());
+            }
+            return numbers.isEmpty() ? null : new BuildingIndex(numbers);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildingUnitsChanged(BuildingUnitsChangedEvent event) {
+        reloadBuilding(event.buildingId());
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "unit-number-index";
+    }
+
+    @Override
+    public Object getMetrics() {
+        long units = 0;
+        for (BuildingIndex index : buildings.values()) {
+            units += index.numbersById.size();
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("ready", ready);
+        metrics.put("buildings", buildings.size());
+        metrics.put("units", units);
+        metrics.put("searches", searches.sum());
+        return metrics;
+    }
+
+    private void markChanged(Long buildingId) {
+        lastChange.put(buildingId, generation.incrementAndGet());
+    }
+
+    private List<Match> match(Long buildingId, String query, int limit) {
+        searches.increment();
+        BuildingIndex index = buildings.get(buildingId);
+        String q = normalize(query);
+        if (index == null || q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (String key : index.candidates(q, limit)) {
+            String number = numberOf(key);
+            int position = number.indexOf(q);
+            if (position < 0) {
+                continue;
+            }
+            int rank = number.length() == q.length() ? 0 : position == 0 ? 1 : 2;
+            Long unitId = unitIdOf(key);
+            matches.add(new Match(unitId, index.numbersById.get(unitId), number, rank));
+        }
+
+        matches.sort(Match.ORDER);
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Clave = número normalizado + '\0' + id: admite números repetidos entre mayúsculas/minúsculas
+    private static String keyOf(String unitNumber, Long unitId) {
+        return normalize(unitNumber) + '\0' + unitId;
+    }
+
+    private static String numberOf(String key) {
+        return key.substring(0, key.indexOf('\0'));
+    }
+
+    private static Long unitIdOf(String key) {
+        return Long.valueOf(key.substring(key.indexOf('\0') + 1));
+    }
+
+    /**
+     * Índice inmutable de un edificio.
+     */
+    private static final class BuildingIndex {
+        private final Map<Long, String> numbersById;
+        private final NavigableSet<String> keys = new TreeSet<>();
+        private final Map<String, List<String>> keysByGram = new HashMap<>();
+
+        private BuildingIndex(Map<Long, String> numbersById) {
+            this.numbersById = numbersById;
+            numbersById.forEach((unitId, unitNumber) -> {
+                String key = keyOf(unitNumber, unitId);
+                keys.add(key);
+                String number = numberOf(key);
+                Set<String> grams = new HashSet<>();
+                for (int i = 0; i + GRAM <= number.length(); i++) {
+                    grams.add(number.substring(i, i + GRAM));
+                }
+                for (String gram : grams) {
+                    keysByGram.computeIfAbsent(gram, g -> new ArrayList<>()).add(key);
+                }
+            });
+        }
+
+        /**
+         * Superconjunto de las claves que contienen q. Con consultas de al menos
+         * 3 caracteres usa la lista de trigramas más corta. Con consultas más cortas,
+         * si hay al menos limit claves que empiezan por q bastan (un prefijo siempre
+         * ordena antes que una subcadena); si no, todas las claves.
+         */
+        private Collection<String> candidates(String q, int limit) {
+            if (q.length() < GRAM) {
+                // Todas las que empiezan por q: el orden del TreeSet no es el de relevancia
+                NavigableSet<String> prefixed = keys.subSet(q, true, q + Character.MAX_VALUE, false);
+                return prefixed.size() >= limit ? prefixed : keys;
+            }
+            List<String> shortest = null;
+            for (int i = 0; i + GRAM <= q.length(); i++) {
+                List<String> posting = keysByGram.get(q.substring(i, i + GRAM));
+                if (posting == null) {
+                    return Collections.emptyList();
+                }
+                if (shortest == null || posting.size() < shortest.size()) {
+                    shortest = posting;
+                }
+            }
+            return shortest;
+        }
+    }
+
+    private record Match(Long unitId, String unitNumber, String normalized, int rank) {
+        private static final Comparator<Match> ORDER = Comparator
+                .comparingInt(Match::rank)
+                .thenComparingInt(match -> match.normalized.length())
+                .thenComparing(Match::normalized);
+    }
+}
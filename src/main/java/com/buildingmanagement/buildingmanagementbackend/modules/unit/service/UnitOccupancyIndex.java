@@ -0,0 +1,370 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.AvailableUnitResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitOccupancyProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice en memoria de ocupación (unidad con propietario) por edificio y tipo de unidad.
+ * Cada tipo asigna ordinales densos a sus unidades, en orden de número, y guarda dos
+ * bitsets: unidades presentes y unidades ocupadas. Libres = presentes y no ocupadas.
+ * Una unidad creada (o renumerada) que no va al final reordena los ordinales de su tipo.
+ * Se carga al iniciar, se actualiza tras el commit de cada cambio de unidad y se
+ * verifica periódicamente contra la base, unidad por unidad, recargando los edificios
+ * con diferencias.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnitOccupancyIndex implements MetricsSource {
+
+    private static final int RELOAD_ATTEMPTS = 3;
+
+    private final UnitRepository unitRepository;
+
+    private final Map<Long, BuildingOccupancy> buildings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder driftRepairs = new LongAdder();
+
+    // Cada cambio de un edificio avanza la generación y la anota en lastChange: una carga
+    // que empezó antes no pisa el índice de ese edificio (mismo criterio que BuildingInfoCache)
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Long> lastChange = new ConcurrentHashMap<>();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean contains(Long buildingId) {
+        return buildings.containsKey(buildingId);
+    }
+
+    /**
+     * Primeras unidades libres del tipo, en orden de número de unidad.
+     */
+    public List<AvailableUnitResponse> firstFree(Long buildingId, UnitType unitType, int limit) {
+        queries.increment();
+        BuildingOccupancy building = buildings.get(buildingId);
+        return building != null ? building.firstFree(unitType, limit) : Collections.emptyList();
+    }
+
+    /**
+     * {total, ocupadas} del tipo en el edificio.
+     */
+    public long[] counts(Long buildingId, UnitType unitType) {
+        queries.increment();
+        BuildingOccupancy building = buildings.get(buildingId);
+        return building != null ? building.counts(unitType) : new long[2];
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reloadAll();
+    }
+
+    public void reloadAll() {
+        try {
+            long startGeneration = generation.get();
+            Map<Long, List<UnitOccupancyProjection>> unitsByBuilding = groupByBuilding(unitRepository.findAllActiveUnitOccupancy());
+
+            Set<Long> buildingIds = new HashSet<>(unitsByBuilding.keySet());
+            buildingIds.addAll(buildings.keySet());
+            for (Long buildingId : buildingIds) {
+                replaceIfUnchanged(buildingId, unitsByBuilding.get(buildingId), startGeneration, false);
+            }
+            lastChange.values().removeIf(changed -> changed <= startGeneration);
+            ready = true;
+
+            log.info("Unit occupancy index loaded: {} buildings", unitsByBuilding.size());
+        } catch (Exception ex) {
+            log.error("Error loading unit occupancy index: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Si llega un cambio de unidad mientras se lee el edificio se vuelve a leer; tras varios
+     * intentos se deja como está y lo corrige la verificación periódica.
+     */
+    public void reloadBuilding(Long buildingId) {
+        for (int attempt = 0; attempt < RELOAD_ATTEMPTS; attempt++) {
+            long startGeneration = generation.get();
+            List<UnitOccupancyProjection> units = unitRepository.findActiveUnitOccupancyByBuildingId(buildingId);
+            if (replaceIfUnchanged(buildingId, units, startGeneration, true)) {
+                return;
+            }
+        }
+        log.debug("Unit occupancy for building {} kept changing during reload", buildingId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnitChanged(UnitChangedEvent event) {
+        buildings.compute(event.buildingId(), (buildingId, current) -> {
+            markChanged(buildingId);
+            if (current == null && !event.active()) {
+                return null;
+            }
+            BuildingOccupancy building = current != null ? current : new BuildingOccupancy(List.of());
+            building.apply(event);
+            return building;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildingUnitsChanged(BuildingUnitsChangedEvent event) {
+        reloadBuilding(event.buildingId());
+    }
+
+    /**
+     * Compara el índice con units unidad por unidad (tipo, número y ocupación) y recarga
+     * los edificios que difieren: cambios de otros nodos o eventos perdidos. Los edificios
+     * modificados mientras se leía la base se dejan para la siguiente pasada.
+     */
+    @Scheduled(fixedDelayString = "${app.units.occupancy-index.verify-interval-ms:300000}",
+            initialDelayString = "${app.units.occupancy-index.verify-interval-ms:300000}")
+    public void verify() {
+        if (!ready) {
+            reloadAll();
+            return;
+        }
+        try {
+            long startGeneration = generation.get();
+            Map<Long, List<UnitOccupancyProjection>> unitsByBuilding = groupByBuilding(unitRepository.findAllActiveUnitOccupancy());
+
+            Set<Long> buildingIds = new HashSet<>(unitsByBuilding.keySet());
+            buildingIds.addAll(buildings.keySet());
+
+            int repaired = 0;
+            for (Long buildingId : buildingIds) {
+                List<UnitOccupancyProjection> units = unitsByBuilding.getOrDefault(buildingId, List.of());
+                BuildingOccupancy building = buildings.get(buildingId);
+                boolean matches = building != null ? building.matches(units) : units.isEmpty();
+                if (!matches && replaceIfUnchanged(buildingId, units, startGeneration, false)) {
+                    repaired++;
+                }
+            }
+
+            if (repaired > 0) {
+                driftRepairs.add(repaired);
+                log.warn("Unit occupancy index drift repaired in {} buildings", repaired);
+            }
+        } catch (Exception ex) {
+            log.error("Error verifying unit occupancy index: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "unit-occupancy-index";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("ready", ready);
+        metrics.put("buildings", buildings.size());
+        metrics.put("queries", queries.sum());
+        metrics.put("driftRepairs", driftRepairs.sum());
+        return metrics;
+    }
+
+    private void markChanged(Long buildingId) {
+        lastChange.put(buildingId, generation.incrementAndGet());
+    }
+
+    /**
+     * Reemplaza el edificio con lo leído de la base salvo que haya cambiado desde
+     * startGeneration. compute bloquea la entrada: no se cruza con onUnitChanged.
+     * Una recarga puntual cuenta como cambio, para que una carga completa anterior no la pise.
+     */
+    private boolean replaceIfUnchanged(Long buildingId, List<UnitOccupancyProjection> units,
+                                       long startGeneration, boolean markAsChange) {
+        boolean[] replaced = new boolean[1];
+        buildings.compute(buildingId, (id, current) -> {
+            if (lastChange.getOrDefault(id, 0L) > startGeneration) {
+                return current;
+            }
+            if (markAsChange) {
+                markChanged(id);
+            }
+            replaced[0] = true;
+            return units == null || units.isEmpty() ? null : new BuildingOccupancy(units);
+        });
+        return replaced[0];
+    }
+
+    private static Map<Long, List<UnitOccupancyProjection>> groupByBuilding(List<UnitOccupancyProjection> units) {
+        Map<Long, List<UnitOccupancyProjection>> unitsByBuilding = new HashMap<>();
+        for (UnitOccupancyProjection unit : units) {
+            unitsByBuilding.computeIfAbsent(unit.getBuildingId(), id -> new ArrayList<>()).add(unit);
+        }
+        return unitsByBuilding;
+    }
+
+    // Orden de número sin distinguir mayúsculas, como la collation de units.unit_number
+    private static int compareNumbers(String a, long aId, String b, long bId) {
+        int byNumber = a.compareToIgnoreCase(b);
+        return byNumber != 0 ? byNumber : Long.compare(aId, bId);
+    }
+
+    /**
+     * Ocupación de un edificio. Los accesos se sincronizan sobre la instancia:
+     * son operaciones de bits sobre unos cientos de unidades.
+     */
+    private static final class BuildingOccupancy {
+        private final Map<UnitType, TypeSlots> slotsByType = new EnumMap<>(UnitType.class);
+        private final Map<Long, Slot> slotByUnit = new HashMap<>();
+
+        BuildingOccupancy(List<UnitOccupancyProjection> units) {
+            List<UnitOccupancyProjection> sorted = new ArrayList<>(units);
+            sorted.sort((a, b) -> compareNumbers(a.getUnitNumber(), a.getId(), b.getUnitNumber(), b.getId()));
+            for (UnitOccupancyProjection unit : sorted) {
+                TypeSlots slots = slotsByType.computeIfAbsent(unit.getUnitType(), type -> new TypeSlots());
+                int ordinal = slots.add(unit.getId(), unit.getUnitNumber(), unit.getOwnerId() != null);
+                slotByUnit.put(unit.getId(), new Slot(unit.getUnitType(), slots, ordinal));
+            }
+        }
+
+        synchronized boolean matches(List<UnitOccupancyProjection> units) {
+            if (units.size() != slotByUnit.size()) {
+                return false;
+            }
+            for (UnitOccupancyProjection unit : units) {
+                Slot slot = slotByUnit.get(unit.getId());
+                if (slot == null || slot.type() != unit.getUnitType()
+                        || !slot.slots().unitNumbers[slot.ordinal()].equals(unit.getUnitNumber())
+                        || slot.slots().occupied.get(slot.ordinal()) != (unit.getOwnerId() != null)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized void apply(UnitChangedEvent event) {
+            Slot slot = slotByUnit.get(event.unitId());
+            if (slot != null && (!event.active() || slot.type() != event.unitType()
+                    || !slot.slots().unitNumbers[slot.ordinal].equals(event.unitNumber()))) {
+                // Baja, cambio de tipo o de número: se libera el ordinal y se vuelve a insertar en orden
+                slot.slots().remove(slot.ordinal);
+                slotByUnit.remove(event.unitId());
+                if (slot.slots().isSparse()) {
+                    rebuild(slot.type());
+                }
+                slot = null;
+            }
+            if (!event.active()) {
+                return;
+            }
+            if (slot == null) {
+                put(event.unitId(), event.unitNumber(), event.unitType(), event.occupied());
+            } else {
+                slot.slots().occupied.set(slot.ordinal, event.occupied());
+            }
+        }
+
+        synchronized List<AvailableUnitResponse> firstFree(UnitType unitType, int limit) {
+            TypeSlots slots = slotsByType.get(unitType);
+            if (slots == null || limit <= 0) {
+                return Collections.emptyList();
+            }
+            List<AvailableUnitResponse> result = new ArrayList<>(Math.min(limit, 64));
+            // nextClearBit salta las ocupadas de palabra en palabra; los ordinales libres
+            // (unidades dadas de baja) también están a 0 en occupied y se descartan con present
+            for (int i = slots.occupied.nextClearBit(0); i < slots.size && result.size() < limit; i = slots.occupied.nextClearBit(i + 1)) {
+                if (slots.present.get(i)) {
+                    result.add(new AvailableUnitResponse(slots.unitIds[i], slots.unitNumbers[i], unitType));
+                }
+            }
+            return result;
+        }
+
+        synchronized long[] counts(UnitType unitType) {
+            TypeSlots slots = slotsByType.get(unitType);
+            return slots == null
+                    ? new long[2]
+                    : new long[]{slots.present.cardinality(), slots.occupied.cardinality()};
+        }
+
+        // Al final si el número ordena después de la última unidad del tipo (el caso habitual
+        // al crear unidades correlativas); si no, se reasignan los ordinales del tipo en orden
+        private void put(Long unitId, String unitNumber, UnitType unitType, boolean occupied) {
+            TypeSlots slots = slotsByType.computeIfAbsent(unitType, type -> new TypeSlots());
+            int last = slots.present.previousSetBit(slots.size - 1);
+            boolean inOrder = last < 0 || compareNumbers(slots.unitNumbers[last], slots.unitIds[last], unitNumber, unitId) < 0;
+            slotByUnit.put(unitId, new Slot(unitType, slots, slots.add(unitId, unitNumber, occupied)));
+            if (!inOrder) {
+                rebuild(unitType);
+            }
+        }
+
+        // Reasigna los ordinales del tipo en orden de número, sin huecos
+        private void rebuild(UnitType unitType) {
+            TypeSlots slots = slotsByType.get(unitType);
+            List<Integer> live = new ArrayList<>(slots.present.cardinality());
+            for (int i = slots.present.nextSetBit(0); i >= 0; i = slots.present.nextSetBit(i + 1)) {
+                live.add(i);
+            }
+            live.sort((a, b) -> compareNumbers(slots.unitNumbers[a], slots.unitIds[a], slots.unitNumbers[b], slots.unitIds[b]));
+
+            TypeSlots rebuilt = new TypeSlots();
+            for (int i : live) {
+                long unitId = slots.unitIds[i];
+                int ordinal = rebuilt.add(unitId, slots.unitNumbers[i], slots.occupied.get(i));
+                slotByUnit.put(unitId, new Slot(unitType, rebuilt, ordinal));
+            }
+            slotsByType.put(unitType, rebuilt);
+        }
+    }
+
+    private static final class TypeSlots {
+        private long[] unitIds = new long[16];
+        private String[] unitNumbers = new String[16];
+        private int size;
+        private final BitSet present = new BitSet();
+        private final BitSet occupied = new BitSet();
+
+        int add(long unitId, String unitNumber, boolean isOccupied) {
+            if (size == unitIds.length) {
+                unitIds = Arrays.copyOf(unitIds, size * 2);
+                unitNumbers = Arrays.copyOf(unitNumbers, size * 2);
+            }
+            int ordinal = size++;
+            unitIds[ordinal] = unitId;
+            unitNumbers[ordinal] = unitNumber;
+            present.set(ordinal);
+            occupied.set(ordinal, isOccupied);
+            return ordinal;
+        }
+
+        void remove(int ordinal) {
+            present.clear(ordinal);
+            occupied.clear(ordinal);
+            unitNumbers[ordinal] = null;
+        }
+
+        // Más de la mitad de los ordinales libres
+        boolean isSparse() {
+            return size >= 64 && present.cardinality() * 2 <= size;
+        }
+    }
+
+    private record Slot(UnitType type, TypeSlots slots, int ordinal) {
+    }
+}
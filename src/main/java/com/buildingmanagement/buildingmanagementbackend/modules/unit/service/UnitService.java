@@ -1,6 +1,8 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.*;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -13,10 +15,21 @@ public interface UnitService {
 
     Page<UnitListResponse> getUnitsByBuilding(Long buildingId, UnitSearchRequest searchRequest);
 
+    PageResponse<UnitListResponse> scrollUnitsByBuilding(Long buildingId, UnitSearchRequest searchRequest);
+
+    List<UnitAutocompleteResponse> autocompleteUnitNumbers(Long buildingId, String query, int limit);
+
     List<UnitListResponse> getUnitsByOwner(Long ownerId);
 
     List<UnitListResponse> getUnitsByTenant(Long tenantId);
 
+    List<UnitListResponse> getMyUnits(Long userId);
+
+    /**
+     * ETag débil del listado de "mis unidades", calculado sin cargar las unidades.
+     */
+    String getMyUnitsETag(Long userId);
+
     UnitResponse updateUnit(Long id, UnitUpdateRequest request);
 
     void deleteUnit(Long id);
@@ -31,6 +44,10 @@ public interface UnitService {
 
     UnitSummaryResponse getBuildingSummary(Long buildingId);
 
+    List<AvailableUnitResponse> getAvailableUnits(Long buildingId, UnitType unitType, int limit);
+
+    List<UnitOccupancyResponse> getOccupancy(Long buildingId);
+
     boolean existsByBuildingIdAndUnitNumber(Long buildingId, String unitNumber);
 
     boolean existsByBuildingIdAndUnitNumberAndIdNot(Long buildingId, String unitNumber, Long id);
@@ -1,28 +1,50 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitRelation;
 import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
-import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
 import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
 import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ServiceUnavailableException;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
 import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.*;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.UnitSnapshot;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitOccupantsChangedEvent;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.mapper.UnitMapper;
 import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitSpecifications;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserNameProjection;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
+import com.buildingmanagement.buildingmanagementbackend.shared.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,6 +56,20 @@ public class UnitServiceImpl implements UnitService {
     private final BuildingRepository buildingRepository;
     private final UserRepository userRepository;
     private final UnitMapper unitMapper;
+    private final BuildingUnitSummaryProjector summaryProjector;
+    private final UnitNumberIndex unitNumberIndex;
+    private final UnitOccupancyIndex occupancyIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_AUTOCOMPLETE_RESULTS = 50;
+    private static final int MAX_AVAILABLE_RESULTS = 200;
+
+    // Campos ordenables en modo cursor: NOT NULL y cubiertos por uk_units_building_number
+    // o idx_units_building_active_created. unit_type queda fuera: MySQL ordena un ENUM
+    // por su posición pero lo compara como texto.
+    private static final KeysetPaginator<Unit> UNIT_KEYSET = new KeysetPaginator<Unit>(Unit::getId)
+            .field("unitNumber", Unit::getUnitNumber, Function.identity())
+            .field("createdAt", Unit::getCreatedAt, LocalDateTime::parse);
 
     @Override
     @Transactional
@@ -62,6 +98,9 @@ public class UnitServiceImpl implements UnitService {
         // Crear y guardar la unidad
         Unit unit = unitMapper.toEntity(request, buildingId);
         Unit savedUnit = unitRepository.save(unit);
+        summaryProjector.apply(null, UnitSnapshot.of(savedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(savedUnit));
+        publishOccupantsChanged(Collections.emptySet(), savedUnit);
 
         log.info("Unit created successfully with id: {}", savedUnit.getId());
 
@@ -104,23 +143,45 @@ public class UnitServiceImpl implements UnitService {
         Page<Unit> unitsPage;
 
         // Aplicar filtros
-        if (StringUtils.hasText(searchRequest.getUnitNumber())) {
-            unitsPage = unitRepository.findByBuildingIdAndUnitNumberContainingIgnoreCase(
-                    buildingId, searchRequest.getUnitNumber(), pageable);
+        if (StringUtils.hasText(searchRequest.getUnitNumber()) && unitNumberIndex.isReady()) {
+            // Búsqueda en el índice en memoria, ordenada por relevancia
+            unitsPage = searchByUnitNumber(buildingId, searchRequest.getUnitNumber(),
+                    PageRequest.of(searchRequest.getPage(), searchRequest.getSize()));
         } else {
-            unitsPage = unitRepository.findUnitsByFilters(
-                    buildingId,
-                    searchRequest.getUnitType(),
-                    searchRequest.getHasOwner(),
-                    pageable);
+            // Predicado armado solo con los filtros presentes
+            unitsPage = unitRepository.findAll(UnitSpecifications.forSearch(buildingId, searchRequest), pageable);
+        }
+
+        // Convertir a DTOs con los nombres de toda la página resueltos en una sola consulta
+        Map<Long, String> userNames = loadUserNames(unitsPage.getContent());
+        return unitsPage.map(unit -> toListResponse(unit, userNames));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<UnitListResponse> scrollUnitsByBuilding(Long buildingId, UnitSearchRequest searchRequest) {
+        log.debug("Scrolling units for building {} with search: {}", buildingId, searchRequest);
+
+        if (!buildingRepository.existsById(buildingId)) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
         }
 
-        // Convertir a DTOs y enriquecer con nombres
-        return unitsPage.map(unit -> {
-            UnitListResponse response = unitMapper.toListResponse(unit);
-            enrichUnitListResponse(response, unit);
-            return response;
-        });
+        KeysetPaginator.Query<Unit> page = UNIT_KEYSET.query(searchRequest.getSortBy(),
+                searchRequest.getSortDirection(), searchRequest.getCursor(), searchRequest.getSize());
+
+        List<Unit> units = unitRepository.findBy(
+                page.after(UnitSpecifications.forSearch(buildingId, searchRequest)),
+                query -> query.sortBy(page.sort()).limit(page.limit()).all());
+
+        return page.toResponse(units, this::toListResponses);
+    }
+
+    @Override
+    public List<UnitAutocompleteResponse> autocompleteUnitNumbers(Long buildingId, String query, int limit) {
+        if (!unitNumberIndex.isReady()) {
+            throw new ServiceUnavailableException("Unit number index is still loading");
+        }
+        return unitNumberIndex.autocomplete(buildingId, query, Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_RESULTS));
     }
 
     @Override
@@ -130,13 +191,7 @@ public class UnitServiceImpl implements UnitService {
 
         List<Unit> units = unitRepository.findByOwnerIdAndIsActiveTrue(ownerId);
 
-        return units.stream()
-                .map(unit -> {
-                    UnitListResponse response = unitMapper.toListResponse(unit);
-                    enrichUnitListResponse(response, unit);
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toListResponses(units);
     }
 
     @Override
@@ -146,13 +201,36 @@ public class UnitServiceImpl implements UnitService {
 
         List<Unit> units = unitRepository.findByTenantIdAndIsActiveTrue(tenantId);
 
-        return units.stream()
-                .map(unit -> {
-                    UnitListResponse response = unitMapper.toListResponse(unit);
-                    enrichUnitListResponse(response, unit);
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toListResponses(units);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UnitListResponse> getMyUnits(Long userId) {
+        log.debug("Getting units owned or rented by user: {}", userId);
+
+        List<Unit> units = unitRepository.findActiveByOwnerIdOrTenantId(userId);
+        Map<Long, String> userNames = loadUserNames(units);
+
+        List<UnitListResponse> responses = new ArrayList<>(units.size());
+        for (Unit unit : units) {
+            UnitListResponse response = toListResponse(unit, userNames);
+            boolean owner = userId.equals(unit.getOwnerId());
+            boolean tenant = userId.equals(unit.getTenantId());
+            response.setRelation(owner && tenant ? UnitRelation.OWNER_AND_TENANT
+                    : owner ? UnitRelation.OWNER : UnitRelation.TENANT);
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getMyUnitsETag(Long userId) {
+        UnitVersionProjection version = unitRepository.getVersionByOwnerIdOrTenantId(userId);
+        String raw = userId + ":" + version.getUnitCount() + ":" + version.getLastUnitUpdate()
+                + ":" + version.getLastOwnerUpdate() + ":" + version.getLastTenantUpdate();
+        return "W/\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     @Override
@@ -160,8 +238,10 @@ public class UnitServiceImpl implements UnitService {
     public UnitResponse updateUnit(Long id, UnitUpdateRequest request) {
         log.info("Updating unit with id: {}", id);
 
-        Unit unit = unitRepository.findById(id)
+        Unit unit = unitRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + id));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         // Verificar que el número de unidad sea único (excluyendo la unidad actual)
         if (unitRepository.existsByBuildingIdAndUnitNumberAndIdNot(
@@ -182,6 +262,9 @@ public class UnitServiceImpl implements UnitService {
         // Actualizar campos
         unitMapper.updateEntityFromRequest(request, unit);
         Unit updatedUnit = unitRepository.save(unit);
+        summaryProjector.apply(before, UnitSnapshot.of(updatedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(updatedUnit));
+        publishOccupantsChanged(occupants, updatedUnit);
 
         log.info("Unit updated successfully with id: {}", updatedUnit.getId());
 
@@ -193,12 +276,17 @@ public class UnitServiceImpl implements UnitService {
     public void deleteUnit(Long id) {
         log.info("Deleting unit with id: {}", id);
 
-        Unit unit = unitRepository.findById(id)
+        Unit unit = unitRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + id));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         // TODO: Verificar que no tenga cuotas o pagos pendientes antes de eliminar
 
         unitRepository.delete(unit);
+        summaryProjector.apply(before, null);
+        eventPublisher.publishEvent(UnitChangedEvent.deleted(unit));
+        publishOccupantsChanged(occupants, null);
         log.info("Unit deleted successfully with id: {}", id);
     }
 
@@ -207,13 +295,18 @@ public class UnitServiceImpl implements UnitService {
     public UnitResponse assignOwner(Long unitId, UnitAssignmentRequest request) {
         log.info("Assigning owner {} to unit {}", request.getUserId(), unitId);
 
-        Unit unit = unitRepository.findById(unitId)
+        Unit unit = unitRepository.findByIdForUpdate(unitId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + unitId));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         validateUserAsOwnerOrTenant(request.getUserId(), "owner");
 
         unit.setOwnerId(request.getUserId());
         Unit updatedUnit = unitRepository.save(unit);
+        summaryProjector.apply(before, UnitSnapshot.of(updatedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(updatedUnit));
+        publishOccupantsChanged(occupants, updatedUnit);
 
         log.info("Owner assigned successfully to unit {}", unitId);
 
@@ -225,13 +318,18 @@ public class UnitServiceImpl implements UnitService {
     public UnitResponse assignTenant(Long unitId, UnitAssignmentRequest request) {
         log.info("Assigning tenant {} to unit {}", request.getUserId(), unitId);
 
-        Unit unit = unitRepository.findById(unitId)
+        Unit unit = unitRepository.findByIdForUpdate(unitId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + unitId));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         validateUserAsOwnerOrTenant(request.getUserId(), "tenant");
 
         unit.setTenantId(request.getUserId());
         Unit updatedUnit = unitRepository.save(unit);
+        summaryProjector.apply(before, UnitSnapshot.of(updatedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(updatedUnit));
+        publishOccupantsChanged(occupants, updatedUnit);
 
         log.info("Tenant assigned successfully to unit {}", unitId);
 
@@ -243,11 +341,16 @@ public class UnitServiceImpl implements UnitService {
     public UnitResponse removeOwner(Long unitId) {
         log.info("Removing owner from unit {}", unitId);
 
-        Unit unit = unitRepository.findById(unitId)
+        Unit unit = unitRepository.findByIdForUpdate(unitId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + unitId));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         unit.setOwnerId(null);
         Unit updatedUnit = unitRepository.save(unit);
+        summaryProjector.apply(before, UnitSnapshot.of(updatedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(updatedUnit));
+        publishOccupantsChanged(occupants, updatedUnit);
 
         log.info("Owner removed successfully from unit {}", unitId);
 
@@ -259,11 +362,16 @@ public class UnitServiceImpl implements UnitService {
     public UnitResponse removeTenant(Long unitId) {
         log.info("Removing tenant from unit {}", unitId);
 
-        Unit unit = unitRepository.findById(unitId)
+        Unit unit = unitRepository.findByIdForUpdate(unitId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found with id: " + unitId));
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        Set<Long> occupants = occupants(unit);
 
         unit.setTenantId(null);
         Unit updatedUnit = unitRepository.save(unit);
+        summaryProjector.apply(before, UnitSnapshot.of(updatedUnit));
+        eventPublisher.publishEvent(UnitChangedEvent.saved(updatedUnit));
+        publishOccupantsChanged(occupants, updatedUnit);
 
         log.info("Tenant removed successfully from unit {}", unitId);
 
@@ -275,28 +383,71 @@ public class UnitServiceImpl implements UnitService {
     public UnitSummaryResponse getBuildingSummary(Long buildingId) {
         log.debug("Getting summary for building: {}", buildingId);
 
-        Building building = buildingRepository.findById(buildingId)
+        // Con la proyección habilitada es una búsqueda por PK; si no, una única consulta agregada
+        UnitCountersProjection counters = summaryProjector.find(buildingId)
+                .or(() -> unitRepository.getBuildingCounters(buildingId))
                 .orElseThrow(() -> new ResourceNotFoundException("Building not found with id: " + buildingId));
 
-        Long totalUnits = unitRepository.countByBuildingIdAndIsActiveTrue(buildingId);
-        Long occupiedUnits = unitRepository.countOccupiedUnitsByBuilding(buildingId);
-        Long apartmentUnits = unitRepository.countByBuildingIdAndUnitTypeAndIsActiveTrue(buildingId, UnitType.APARTMENT);
-        Long parkingUnits = unitRepository.countByBuildingIdAndUnitTypeAndIsActiveTrue(buildingId, UnitType.PARKING);
-        Long storageUnits = unitRepository.countByBuildingIdAndUnitTypeAndIsActiveTrue(buildingId, UnitType.STORAGE);
-        Double totalArea = unitRepository.getTotalAreaByBuilding(buildingId);
-
         return unitMapper.toSummaryResponse(
                 buildingId,
-                building.getName(),
-                totalUnits,
-                occupiedUnits,
-                apartmentUnits,
-                parkingUnits,
-                storageUnits,
-                totalArea != null ? totalArea : 0.0
+                counters.getBuildingName(),
+                counters.getTotalUnits(),
+                counters.getOccupiedUnits(),
+                counters.getApartmentUnits(),
+                counters.getParkingUnits(),
+                counters.getStorageUnits(),
+                counters.getCommercialUnits(),
+                counters.getTotalArea() != null ? counters.getTotalArea() : 0.0
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailableUnitResponse> getAvailableUnits(Long buildingId, UnitType unitType, int limit) {
+        int max = Math.min(Math.max(limit, 1), MAX_AVAILABLE_RESULTS);
+
+        if (occupancyIndex.isReady()) {
+            List<AvailableUnitResponse> available = occupancyIndex.firstFree(buildingId, unitType, max);
+            if (available.isEmpty()) {
+                verifyBuildingExists(buildingId);
+            }
+            return available;
+        }
+
+        // Índice aún cargando: se consulta la base
+        verifyBuildingExists(buildingId);
+        return unitRepository.findAvailableUnitsByBuilding(buildingId).stream()
+                .filter(unit -> unit.getUnitType() == unitType)
+                .sorted(Comparator.comparing(Unit::getUnitNumber))
+                .limit(max)
+                .map(unit -> new AvailableUnitResponse(unit.getId(), unit.getUnitNumber(), unit.getUnitType()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UnitOccupancyResponse> getOccupancy(Long buildingId) {
+        Map<UnitType, long[]> counts = new EnumMap<>(UnitType.class);
+
+        if (occupancyIndex.isReady() && occupancyIndex.contains(buildingId)) {
+            for (UnitType type : UnitType.values()) {
+                counts.put(type, occupancyIndex.counts(buildingId, type));
+            }
+        } else {
+            verifyBuildingExists(buildingId);
+            for (UnitOccupancyCountProjection row : unitRepository.countActiveOccupancyByBuildingId(buildingId)) {
+                counts.put(row.getUnitType(), new long[]{row.getTotalUnits(), row.getOccupiedUnits()});
+            }
+        }
+
+        List<UnitOccupancyResponse> response = new ArrayList<>();
+        for (UnitType type : UnitType.values()) {
+            long[] typeCounts = counts.getOrDefault(type, new long[2]);
+            response.add(unitMapper.toOccupancyResponse(type, typeCounts[0], typeCounts[1]));
+        }
+        return response;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByBuildingIdAndUnitNumber(Long buildingId, String unitNumber) {
@@ -320,53 +471,114 @@ public class UnitServiceImpl implements UnitService {
         }
 
         // Validar que el usuario puede ser propietario o inquilino
-        if (role.equals("owner") &&
-                !user.getRole().equals(UserRole.OWNER) &&
-                !user.getRole().equals(UserRole.ADMIN)) {
+        if (role.equals("owner") && !UnitAssignmentRules.canBeOwner(user.getRole())) {
             throw new BusinessException("User must be OWNER or ADMIN to be assigned as owner");
         }
 
-        if (role.equals("tenant") &&
-                !user.getRole().equals(UserRole.TENANT) &&
-                !user.getRole().equals(UserRole.OWNER) &&
-                !user.getRole().equals(UserRole.ADMIN)) {
+        if (role.equals("tenant") && !UnitAssignmentRules.canBeTenant(user.getRole())) {
             throw new BusinessException("User must be TENANT, OWNER or ADMIN to be assigned as tenant");
         }
     }
 
-    private UnitResponse enrichUnitResponse(UnitResponse response) {
-        // Agregar nombre del edificio
-        if (response.getBuildingId() != null) {
-            buildingRepository.findById(response.getBuildingId())
-                    .ifPresent(building -> response.setBuildingName(building.getName()));
+    private Page<Unit> searchByUnitNumber(Long buildingId, String unitNumber, Pageable pageable) {
+        List<Long> rankedIds = unitNumberIndex.search(buildingId, unitNumber);
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        Map<Long, Unit> unitsById = new HashMap<>();
+        for (Unit unit : unitRepository.findAllById(pageIds)) {
+            unitsById.put(unit.getId(), unit);
+        }
+
+        // Se respeta el orden del índice; el total sale del índice (sin COUNT)
+        List<Unit> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            Unit unit = unitsById.get(id);
+            if (unit != null) {
+                content.add(unit);
+            }
         }
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
 
-        // Agregar nombre del propietario
-        if (response.getOwnerId() != null) {
-            userRepository.findById(response.getOwnerId())
-                    .ifPresent(owner -> response.setOwnerName(owner.getName()));
+    private static Set<Long> occupants(Unit unit) {
+        Set<Long> userIds = new HashSet<>();
+        if (unit != null && unit.getOwnerId() != null) {
+            userIds.add(unit.getOwnerId());
+        }
+        if (unit != null && unit.getTenantId() != null) {
+            userIds.add(unit.getTenantId());
         }
+        return userIds;
+    }
 
-        // Agregar nombre del inquilino
-        if (response.getTenantId() != null) {
-            userRepository.findById(response.getTenantId())
-                    .ifPresent(tenant -> response.setTenantName(tenant.getName()));
+    // Propietarios e inquilinos antes y después: su alcance de edificios puede haber cambiado
+    private void publishOccupantsChanged(Set<Long> before, Unit after) {
+        Set<Long> userIds = new HashSet<>(before);
+        userIds.addAll(occupants(after));
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(new UnitOccupantsChangedEvent(userIds));
         }
+    }
+
+    private UnitResponse enrichUnitResponse(UnitResponse response) {
+        // Nombres de edificio, propietario e inquilino en una sola consulta
+        unitRepository.findDisplayNames(response.getBuildingId(), response.getOwnerId(), response.getTenantId())
+                .ifPresent(names -> {
+                    response.setBuildingName(names.getBuildingName());
+                    response.setOwnerName(names.getOwnerName());
+                    response.setTenantName(names.getTenantName());
+                });
 
         return response;
     }
 
-    private void enrichUnitListResponse(UnitListResponse response, Unit unit) {
-        // Agregar nombre del propietario
-        if (unit.getOwnerId() != null) {
-            userRepository.findById(unit.getOwnerId())
-                    .ifPresent(owner -> response.setOwnerName(owner.getName()));
+    private void verifyBuildingExists(Long buildingId) {
+        if (!buildingRepository.existsById(buildingId)) {
+            throw new ResourceNotFoundException("Building not found with id: " + buildingId);
         }
+    }
+
+    private List<UnitListResponse> toListResponses(List<Unit> units) {
+        Map<Long, String> userNames = loadUserNames(units);
+        return units.stream()
+                .map(unit -> toListResponse(unit, userNames))
+                .collect(Collectors.toList());
+    }
 
-        // Agregar nombre del inquilino
+    private UnitListResponse toListResponse(Unit unit, Map<Long, String> userNames) {
+        UnitListResponse response = unitMapper.toListResponse(unit);
+        if (unit.getOwnerId() != null) {
+            response.setOwnerName(userNames.get(unit.getOwnerId()));
+        }
         if (unit.getTenantId() != null) {
-            userRepository.findById(unit.getTenantId())
-                    .ifPresent(tenant -> response.setTenantName(tenant.getName()));
+            response.setTenantName(userNames.get(unit.getTenantId()));
+        }
+        return response;
+    }
+
+    // Propietarios e inquilinos de todas las unidades en una sola consulta (evita N+1)
+    private Map<Long, String> loadUserNames(List<Unit> units) {
+        Set<Long> userIds = new HashSet<>();
+        for (Unit unit : units) {
+            if (unit.getOwnerId() != null) {
+                userIds.add(unit.getOwnerId());
+            }
+            if (unit.getTenantId() != null) {
+                userIds.add(unit.getTenantId());
+            }
+        }
+
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (UserNameProjection user : userRepository.findNamesByIdIn(userIds)) {
+            names.put(user.getId(), user.getName());
         }
+        return names;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.user.dto;
+
+/**
+ * Proyección liviana (id + nombre) para mostrar usuarios en listados sin cargar la entidad.
+ */
+public interface UserNameProjection {
+    Long getId();
+    String getName();
+}
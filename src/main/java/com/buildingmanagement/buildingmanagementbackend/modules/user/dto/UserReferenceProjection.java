@@ -0,0 +1,13 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.user.dto;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+
+/**
+ * Datos mínimos para validar un usuario como propietario o inquilino.
+ */
+public interface UserReferenceProjection {
+    Long getId();
+    String getEmail();
+    UserRole getRole();
+    Boolean getIsActive();
+}
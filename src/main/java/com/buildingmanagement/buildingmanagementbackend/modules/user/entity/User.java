@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,33 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.user.entity;
+
+import com.buildingmanagement.buildingmanagementbackend.common.utils.TransactionUtils;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.service.UserService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Invalida el UserPrincipal cacheado cuando se modifica o elimina un usuario.
+ * Se invalida de inmediato y otra vez tras el commit, para no dejar en cache
+ * una lectura concurrente hecha antes de confirmar la transacción.
+ */
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    // Lazy: el listener se crea junto con el EntityManagerFactory, antes que los servicios
+    private final ObjectProvider<UserService> userService;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        UserService service = userService.getIfAvailable();
+        if (service == null || user.getId() == null) {
+            return;
+        }
+
+        Long userId = user.getId();
+        service.evictUser(userId);
+        TransactionUtils.afterCommit(() -> service.evictUser(userId));
+    }
+}
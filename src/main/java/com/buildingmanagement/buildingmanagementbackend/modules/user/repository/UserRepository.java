@@ -1,5 +1,7 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.user.repository;
 
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserNameProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserReferenceProjection;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +31,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
                                                       @Param("role") UserRole role);
 
     long countByBuildingIdAndIsActiveTrue(Long buildingId);
+
+    // Consulta liviana para revalidar tokens: solo lee el flag is_active
+    @Query("SELECT u.isActive FROM User u WHERE u.id = :id")
+    Optional<Boolean> findIsActiveById(@Param("id") Long id);
+
+    // Nombres de varios usuarios en una sola consulta (listados de unidades, edificios, etc.)
+    @Query("SELECT u.id AS id, u.name AS name FROM User u WHERE u.id IN :ids")
+    List<UserNameProjection> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.role AS role, u.isActive AS isActive FROM User u WHERE u.email IN :emails")
+    List<UserReferenceProjection> findReferencesByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.role AS role, u.isActive AS isActive FROM User u WHERE u.id IN :ids")
+    List<UserReferenceProjection> findReferencesByIdIn(@Param("ids") Collection<Long> ids);
 }
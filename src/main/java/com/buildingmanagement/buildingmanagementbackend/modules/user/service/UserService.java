@@ -1,4 +1,10 @@
 package com.buildingmanagement.buildingmanagementbackend.modules.user.service;
 
 public interface UserService {
+
+    /**
+     * Descarta el UserPrincipal cacheado del usuario (por id y por email).
+     * Debe llamarse cuando cambian su rol, su estado activo o su contraseña.
+     */
+    void evictUser(Long userId);
 }
@@ -2,42 +2,158 @@ package com.buildingmanagement.buildingmanagementbackend.modules.user.service;
 
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.security.ActiveUserVerifier;
+import com.buildingmanagement.buildingmanagementbackend.security.BuildingScopeResolver;
 import com.buildingmanagement.buildingmanagementbackend.security.UserPrincipal;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserServiceImpl implements UserDetailsService {
+public class UserServiceImpl implements UserDetailsService, UserDetailsPasswordService, UserService, MetricsSource {
 
     private final UserRepository userRepository;
+    private final ActiveUserVerifier activeUserVerifier;
+    private final BuildingScopeResolver buildingScopeResolver;
+
+    @Value("${app.users.principal-cache.max-size:10000}")
+    private int principalCacheMaxSize;
+
+    @Value("${app.users.principal-cache.ttl-seconds:300}")
+    private long principalCacheTtlSeconds;
+
+    // Mismo UserPrincipal compartido por login (email) y autenticación por token (id)
+    private BoundedCache<Long, CachedUser> usersById;
+    private BoundedCache<String, CachedUser> usersByEmail;
+
+    @PostConstruct
+    void initCaches() {
+        long ttlMillis = principalCacheTtlSeconds * 1000;
+        usersById = new BoundedCache<>(principalCacheMaxSize, ttlMillis);
+        usersByEmail = new BoundedCache<>(principalCacheMaxSize, ttlMillis);
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String emailOrUserId) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", emailOrUserId);
 
-        User user;
-
         // Check if it's a numeric ID (for JWT token validation) or email (for login)
-        if (emailOrUserId.matches("\\d+")) {
+        if (isNumericId(emailOrUserId)) {
             Long userId = Long.parseLong(emailOrUserId);
+            CachedUser cached = usersById.get(userId);
+            if (cached != null) {
+                return cached.principal;
+            }
+
             log.debug("Loading user by ID: {}", userId);
-            user = userRepository.findById(userId)
+            User user = userRepository.findById(userId)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
-        } else {
-            log.debug("Loading user by email: {}", emailOrUserId);
-            user = userRepository.findByEmailAndIsActiveTrue(emailOrUserId)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + emailOrUserId));
+            return cache(user).principal;
         }
 
-        log.debug("User found: {} with role: {}", user.getEmail(), user.getRole());
+        CachedUser cached = usersByEmail.get(emailOrUserId);
+        if (cached != null) {
+            if (!cached.active) {
+                throw new UsernameNotFoundException("User not found with email: " + emailOrUserId);
+            }
+            return cached.principal;
+        }
+
+        log.debug("Loading user by email: {}", emailOrUserId);
+        User user = userRepository.findByEmailAndIsActiveTrue(emailOrUserId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + emailOrUserId));
+        return cache(user).principal;
+    }
+
+    /**
+     * Invocado por DaoAuthenticationProvider tras un login correcto cuando el hash
+     * guardado usa un cost factor menor al configurado.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) userDetails;
+        User user = userRepository.findById(principal.getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + principal.getId()));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        evictUser(user.getId());
+
+        log.info("Upgraded password hash for user {}", user.getId());
         return UserPrincipal.create(user);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        usersById.invalidate(userId);
+        usersByEmail.invalidateIf(entry -> userId.equals(entry.principal.getId()));
+        activeUserVerifier.invalidate(userId);
+        buildingScopeResolver.invalidate(userId); // User.buildingId pudo cambiar
+
+        log.debug("Evicted cached principal for user {}", userId);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "user-principal-cache";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("byId", usersById.stats());
+        metrics.put("byEmail", usersByEmail.stats());
+        return metrics;
+    }
+
+    private CachedUser cache(User user) {
+        log.debug("User found: {} with role: {}", user.getEmail(), user.getRole());
+
+        CachedUser cached = new CachedUser(UserPrincipal.create(user), Boolean.TRUE.equals(user.getIsActive()));
+        usersById.put(user.getId(), cached);
+        usersByEmail.put(user.getEmail(), cached);
+        return cached;
+    }
+
+    private static boolean isNumericId(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class CachedUser {
+        private final UserPrincipal principal;
+        private final boolean active;
+
+        private CachedUser(UserPrincipal principal, boolean active) {
+            this.principal = principal;
+            this.active = active;
+        }
+    }
+}
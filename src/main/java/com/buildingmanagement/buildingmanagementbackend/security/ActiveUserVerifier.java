@@ -0,0 +1,73 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Revalida periódicamente que el usuario de un JWT siga activo.
+ * Con app.jwt.revalidate-interval-seconds = 0 se confía únicamente en los claims del token.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveUserVerifier implements MetricsSource {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.jwt.revalidate-interval-seconds:0}")
+    private long revalidateIntervalSeconds;
+
+    @Value("${app.jwt.revalidate-cache-size:10000}")
+    private int cacheSize;
+
+    private BoundedCache<Long, Boolean> activeUsers;
+
+    @PostConstruct
+    void init() {
+        if (isEnabled()) {
+            activeUsers = new BoundedCache<>(cacheSize, revalidateIntervalSeconds * 1000);
+        }
+    }
+
+    public boolean isEnabled() {
+        return revalidateIntervalSeconds > 0;
+    }
+
+    public boolean isActive(Long userId) {
+        if (!isEnabled()) {
+            return true;
+        }
+
+        Boolean active = activeUsers.get(userId);
+        if (active == null) {
+            active = userRepository.findIsActiveById(userId).orElse(false);
+            activeUsers.put(userId, active);
+            log.debug("Revalidated user {} active status: {}", userId, active);
+        }
+        return active;
+    }
+
+    public void invalidate(Long userId) {
+        if (activeUsers != null) {
+            activeUsers.invalidate(userId);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "active-user-cache";
+    }
+
+    @Override
+    public Object getMetrics() {
+        return activeUsers != null ? activeUsers.stats() : Map.of("enabled", false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ServiceUnavailableException;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ejecuta el hashing (BCrypt) en un pool propio limitado al número de núcleos,
+ * para que una ráfaga de logins no ocupe con CPU todos los hilos de Tomcat.
+ * Con la cola llena se rechaza de inmediato con 503 en lugar de encolar sin límite.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MetricsSource {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Barato (solo inspecciona el hash): no pasa por el pool.
+     * Devuelve true si el hash se generó con un cost factor menor al configurado.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "password-hashing";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("threads", executor.getMaximumPoolSize());
+        metrics.put("active", executor.getActiveCount());
+        metrics.put("queued", executor.getQueue().size());
+        metrics.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        metrics.put("completed", executor.getCompletedTaskCount());
+        metrics.put("rejected", rejected.sum());
+        return metrics;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing interrupted", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.event.BuildingAdminChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitOccupantsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Edificios a los que pertenece cada usuario (administrador del edificio, User.buildingId,
+ * propietario o inquilino de una unidad activa), cacheados por usuario para usarlos en
+ * {@code @PreAuthorize("@buildingScope.canAccess(#buildingId)")} sin consultar la BD.
+ * Las operaciones que modifican un edificio usan {@code canManage}: solo administrador del
+ * edificio o edificio asignado, sin las unidades propias o alquiladas.
+ * Los administradores del sistema acceden a todos los edificios.
+ */
+@Slf4j
+@Component("buildingScope")
+@RequiredArgsConstructor
+public class BuildingScopeResolver implements MetricsSource {
+
+    private final BuildingRepository buildingRepository;
+    private final UnitRepository unitRepository;
+
+    @Value("${app.security.building-scope.max-size:10000}")
+    private int maxSize;
+
+    // Red de seguridad: las asignaciones hechas fuera de la aplicación se ven tras este tiempo
+    @Value("${app.security.building-scope.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private BoundedCache<Long, Set<Long>> scopes;
+    private BoundedCache<Long, Set<Long>> managedScopes;
+    // Id de unidad -> id de edificio (una unidad no cambia de edificio)
+    private BoundedCache<Long, Long> unitBuildings;
+
+    // Cada invalidación avanza la generación: una carga que empezó antes no se guarda
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        scopes = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+        managedScopes = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+        unitBuildings = new BoundedCache<>(maxSize * 10, ttlSeconds * 1000);
+    }
+
+    public boolean canAccess(Long buildingId) {
+        UserPrincipal principal = currentUser();
+        if (principal == null || buildingId == null) {
+            return false;
+        }
+        return principal.getRole() == UserRole.ADMIN || buildingIds(principal.getId()).contains(buildingId);
+    }
+
+    public boolean canManage(Long buildingId) {
+        UserPrincipal principal = currentUser();
+        if (principal == null || buildingId == null) {
+            return false;
+        }
+        return principal.getRole() == UserRole.ADMIN || managedBuildingIds(principal.getId()).contains(buildingId);
+    }
+
+    /**
+     * Una unidad inexistente se deja pasar para que el servicio responda 404.
+     */
+    public boolean canAccessUnit(Long unitId) {
+        return canReachUnit(unitId, false);
+    }
+
+    public boolean canManageUnit(Long unitId) {
+        return canReachUnit(unitId, true);
+    }
+
+    /**
+     * Propietario o inquilino de la unidad. Sin caché: pertenecer al edificio no basta
+     * para ver datos de una unidad concreta (saldos).
+     */
+    public boolean isUnitOccupant(Long unitId) {
+        UserPrincipal principal = currentUser();
+        if (principal == null || unitId == null) {
+            return false;
+        }
+        return unitRepository.isOccupant(unitId, principal.getId());
+    }
+
+    public Set<Long> buildingIds(Long userId) {
+        return load(scopes, userId, buildingRepository::findScopeBuildingIds);
+    }
+
+    public Set<Long> managedBuildingIds(Long userId) {
+        return load(managedScopes, userId, buildingRepository::findManagedBuildingIds);
+    }
+
+    private boolean canReachUnit(Long unitId, boolean manage) {
+        UserPrincipal principal = currentUser();
+        if (principal == null || unitId == null) {
+            return false;
+        }
+        if (principal.getRole() == UserRole.ADMIN) {
+            return true;
+        }
+
+        Long buildingId = unitBuildings.get(unitId);
+        if (buildingId == null) {
+            buildingId = unitRepository.findBuildingIdById(unitId).orElse(null);
+            if (buildingId == null) {
+                return true;
+            }
+            unitBuildings.put(unitId, buildingId);
+        }
+        Set<Long> scope = manage ? managedBuildingIds(principal.getId()) : buildingIds(principal.getId());
+        return scope.contains(buildingId);
+    }
+
+    private Set<Long> load(BoundedCache<Long, Set<Long>> cache, Long userId, Function<Long, List<Long>> query) {
+        Set<Long> cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        Set<Long> loaded = Set.copyOf(query.apply(userId));
+        if (generation.get() == startGeneration) {
+            cache.put(userId, loaded);
+        }
+        log.debug("Loaded building scope for user {}: {}", userId, loaded);
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        scopes.invalidate(userId);
+        managedScopes.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBuildingAdminChanged(BuildingAdminChangedEvent event) {
+        invalidate(event.previousAdminId());
+        invalidate(event.adminUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnitOccupantsChanged(UnitOccupantsChangedEvent event) {
+        event.userIds().forEach(this::invalidate);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "building-scope-cache";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("scopes", scopes.stats());
+        metrics.put("managedScopes", managedScopes.stats());
+        metrics.put("unitBuildings", unitBuildings.stats());
+        return metrics;
+    }
+
+    private static UserPrincipal currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -24,6 +25,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final ActiveUserVerifier activeUserVerifier;
+    private final RevokedSessionRegistry revokedSessionRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,9 +35,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Long userId = tokenProvider.getUserIdFromToken(jwt);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userId.toString());
+        Optional<TokenClaims> claims = StringUtils.hasText(jwt) ? tokenProvider.verifyToken(jwt) : Optional.empty();
+
+        if (claims.isPresent()
+                && !revokedSessionRegistry.isRevoked(claims.get().getSessionId())
+                && activeUserVerifier.isActive(claims.get().getUserId())) {
+            UserDetails userDetails = resolveUserDetails(claims.get());
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -46,6 +52,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolveUserDetails(TokenClaims claims) {
+        // El principal se reconstruye desde los claims verificados, sin consultar la BD
+        if (claims.hasIdentity()) {
+            return UserPrincipal.fromClaims(claims);
+        }
+
+        // Tokens antiguos sin datos del usuario: se carga desde la BD
+        return userDetailsService.loadUserByUsername(claims.getUserId().toString());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,19 +1,35 @@
 package com.buildingmanagement.buildingmanagementbackend.security;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BoundedCache;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys; // Importar Keys para generar la clave
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key; // Importar Key
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MetricsSource {
+
+    private static final String ROLE_CLAIM = "role";
+    private static final String NAME_CLAIM = "name";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String BUILDING_CLAIM = "buildingId";
+    private static final String SESSION_CLAIM = "sid";
 
     @Value("${app.jwt.secret}")
     private String jwtSecret;
@@ -21,44 +37,130 @@ public class JwtTokenProvider {
     @Value("${app.jwt.expiration}")
     private long jwtExpirationInMs;
 
-    // Generar la clave de firma una sola vez
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.verification-cache-size:1024}")
+    private int verificationCacheSize;
+
+    // Clave y parser inmutables: se construyen una sola vez al iniciar
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // Digest del token -> claims ya verificados (evita repetir el HMAC en cada request)
+    private BoundedCache<String, TokenClaims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        if (verificationCacheSize > 0) {
+            this.verifiedTokens = new BoundedCache<>(verificationCacheSize, jwtExpirationInMs);
+        }
     }
 
     public String generateToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
-
-        return Jwts.builder()
-                .setSubject(userPrincipal.getId().toString())
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                // Usar signWith con la clave generada
-                .signWith(getSigningKey())
-                .compact();
+        return generateToken((UserPrincipal) authentication.getPrincipal(), null);
+    }
+
+    /**
+     * Genera el access token asociado a una sesión (familia de refresh tokens),
+     * para poder revocarlo junto con ella.
+     */
+    public String generateToken(UserPrincipal userPrincipal, String sessionId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
+
+        JwtBuilder builder = Jwts.builder()
+                .subject(userPrincipal.getId().toString())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .claim(NAME_CLAIM, userPrincipal.getName())
+                .claim(EMAIL_CLAIM, userPrincipal.getEmail());
+
+        UserRole role = userPrincipal.getRole() != null ? userPrincipal.getRole() : resolveRole(userPrincipal);
+        if (role != null) {
+            builder.claim(ROLE_CLAIM, role.name());
+        }
+        if (userPrincipal.getBuildingId() != null) {
+            builder.claim(BUILDING_CLAIM, userPrincipal.getBuildingId());
+        }
+        if (sessionId != null) {
+            builder.claim(SESSION_CLAIM, sessionId);
+        }
+
+        return builder.signWith(signingKey).compact();
+    }
+
+    /**
+     * Parsea y verifica el token una sola vez.
+     * Devuelve vacío si el token es inválido o expiró.
+     */
+    public Optional<TokenClaims> verifyToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String digest = verifiedTokens != null ? digest(token) : null;
+
+        if (digest != null) {
+            TokenClaims cached = verifiedTokens.get(digest);
+            if (cached != null && !cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+        }
+
+        TokenClaims claims = parseAndVerify(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+
+        if (digest != null) {
+            verifiedTokens.put(digest, claims, claims.getExpiresAt());
+        }
+        return Optional.of(claims);
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                // Usar verifyWith con la clave generada y luego build()
-                .verifyWith((SecretKey) getSigningKey())
-                .build() // Construir el JwtParser
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.parseLong(claims.getSubject());
+        return verifyToken(token)
+                .map(TokenClaims::getUserId)
+                .orElseThrow(() -> new MalformedJwtException("Invalid JWT token"));
+    }
+
+    public long getExpirationInMs() {
+        return jwtExpirationInMs;
     }
 
     public boolean validateToken(String authToken) {
+        return verifyToken(authToken).isPresent();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jwt-verification-cache";
+    }
+
+    @Override
+    public Object getMetrics() {
+        return verifiedTokens != null ? verifiedTokens.stats() : Map.of("enabled", false);
+    }
+
+    private TokenClaims parseAndVerify(String token) {
         try {
-            Jwts.parser()
-                    // Usar verifyWith con la clave generada y luego build()
-                    .verifyWith((SecretKey) getSigningKey())
-                    .build() // Construir el JwtParser
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException ex) { // Cambiado a SecurityException de io.jsonwebtoken.security
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            String role = claims.get(ROLE_CLAIM, String.class);
+            Number buildingId = claims.get(BUILDING_CLAIM, Number.class);
+
+            return TokenClaims.builder()
+                    .userId(Long.parseLong(claims.getSubject()))
+                    .role(role != null ? UserRole.valueOf(role) : null)
+                    .name(claims.get(NAME_CLAIM, String.class))
+                    .email(claims.get(EMAIL_CLAIM, String.class))
+                    .buildingId(buildingId != null ? buildingId.longValue() : null)
+                    .sessionId(claims.get(SESSION_CLAIM, String.class))
+                    .expiresAt(claims.getExpiration().getTime())
+                    .build();
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
@@ -69,6 +171,30 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    private UserRole resolveRole(UserPrincipal userPrincipal) {
+        if (userPrincipal.getAuthorities() == null) {
+            return null;
+        }
+        for (GrantedAuthority authority : userPrincipal.getAuthorities()) {
+            for (UserRole role : UserRole.values()) {
+                if (role.getAuthority().equals(authority.getAuthority())) {
+                    return role;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
-}
\ No newline at end of file
+}
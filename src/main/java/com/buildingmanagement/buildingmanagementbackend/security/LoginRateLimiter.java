@@ -0,0 +1,118 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.TooManyRequestsException;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.StripedTokenBuckets;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita los intentos de login por IP y por email antes de llegar al
+ * AuthenticationManager, para no pagar consulta + BCrypt en cada intento
+ * de un ataque de credential stuffing.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter implements MetricsSource {
+
+    @Value("${app.security.login-rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.login-rate-limit.stripes:64}")
+    private int stripes;
+
+    @Value("${app.security.login-rate-limit.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${app.security.login-rate-limit.per-ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.security.login-rate-limit.per-ip.refill-per-minute:20}")
+    private int ipRefillPerMinute;
+
+    @Value("${app.security.login-rate-limit.per-email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${app.security.login-rate-limit.per-email.refill-per-minute:5}")
+    private int emailRefillPerMinute;
+
+    private StripedTokenBuckets ipBuckets;
+    private StripedTokenBuckets emailBuckets;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        // Con recarga 0 el Retry-After sería infinito
+        requirePositive("per-ip.capacity", ipCapacity);
+        requirePositive("per-ip.refill-per-minute", ipRefillPerMinute);
+        requirePositive("per-email.capacity", emailCapacity);
+        requirePositive("per-email.refill-per-minute", emailRefillPerMinute);
+
+        ipBuckets = new StripedTokenBuckets(stripes, maxEntries, ipCapacity, ipRefillPerMinute / 60d);
+        emailBuckets = new StripedTokenBuckets(stripes, maxEntries, emailCapacity, emailRefillPerMinute / 60d);
+    }
+
+    /**
+     * Consume un intento para la IP y el email; lanza TooManyRequestsException si alguno se agotó.
+     */
+    public void checkLoginAttempt(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            long retryAfter = ipBuckets.tryAcquire(clientIp, now);
+            if (retryAfter > 0) {
+                rejectedByIp.increment();
+                log.warn("Login rate limit exceeded for IP {}", clientIp);
+                throw new TooManyRequestsException("Too many login attempts, please try again later", retryAfter);
+            }
+        }
+
+        if (email != null) {
+            long retryAfter = emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT), now);
+            if (retryAfter > 0) {
+                rejectedByEmail.increment();
+                log.warn("Login rate limit exceeded for email {}", email);
+                throw new TooManyRequestsException("Too many login attempts, please try again later", retryAfter);
+            }
+        }
+
+        allowed.increment();
+    }
+
+    private static void requirePositive(String property, int value) {
+        if (value <= 0) {
+            throw new IllegalStateException("app.security.login-rate-limit." + property + " must be greater than 0");
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "login-rate-limit";
+    }
+
+    @Override
+    public Object getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("allowed", allowed.sum());
+        metrics.put("rejectedByIp", rejectedByIp.sum());
+        metrics.put("rejectedByEmail", rejectedByEmail.sum());
+        metrics.put("ipBuckets", ipBuckets.size());
+        metrics.put("emailBuckets", emailBuckets.size());
+        metrics.put("evictions", ipBuckets.evictions() + emailBuckets.evictions());
+        return metrics;
+    }
+}
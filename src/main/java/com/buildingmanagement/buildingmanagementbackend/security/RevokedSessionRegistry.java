@@ -0,0 +1,145 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.TokenRevocation;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.repository.TokenRevocationRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.cache.BloomFilter;
+import com.buildingmanagement.buildingmanagementbackend.shared.metrics.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sesiones (sid del access token) revocadas por logout o por reutilización de un
+ * refresh token. El filtro JWT lo consulta en cada request sin ir a la BD:
+ * el filtro de Bloom descarta casi todos los tokens y el mapa exacto confirma los positivos.
+ * Cada nodo se mantiene al día leyendo incrementalmente la tabla token_revocations.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedSessionRegistry implements MetricsSource {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository revocationRepository;
+
+    @Value("${app.jwt.revocation.bloom-capacity:10000}")
+    private int bloomCapacity;
+
+    // Margen hacia atrás en cada lectura: cubre commits tardíos y desfase de relojes entre nodos
+    @Value("${app.jwt.revocation.poll-lag-seconds:30}")
+    private long pollLagSeconds;
+
+    // sid -> instante (epoch millis) en que expira el último access token de la sesión
+    private final Map<String, Long> revokedSessions = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+    private int bloomSizedFor;
+    private volatile LocalDateTime lastPollStartedAt;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+
+    public boolean isRevoked(String sessionId) {
+        if (sessionId == null) {
+            return false;
+        }
+        checks.increment();
+
+        BloomFilter current = bloom;
+        if (current != null && !current.mightContain(sessionId)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        Long expiresAt = revokedSessions.get(sessionId);
+        boolean revoked = expiresAt != null && expiresAt > System.currentTimeMillis();
+        if (revoked) {
+            revokedHits.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Registra la revocación en este nodo sin esperar al siguiente polling.
+     */
+    public synchronized void revoke(String sessionId, long expiresAtMillis) {
+        revokedSessions.put(sessionId, expiresAtMillis);
+        BloomFilter current = bloom;
+        if (current == null || revokedSessions.size() > bloomSizedFor) {
+            rebuildBloom();
+        } else {
+            current.put(sessionId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.poll-interval-ms:5000}",
+            initialDelayString = "${app.jwt.revocation.poll-interval-ms:5000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastPollStartedAt != null
+                ? lastPollStartedAt.minusSeconds(pollLagSeconds)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        try {
+            List<TokenRevocation> revocations = revocationRepository.findCreatedSince(since, now);
+            for (TokenRevocation revocation : revocations) {
+                long expiresAt = revocation.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                revokedSessions.putIfAbsent(revocation.getSessionId(), expiresAt);
+            }
+            lastPollStartedAt = now;
+
+            boolean pruned = revokedSessions.values().removeIf(expiresAt -> expiresAt <= System.currentTimeMillis());
+            if (pruned || bloom == null || !revocations.isEmpty()) {
+                rebuildBloom();
+            }
+        } catch (Exception ex) {
+            // Se reintenta en el siguiente ciclo sin avanzar la marca de lectura
+            log.error("Error polling token revocations: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "revoked-sessions";
+    }
+
+    @Override
+    public Object getMetrics() {
+        BloomFilter current = bloom;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("revokedSessions", revokedSessions.size());
+        metrics.put("bloomBits", current != null ? current.getBitCount() : 0);
+        metrics.put("checks", checks.sum());
+        metrics.put("bloomNegatives", bloomNegatives.sum());
+        metrics.put("revokedHits", revokedHits.sum());
+        metrics.put("lastPoll", lastPollStartedAt);
+        return metrics;
+    }
+
+    // Los filtros de Bloom no admiten borrados: se reconstruyen desde el mapa exacto
+    private synchronized void rebuildBloom() {
+        int capacity = Math.max(bloomCapacity, revokedSessions.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, BLOOM_FALSE_POSITIVE_RATE);
+        revokedSessions.keySet().forEach(rebuilt::put);
+        bloom = rebuilt;
+        bloomSizedFor = capacity;
+    }
+}
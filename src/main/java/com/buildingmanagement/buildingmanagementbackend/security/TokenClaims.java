@@ -0,0 +1,32 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Resultado inmutable de verificar un JWT: se parsea y se valida la firma una sola vez.
+ */
+@Getter
+@Builder
+public class TokenClaims {
+
+    private final Long userId;
+    private final UserRole role;
+    private final String name;
+    private final String email;
+    private final Long buildingId;
+    private final String sessionId; // sid: familia de refresh tokens del login
+    private final long expiresAt; // epoch millis
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+
+    /**
+     * Tokens emitidos antes de incluir los datos del usuario solo traen el id.
+     */
+    public boolean hasIdentity() {
+        return role != null && email != null;
+    }
+}
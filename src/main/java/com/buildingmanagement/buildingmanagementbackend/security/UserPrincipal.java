@@ -1,5 +1,6 @@
 package com.buildingmanagement.buildingmanagementbackend.security;
 
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
 import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
@@ -22,6 +23,9 @@ public class UserPrincipal implements UserDetails {
     @JsonIgnore
     private String password;
 
+    private UserRole role;
+    private Long buildingId;
+
     private Collection<? extends GrantedAuthority> authorities;
 
     public static UserPrincipal create(User user) {
@@ -34,6 +38,27 @@ public class UserPrincipal implements UserDetails {
                 user.getName(),
                 user.getEmail(),
                 user.getPassword(),
+                user.getRole(),
+                user.getBuildingId(),
+                authorities
+        );
+    }
+
+    /**
+     * Reconstruye el principal desde los claims ya verificados del JWT, sin consultar la BD.
+     */
+    public static UserPrincipal fromClaims(TokenClaims claims) {
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority(claims.getRole().getAuthority())
+        );
+
+        return new UserPrincipal(
+                claims.getUserId(),
+                claims.getName(),
+                claims.getEmail(),
+                null,
+                claims.getRole(),
+                claims.getBuildingId(),
                 authorities
         );
     }
@@ -0,0 +1,125 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Cache en memoria acotado por tamaño (LRU) y por tiempo de vida.
+ * Pensado para estructuras pequeñas y muy leídas (tokens verificados, principals, etc.).
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize, long defaultTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    /**
+     * Guarda un valor con una expiración absoluta (epoch millis), acotada por el TTL por defecto.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + defaultTtlMillis);
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public void invalidateIf(Predicate<V> predicate) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> {
+                boolean remove = predicate.test(entry.value);
+                if (remove) {
+                    evictions.increment();
+                }
+                return remove;
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            evictions.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .size(size())
+                .maxSize(maxSize)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .build();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.cache;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStats {
+
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+}
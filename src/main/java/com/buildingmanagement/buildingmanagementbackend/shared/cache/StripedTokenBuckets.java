@@ -0,0 +1,115 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets por clave, repartidos en stripes con lock propio para que
+ * requests con claves distintas no compitan por el mismo monitor.
+ * Cada stripe es un LRU acotado: la memoria total no supera maxEntries buckets.
+ * En el camino habitual (bucket existente) no se reserva memoria.
+ */
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongAdder evictions = new LongAdder();
+
+    public StripedTokenBuckets(int stripeCount, int maxEntries, int capacity, double refillPerSecond) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        if (!(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("refillPerSecond must be greater than 0");
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripeCount)); // potencia de 2
+        int entriesPerStripe = Math.max(1, maxEntries / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(entriesPerStripe);
+        }
+        this.mask = count - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+    }
+
+    /**
+     * Consume un token de la clave. Devuelve 0 si se permitió, o los segundos
+     * que faltan para disponer de un token.
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, nowNanos);
+                stripe.put(key, bucket);
+            } else {
+                bucket.refill(nowNanos, capacity, tokensPerNano);
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano / 1_000_000_000d);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private void refill(long nowNanos, double capacity, double tokensPerNano) {
+            long elapsed = nowNanos - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+
+    private final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            if (size() > maxEntries) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -1,4 +1,27 @@
 package com.buildingmanagement.buildingmanagementbackend.shared.dto;
 
-public class PageResponse {
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados en modo cursor (keyset): sin COUNT ni número de página,
+ * la siguiente página se pide con nextCursor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private String sortBy;
+    private String sortDirection;
 }
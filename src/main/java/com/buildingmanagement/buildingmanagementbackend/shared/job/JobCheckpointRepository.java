@@ -0,0 +1,46 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Checkpoints de jobs por rangos (tabla job_checkpoints). Varios nodos pueden ejecutar
+ * el mismo job: cada rango se procesa en una transacción que bloquea la fila del job,
+ * escribe el rango y avanza la posición antes del commit. Si algo falla, la posición no
+ * avanza y el rango se reintenta.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long getPosition(String jobName) {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT position FROM job_checkpoints WHERE job_name = ?", Long.class, jobName);
+        if (!positions.isEmpty()) {
+            return positions.get(0);
+        }
+        jdbcTemplate.update("INSERT IGNORE INTO job_checkpoints (job_name, position) VALUES (?, 0)", jobName);
+        return jdbcTemplate.queryForObject(
+                "SELECT position FROM job_checkpoints WHERE job_name = ?", Long.class, jobName);
+    }
+
+    /**
+     * Bloquea la fila del job hasta el fin de la transacción en curso y devuelve su posición,
+     * o null si otro nodo la tiene bloqueada (o la fila no existe todavía).
+     */
+    public Long lockPosition(String jobName) {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT position FROM job_checkpoints WHERE job_name = ? FOR UPDATE SKIP LOCKED", Long.class, jobName);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    // Solo dentro de la transacción que obtuvo lockPosition
+    public void setPosition(String jobName, long position) {
+        jdbcTemplate.update("UPDATE job_checkpoints SET position = ? WHERE job_name = ?", position, jobName);
+    }
+}
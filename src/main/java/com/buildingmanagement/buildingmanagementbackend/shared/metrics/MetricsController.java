@@ -0,0 +1,47 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.metrics;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/admin/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final List<MetricsSource> sources;
+
+    /**
+     * Contadores internos de todos los componentes (hits/misses de caches, rechazos, etc.)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMetrics() {
+        Map<String, Object> metrics = new TreeMap<>();
+        sources.forEach(source -> metrics.put(source.getMetricsName(), source.getMetrics()));
+        return ResponseEntity.ok(ApiResponse.success(metrics));
+    }
+
+    /**
+     * Contadores de un componente específico
+     */
+    @GetMapping("/{name}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Object>> getMetricsByName(@PathVariable String name) {
+        MetricsSource source = sources.stream()
+                .filter(s -> s.getMetricsName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Metrics not found with name: " + name));
+        return ResponseEntity.ok(ApiResponse.success(source.getMetrics()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.metrics;
+
+/**
+ * Componente que expone contadores internos (caches, limitadores, jobs) en /admin/metrics.
+ */
+public interface MetricsSource {
+
+    String getMetricsName();
+
+    Object getMetrics();
+}
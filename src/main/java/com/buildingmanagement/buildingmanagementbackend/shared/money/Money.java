@@ -0,0 +1,171 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * Importe con 2 decimales (DECIMAL(10,2) en la base) representado en centavos como long.
+ * Las operaciones son exactas; el único redondeo es el del producto tarifa × área
+ * (HALF_UP al centavo). Para totales sobre muchas filas conviene trabajar con los
+ * centavos primitivos ({@link #sumCents}) y crear el Money solo al final.
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static final int SCALE = 2;
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Falla con ArithmeticException si el valor tiene más de 2 decimales: no se redondea en silencio.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * Tarifa × área, con el área en centésimas de m² (units.area es DECIMAL(8,2)).
+     */
+    public Money timesArea(long areaHundredths) {
+        return ofCents(timesAreaCents(cents, areaHundredths));
+    }
+
+    public Money timesArea(double area) {
+        return timesArea(areaHundredths(area));
+    }
+
+    /**
+     * Versión primitiva de {@link #timesArea(long)}: el producto es exacto en long
+     * y se redondea HALF_UP (alejándose de cero) al centavo.
+     */
+    public static long timesAreaCents(long rateCents, long areaHundredths) {
+        long product = Math.multiplyExact(rateCents, areaHundredths);
+        long quotient = product / 100;
+        long remainder = Math.abs(product % 100);
+        if (remainder >= 50) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    /**
+     * Área en centésimas; el double de la entidad se redondea al valor DECIMAL(8,2) que guarda la base.
+     */
+    public static long areaHundredths(double area) {
+        return Math.round(area * 100);
+    }
+
+    /**
+     * Reparte el importe en proporción a los pesos sin perder centavos: el resto
+     * se asigna de a un centavo a las partes con mayor fracción descartada.
+     */
+    public long[] allocate(long... weights) {
+        long total = 0;
+        for (long weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Allocation weights must not be negative");
+            }
+            total = Math.addExact(total, weight);
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Allocation weights must not all be zero");
+        }
+
+        long[] parts = new long[weights.length];
+        long[] remainders = new long[weights.length];
+        long allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long product = Math.multiplyExact(cents, weights[i]);
+            parts[i] = product / total;
+            remainders[i] = Math.abs(product % total);
+            allocated += parts[i];
+        }
+
+        long left = cents - allocated;
+        long step = Long.signum(left);
+        while (left != 0) {
+            int largest = 0;
+            for (int i = 1; i < remainders.length; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            parts[largest] += step;
+            remainders[largest] = -1;
+            left -= step;
+        }
+        return parts;
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public static long sumCents(long... values) {
+        long total = 0;
+        for (long value : values) {
+            total = Math.addExact(total, value);
+        }
+        return total;
+    }
+
+    public static <T> long sumCents(Collection<T> items, ToLongFunction<T> cents) {
+        long total = 0;
+        for (T item : items) {
+            total = Math.addExact(total, cents.applyAsLong(item));
+        }
+        return total;
+    }
+
+    public static <T> Money sum(Collection<T> items, ToLongFunction<T> cents) {
+        return ofCents(sumCents(items, cents));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Columnas DECIMAL(10,2) mapeadas a {@link Money}.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal value) {
+        return value != null ? Money.of(value) : null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Acepta números o textos ("12.5", 12.50); rechaza importes con más de 2 decimales.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String text = parser.currentToken() == JsonToken.VALUE_STRING
+                ? parser.getText().trim()
+                : parser.getDecimalValue().toPlainString();
+        try {
+            return Money.of(new BigDecimal(text));
+        } catch (ArithmeticException | NumberFormatException ex) {
+            throw InvalidFormatException.from(parser, "Amount must be a number with at most 2 decimals",
+                    text, Money.class);
+        }
+    }
+}
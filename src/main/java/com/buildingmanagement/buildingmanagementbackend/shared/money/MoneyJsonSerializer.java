@@ -0,0 +1,22 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Escribe el importe como número JSON con 2 decimales (12.50).
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(money.toString());
+    }
+}
@@ -0,0 +1,33 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.pagination;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición opaca de una página keyset: campo de orden, dirección, último id y valor
+ * de orden de la última fila. El valor va al final para que pueda contener cualquier texto.
+ */
+public record KeysetCursor(String sortBy, String direction, Long id, String value) {
+
+    private static final String SEPARATOR = "\n";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, direction, String.valueOf(id), value != null ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(parts[0], parts[1], Long.parseLong(parts[2]), parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("Invalid pagination cursor");
+        }
+    }
+}
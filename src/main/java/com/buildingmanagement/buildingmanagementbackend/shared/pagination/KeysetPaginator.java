@@ -0,0 +1,149 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.pagination;
+
+import com.buildingmanagement.buildingmanagementbackend.common.constans.AppConstants;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Paginación keyset (seek) sobre Specifications: ordena por (campo, id), filtra
+ * "después del cursor" y pide size + 1 filas para saber si hay siguiente página,
+ * sin COUNT. Solo se aceptan campos registrados, que deben ser NOT NULL y tener
+ * un índice que cubra el filtro del listado más el orden.
+ *
+ * @param <T> entidad paginada (con atributo "id")
+ */
+public final class KeysetPaginator<T> {
+
+    private static final String ID = "id";
+
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+    private final Function<T, Long> idGetter;
+
+    public KeysetPaginator(Function<T, Long> idGetter) {
+        this.idGetter = idGetter;
+        field(ID, idGetter, Long::valueOf);
+    }
+
+    public <V extends Comparable<? super V>> KeysetPaginator<T> field(String name,
+                                                                    Function<T, V> getter,
+                                                                    Function<String, V> parser) {
+        fields.put(name, new Field<>(getter, parser));
+        return this;
+    }
+
+    public Query<T> query(String sortBy, String sortDirection, String cursor, Integer size) {
+        Field<T> field = fields.get(sortBy);
+        if (field == null) {
+            throw new BusinessException("Sort field '" + sortBy + "' is not supported in cursor mode. Allowed: " + fields.keySet());
+        }
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = size == null || size < 1 ? AppConstants.DEFAULT_PAGE_SIZE : Math.min(size, AppConstants.MAX_PAGE_SIZE);
+
+        KeysetCursor position = null;
+        if (StringUtils.hasText(cursor)) {
+            position = KeysetCursor.decode(cursor);
+            if (!position.sortBy().equals(sortBy) || !position.direction().equals(direction.name())) {
+                throw new BusinessException("Pagination cursor does not match the requested sort");
+            }
+        }
+        return new Query<>(this, sortBy, field, direction, position, pageSize);
+    }
+
+    private record Field<T>(Function<T, ? extends Comparable<?>> getter,
+                            Function<String, ? extends Comparable<?>> parser) {
+    }
+
+    public static final class Query<T> {
+
+        private final KeysetPaginator<T> paginator;
+        private final String sortBy;
+        private final Field<T> field;
+        private final Sort.Direction direction;
+        private final KeysetCursor position;
+        private final int size;
+
+        private Query(KeysetPaginator<T> paginator, String sortBy, Field<T> field,
+                      Sort.Direction direction, KeysetCursor position, int size) {
+            this.paginator = paginator;
+            this.sortBy = sortBy;
+            this.field = field;
+            this.direction = direction;
+            this.position = position;
+            this.size = size;
+        }
+
+        public Sort sort() {
+            Sort sort = Sort.by(direction, sortBy);
+            return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+        }
+
+        /**
+         * Filas a pedir: una más que el tamaño de página para detectar si hay siguiente.
+         */
+        public int limit() {
+            return size + 1;
+        }
+
+        /**
+         * (campo, id) estrictamente posterior al cursor en la dirección pedida.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Specification<T> after(Specification<T> spec) {
+            if (position == null) {
+                return spec;
+            }
+            Comparable value;
+            try {
+                value = field.parser().apply(position.value());
+            } catch (RuntimeException ex) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            Long lastId = position.id();
+            boolean asc = direction.isAscending();
+
+            Specification<T> seek = (root, query, cb) -> {
+                Path<Comparable> sortPath = root.get(sortBy);
+                Path<Long> idPath = root.get(ID);
+                if (ID.equals(sortBy)) {
+                    return asc ? cb.greaterThan(idPath, lastId) : cb.lessThan(idPath, lastId);
+                }
+                return cb.or(
+                        asc ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value),
+                        cb.and(cb.equal(sortPath, value),
+                                asc ? cb.greaterThan(idPath, lastId) : cb.lessThan(idPath, lastId)));
+            };
+            return spec.and(seek);
+        }
+
+        public <R> PageResponse<R> toResponse(List<T> rows, Function<List<T>, List<R>> mapper) {
+            boolean hasNext = rows.size() > size;
+            List<T> page = hasNext ? rows.subList(0, size) : rows;
+
+            String nextCursor = null;
+            if (hasNext) {
+                T last = page.get(page.size() - 1);
+                Object value = field.getter().apply(last);
+                nextCursor = new KeysetCursor(sortBy, direction.name(), paginator.idGetter.apply(last),
+                        value instanceof Enum<?> e ? e.name() : String.valueOf(value)).encode();
+            }
+
+            return PageResponse.<R>builder()
+                    .content(mapper.apply(page))
+                    .size(size)
+                    .hasNext(hasNext)
+                    .nextCursor(nextCursor)
+                    .sortBy(sortBy)
+                    .sortDirection(direction.name().toLowerCase())
+                    .build();
+        }
+    }
+}
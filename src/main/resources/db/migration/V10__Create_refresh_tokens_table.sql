@@ -0,0 +1,28 @@
+CREATE TABLE refresh_tokens (
+                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                user_id BIGINT NOT NULL,
+                                token_hash CHAR(64) NOT NULL,
+                                family_id CHAR(36) NOT NULL,
+                                expires_at TIMESTAMP NOT NULL,
+                                revoked_at TIMESTAMP NULL,
+                                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                UNIQUE KEY uk_refresh_tokens_hash (token_hash),
+                                INDEX idx_refresh_tokens_user (user_id),
+                                INDEX idx_refresh_tokens_family (family_id),
+                                INDEX idx_refresh_tokens_expires (expires_at),
+
+                                FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Log de sesiones revocadas; cada nodo lo lee incrementalmente por created_at
+CREATE TABLE token_revocations (
+                                   id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                   session_id CHAR(36) NOT NULL,
+                                   expires_at TIMESTAMP NOT NULL,
+                                   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+                                   INDEX idx_token_revocations_created (created_at),
+                                   INDEX idx_token_revocations_expires (expires_at)
+);
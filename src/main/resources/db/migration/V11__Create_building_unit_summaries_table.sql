@@ -0,0 +1,28 @@
+-- Resumen de unidades por edificio, mantenido de forma incremental por UnitServiceImpl
+CREATE TABLE building_unit_summaries (
+                                         building_id BIGINT PRIMARY KEY,
+                                         total_units BIGINT NOT NULL DEFAULT 0,
+                                         occupied_units BIGINT NOT NULL DEFAULT 0,
+                                         apartment_units BIGINT NOT NULL DEFAULT 0,
+                                         parking_units BIGINT NOT NULL DEFAULT 0,
+                                         storage_units BIGINT NOT NULL DEFAULT 0,
+                                         commercial_units BIGINT NOT NULL DEFAULT 0,
+                                         total_area DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                         FOREIGN KEY (building_id) REFERENCES buildings(id) ON DELETE CASCADE
+);
+
+INSERT INTO building_unit_summaries (building_id, total_units, occupied_units, apartment_units,
+                                     parking_units, storage_units, commercial_units, total_area)
+SELECT b.id,
+       COUNT(u.id),
+       COALESCE(SUM(u.owner_id IS NOT NULL), 0),
+       COALESCE(SUM(u.unit_type = 'APARTMENT'), 0),
+       COALESCE(SUM(u.unit_type = 'PARKING'), 0),
+       COALESCE(SUM(u.unit_type = 'STORAGE'), 0),
+       COALESCE(SUM(u.unit_type = 'COMMERCIAL'), 0),
+       COALESCE(SUM(u.area), 0)
+FROM buildings b
+         LEFT JOIN units u ON u.building_id = b.id AND u.is_active = TRUE
+GROUP BY b.id;
@@ -0,0 +1,5 @@
+-- Índices compuestos para los filtros del listado de unidades por edificio
+-- (UnitSpecifications agrega solo los predicados presentes)
+CREATE INDEX idx_units_building_active_type ON units (building_id, is_active, unit_type);
+CREATE INDEX idx_units_building_active_owner ON units (building_id, is_active, owner_id);
+CREATE INDEX idx_units_building_active_tenant ON units (building_id, is_active, tenant_id);
@@ -0,0 +1,3 @@
+-- Índices para la paginación por cursor (orden por created_at + id)
+CREATE INDEX idx_buildings_created ON buildings (created_at);
+CREATE INDEX idx_units_building_active_created ON units (building_id, is_active, created_at);
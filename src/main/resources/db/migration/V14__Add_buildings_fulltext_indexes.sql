@@ -0,0 +1,5 @@
+-- Búsqueda de edificios con FULLTEXT y parser ngram (admite subcadenas y textos sin espacios).
+-- Un índice por combinación de columnas usada en MATCH(): texto libre y filtros por nombre y dirección
+ALTER TABLE buildings ADD FULLTEXT INDEX ft_buildings_search (name, address, description) WITH PARSER ngram;
+ALTER TABLE buildings ADD FULLTEXT INDEX ft_buildings_name (name) WITH PARSER ngram;
+ALTER TABLE buildings ADD FULLTEXT INDEX ft_buildings_address (address) WITH PARSER ngram;
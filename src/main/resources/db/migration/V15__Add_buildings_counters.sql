@@ -0,0 +1,28 @@
+-- Contadores desnormalizados por edificio. Se mantienen con UPDATEs relativos
+-- (BuildingRepository.applyCounterDelta) y BuildingCounterReconciler corrige desvíos
+UPDATE buildings SET total_units = 0 WHERE total_units IS NULL;
+
+ALTER TABLE buildings
+    MODIFY total_units INT NOT NULL DEFAULT 0,
+    ADD COLUMN occupied_units INT NOT NULL DEFAULT 0 AFTER total_units,
+    ADD COLUMN total_area DECIMAL(14,2) NOT NULL DEFAULT 0 AFTER occupied_units,
+    ADD COLUMN active_residents INT NOT NULL DEFAULT 0 AFTER total_area;
+
+CREATE INDEX idx_buildings_total_units ON buildings (total_units);
+
+-- Residentes activos: propietarios e inquilinos activos asignados a unidades activas
+UPDATE buildings b
+    LEFT JOIN (SELECT u.building_id,
+                      COUNT(*) AS total_units,
+                      SUM(u.owner_id IS NOT NULL) AS occupied_units,
+                      COALESCE(SUM(u.area), 0) AS total_area,
+                      SUM(o.id IS NOT NULL) + SUM(t.id IS NOT NULL) AS active_residents
+               FROM units u
+                        LEFT JOIN users o ON o.id = u.owner_id AND o.is_active = TRUE
+                        LEFT JOIN users t ON t.id = u.tenant_id AND t.is_active = TRUE
+               WHERE u.is_active = TRUE
+               GROUP BY u.building_id) c ON c.building_id = b.id
+SET b.total_units = COALESCE(c.total_units, 0),
+    b.occupied_units = COALESCE(c.occupied_units, 0),
+    b.total_area = COALESCE(c.total_area, 0),
+    b.active_residents = COALESCE(c.active_residents, 0);
@@ -0,0 +1,13 @@
+-- Posición de los jobs que recorren tablas por rangos de id. Cada nodo lee la fila con
+-- SELECT ... FOR UPDATE SKIP LOCKED y la avanza con un UPDATE en la misma transacción
+-- (JobCheckpointRepository): mientras un nodo la tiene bloqueada, los demás se saltan la
+-- pasada, así cada rango lo procesa un solo nodo
+CREATE TABLE job_checkpoints (
+                                 job_name VARCHAR(100) PRIMARY KEY,
+                                 position BIGINT NOT NULL DEFAULT 0,
+                                 updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Cuota pendiente más antigua (lag del paso a OVERDUE) con una sola lectura de índice
+CREATE INDEX idx_fees_status_due_date ON fees (status, due_date);
+DROP INDEX idx_fees_status ON fees;
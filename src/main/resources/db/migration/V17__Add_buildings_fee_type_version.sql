@@ -0,0 +1,4 @@
+-- Versión del catálogo de tipos de cuota del edificio. Se incrementa en cada alta,
+-- modificación o baja de un tipo de cuota; los caches de cada nodo la comparan para
+-- detectar que su copia quedó desactualizada
+ALTER TABLE buildings ADD COLUMN fee_type_version BIGINT NOT NULL DEFAULT 0;
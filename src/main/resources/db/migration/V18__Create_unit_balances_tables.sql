@@ -0,0 +1,48 @@
+-- Saldo por unidad y por unidad y tipo de cuota. Se mantiene con UPDATEs relativos en la
+-- misma transacción que genera o cancela cuotas o registra pagos (UnitBalanceLedger);
+-- UnitBalanceRebuilder lo recalcula desde fees y payments y verifica desvíos.
+-- charged excluye cuotas canceladas; balance = charged - paid
+CREATE TABLE unit_fee_type_balances (
+                                        unit_id BIGINT NOT NULL,
+                                        fee_type_id BIGINT NOT NULL,
+                                        charged DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                        paid DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                        balance DECIMAL(14,2) AS (charged - paid) STORED,
+                                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                        PRIMARY KEY (unit_id, fee_type_id),
+                                        INDEX idx_unit_fee_type_balances_type (fee_type_id),
+
+                                        FOREIGN KEY (unit_id) REFERENCES units(id) ON DELETE CASCADE,
+                                        FOREIGN KEY (fee_type_id) REFERENCES fee_types(id) ON DELETE CASCADE
+);
+
+CREATE TABLE unit_balances (
+                               unit_id BIGINT PRIMARY KEY,
+                               building_id BIGINT NOT NULL,
+                               charged DECIMAL(14,2) NOT NULL DEFAULT 0,
+                               paid DECIMAL(14,2) NOT NULL DEFAULT 0,
+                               balance DECIMAL(14,2) AS (charged - paid) STORED,
+                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                               -- Morosidad por edificio: unidades con saldo pendiente ordenadas por monto
+                               INDEX idx_unit_balances_building_balance (building_id, balance),
+
+                               FOREIGN KEY (unit_id) REFERENCES units(id) ON DELETE CASCADE,
+                               FOREIGN KEY (building_id) REFERENCES buildings(id) ON DELETE CASCADE
+);
+
+INSERT INTO unit_fee_type_balances (unit_id, fee_type_id, charged, paid)
+SELECT f.unit_id,
+       f.fee_type_id,
+       SUM(CASE WHEN f.status <> 'CANCELLED' THEN f.amount ELSE 0 END),
+       COALESCE(SUM(p.paid), 0)
+FROM fees f
+         LEFT JOIN (SELECT fee_id, SUM(amount) AS paid FROM payments GROUP BY fee_id) p ON p.fee_id = f.id
+GROUP BY f.unit_id, f.fee_type_id;
+
+INSERT INTO unit_balances (unit_id, building_id, charged, paid)
+SELECT u.id, u.building_id, SUM(b.charged), SUM(b.paid)
+FROM unit_fee_type_balances b
+         JOIN units u ON u.id = b.unit_id
+GROUP BY u.id, u.building_id;
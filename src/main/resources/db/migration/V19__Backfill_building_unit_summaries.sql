@@ -0,0 +1,15 @@
+-- Toda fila de buildings tiene su resumen: BuildingUnitSummaryProjector solo aplica upserts
+-- relativos y ya no reconstruye al encontrar la fila ausente
+INSERT IGNORE INTO building_unit_summaries (building_id, total_units, occupied_units, apartment_units,
+                                            parking_units, storage_units, commercial_units, total_area)
+SELECT b.id,
+       COUNT(u.id),
+       COALESCE(SUM(u.owner_id IS NOT NULL), 0),
+       COALESCE(SUM(u.unit_type = 'APARTMENT'), 0),
+       COALESCE(SUM(u.unit_type = 'PARKING'), 0),
+       COALESCE(SUM(u.unit_type = 'STORAGE'), 0),
+       COALESCE(SUM(u.unit_type = 'COMMERCIAL'), 0),
+       COALESCE(SUM(u.area), 0)
+FROM buildings b
+         LEFT JOIN units u ON u.building_id = b.id AND u.is_active = TRUE
+GROUP BY b.id;
@@ -0,0 +1,7 @@
+-- Columnas de orden del listado por cursor (KeysetPaginator): un NULL rompería la
+-- comparación (created_at, id) > (?, ?). Auditable ya las declara nullable = false.
+UPDATE buildings SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+UPDATE units SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE buildings MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE units MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
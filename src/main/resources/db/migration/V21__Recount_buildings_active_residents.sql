@@ -0,0 +1,9 @@
+-- Residentes = propietarios e inquilinos asignados a unidades activas, la misma definición que
+-- aplican los deltas de BuildingUnitSummaryProjector (V15 también exigía users.is_active)
+UPDATE buildings b
+    LEFT JOIN (SELECT u.building_id,
+                      SUM(u.owner_id IS NOT NULL) + SUM(u.tenant_id IS NOT NULL) AS active_residents
+               FROM units u
+               WHERE u.is_active = TRUE
+               GROUP BY u.building_id) c ON c.building_id = b.id
+SET b.active_residents = COALESCE(c.active_residents, 0);
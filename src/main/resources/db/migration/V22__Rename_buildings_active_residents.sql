@@ -0,0 +1,4 @@
+-- La columna cuenta huecos de propietario e inquilino ocupados en unidades activas (V21), no
+-- personas distintas ni usuarios activos: un usuario en dos unidades suma dos
+ALTER TABLE buildings
+    RENAME COLUMN active_residents TO assigned_occupants;
@@ -0,0 +1,92 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.auth.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.UnauthorizedException;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.dto.IssuedRefreshToken;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.RefreshToken;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.entity.TokenRevocation;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.repository.RefreshTokenRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.auth.repository.TokenRevocationRepository;
+import com.buildingmanagement.buildingmanagementbackend.security.JwtTokenProvider;
+import com.buildingmanagement.buildingmanagementbackend.security.RevokedSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenRevocationRepository revocationRepository;
+
+    @Mock
+    private RevokedSessionRegistry revokedSessionRegistry;
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationInMs", 604_800_000L);
+    }
+
+    @Test
+    void rotate_IssuesNewTokenInSameSession() {
+        IssuedRefreshToken issued = refreshTokenService.issue(1L);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        RefreshToken stored = saved.getValue();
+        stored.setId(10L);
+
+        assertNotEquals(issued.getToken(), stored.getTokenHash());
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(10L), any())).thenReturn(1);
+
+        IssuedRefreshToken rotated = refreshTokenService.rotate(issued.getToken());
+
+        assertEquals(issued.getSessionId(), rotated.getSessionId());
+        assertNotEquals(issued.getToken(), rotated.getToken());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void rotate_ReusedTokenRevokesWholeSession() {
+        RefreshToken used = RefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .tokenHash("hash")
+                .familyId("session-1")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .revokedAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(used));
+        when(tokenProvider.getExpirationInMs()).thenReturn(60_000L);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("stolen-token"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("session-1"), any());
+        verify(revocationRepository).save(any(TokenRevocation.class));
+        // Sin transacción activa la revocación local se aplica de inmediato
+        verify(revokedSessionRegistry).revoke(eq("session-1"), anyLong());
+    }
+}
@@ -0,0 +1,152 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import com.buildingmanagement.buildingmanagementbackend.shared.persistence.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latencia de la búsqueda de edificios por nombre sobre 100k edificios: FULLTEXT (ngram)
+ * frente al LIKE con comodín inicial que reemplazó, y el LIKE que se mantiene para términos
+ * más cortos que el token de ngram. Cada búsqueda es una página más su count, como en el
+ * listado. Imprime p50/p95 por consola; no afirma tiempos.
+ */
+@MySqlIntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BuildingSearchLatencyTest {
+
+    private static final String PREFIX = "search-it ";
+    private static final int BUILDINGS = 100_000;
+    private static final int BATCH = 2_000;
+    private static final int WARMUP = 20;
+    private static final int QUERIES = 200;
+
+    // LIKE con comodín inicial de BuildingRepository antes de V14
+    private static final String OLD_LIKE_WHERE = " FROM Building b WHERE LOWER(b.name) LIKE LOWER(CONCAT('%', :name, '%'))";
+
+    private static final Pageable PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(42);
+    private List<String> words;
+
+    @BeforeAll
+    void seed() {
+        cleanUp();
+        words = words(500);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < BUILDINGS; i++) {
+            rows.add(new Object[]{
+                    PREFIX + pick() + " " + pick() + " " + i,
+                    "Calle " + pick() + " " + (i % 900 + 1),
+                    "Edificio " + pick() + " con " + pick()});
+            if (rows.size() == BATCH) {
+                jdbcTemplate.batchUpdate("INSERT INTO buildings (name, address, description) VALUES (?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE TABLE buildings");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM buildings WHERE name LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void nameSearch_ReportsFulltextAgainstLeadingWildcardLike() {
+        measure("buildings: FULLTEXT name (100k)", this::fulltextSearch, this::pick);
+        measure("buildings: leading-wildcard LIKE (100k)", this::oldLikeSearch, this::pick);
+    }
+
+    @Test
+    void nameSearch_ReportsShortTermLikeFallback() {
+        // Un solo carácter no genera tokens ngram: SearchSql vuelve al LIKE
+        measure("buildings: short-term LIKE fallback (100k)", this::fulltextSearch,
+                () -> String.valueOf((char) ('a' + random.nextInt(26))));
+    }
+
+    private Page<Building> fulltextSearch(String term) {
+        return buildingRepository.search(null, term, null, PAGE);
+    }
+
+    private Page<Building> oldLikeSearch(String term) {
+        List<Building> content = entityManager.createQuery("SELECT b" + OLD_LIKE_WHERE + " ORDER BY b.createdAt DESC", Building.class)
+                .setParameter("name", term)
+                .setMaxResults(PAGE.getPageSize())
+                .getResultList();
+        long total = entityManager.createQuery("SELECT COUNT(b)" + OLD_LIKE_WHERE, Long.class)
+                .setParameter("name", term)
+                .getSingleResult();
+        return new PageImpl<>(content, PAGE, total);
+    }
+
+    private void measure(String name, Function<String, Page<Building>> search, Supplier<String> terms) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.apply(terms.get());
+        }
+        long[] latencies = new long[QUERIES];
+        long found = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String term = terms.get();
+            long start = System.nanoTime();
+            found += search.apply(term).getTotalElements();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        MicroBenchmark.report(name, "p50 %8.2f ms  p95 %8.2f ms  (%d queries, %d rows/query)",
+                MicroBenchmark.percentile(latencies, 50) / 1e6, MicroBenchmark.percentile(latencies, 95) / 1e6,
+                QUERIES, found / QUERIES);
+        assertTrue(found > 0, name + " found nothing");
+    }
+
+    private String pick() {
+        return words.get(random.nextInt(words.size()));
+    }
+
+    // Palabras sintéticas de 2-3 sílabas: vocabulario controlado y reproducible
+    private List<String> words(int count) {
+        String[] syllables = {"ba", "ce", "di", "fo", "gu", "la", "me", "ni", "po", "ru", "sa", "te", "vi", "zo", "mar", "sol"};
+        List<String> result = new ArrayList<>(count);
+        Random seeded = new Random(7);
+        while (result.size() < count) {
+            StringBuilder word = new StringBuilder();
+            int parts = 2 + seeded.nextInt(2);
+            for (int i = 0; i < parts; i++) {
+                word.append(syllables[seeded.nextInt(syllables.length)]);
+            }
+            if (!result.contains(word.toString())) {
+                result.add(word.toString());
+            }
+        }
+        return result;
+    }
+}
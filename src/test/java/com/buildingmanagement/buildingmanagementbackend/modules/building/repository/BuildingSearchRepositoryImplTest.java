@@ -0,0 +1,53 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildingSearchRepositoryImplTest {
+
+    @Test
+    void searchSql_CombinesFiltersWithAndAndRanksByRelevance() {
+        BuildingSearchRepositoryImpl.SearchSql sql = BuildingSearchRepositoryImpl.SearchSql.of(
+                "torre norte", "Torre", "Av. 5", Sort.by("name"));
+
+        assertEquals(2, sql.where().split(" AND ").length - 1);
+        assertTrue(sql.orderBy().startsWith(" ORDER BY MATCH(b.name, b.address, b.description)"));
+        assertTrue(sql.count().startsWith("SELECT COUNT(*) FROM buildings b WHERE"));
+        assertEquals(Map.of("text", "torre norte", "name", "\"Torre\"", "address", "\"Av. 5\""), sql.parameters());
+    }
+
+    @Test
+    void searchSql_StripsBooleanOperators() {
+        BuildingSearchRepositoryImpl.SearchSql sql = BuildingSearchRepositoryImpl.SearchSql.of(
+                null, "+torre* \"(sur)\"", "  ", Sort.unsorted());
+
+        assertEquals(Map.of("name", "\"torre sur\""), sql.parameters());
+        assertEquals(" ORDER BY b.id", sql.orderBy());
+    }
+
+    @Test
+    void searchSql_MapsSortWithoutText() {
+        BuildingSearchRepositoryImpl.SearchSql sql = BuildingSearchRepositoryImpl.SearchSql.of(
+                null, "torre", null, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertEquals(" ORDER BY b.created_at DESC, b.id", sql.orderBy());
+        assertThrows(BusinessException.class, () -> BuildingSearchRepositoryImpl.SearchSql.of(
+                null, "torre", null, Sort.by("adminUserId; DROP")));
+    }
+
+    @Test
+    void searchSql_FallsBackToLikeForTermsShorterThanNgramToken() {
+        BuildingSearchRepositoryImpl.SearchSql sql = BuildingSearchRepositoryImpl.SearchSql.of(
+                "b", "a", "_", Sort.by("name"));
+
+        assertFalse(sql.where().contains("MATCH"));
+        assertTrue(sql.where().contains("b.name LIKE :name"));
+        assertEquals(Map.of("text", "%b%", "name", "%a%", "address", "%\\_%"), sql.parameters());
+        assertEquals(" ORDER BY b.name ASC, b.id", sql.orderBy());
+    }
+}
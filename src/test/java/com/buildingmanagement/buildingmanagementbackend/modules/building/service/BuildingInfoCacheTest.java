@@ -0,0 +1,76 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.CachedBuildingInfo;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildingInfoCacheTest {
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @InjectMocks
+    private BuildingInfoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 30L);
+        cache.init();
+    }
+
+    @Test
+    void get_LoadsOnceAndComputesValidators() {
+        Building building = Building.builder().id(1L).name("Torre").address("Calle 1").build();
+        building.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        when(buildingRepository.findById(1L)).thenReturn(Optional.of(building));
+
+        CachedBuildingInfo first = cache.get(1L);
+        CachedBuildingInfo second = cache.get(1L);
+
+        assertSame(first, second);
+        assertEquals("Torre", first.info().getName());
+        assertTrue(first.eTag().startsWith("\"") && first.eTag().endsWith("\""));
+        assertTrue(first.lastModified() > 0);
+        verify(buildingRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void get_CachesMissingIds() {
+        when(buildingRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(99L));
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(99L));
+
+        verify(buildingRepository, times(1)).findById(99L);
+    }
+
+    @Test
+    void invalidate_ReloadsAndChangesETag() {
+        Building building = Building.builder().id(1L).name("Torre").address("Calle 1").build();
+        when(buildingRepository.findById(1L)).thenReturn(Optional.of(building));
+        String before = cache.get(1L).eTag();
+
+        building.setName("Torre Norte");
+        cache.invalidate(1L);
+
+        assertNotEquals(before, cache.get(1L).eTag());
+        verify(buildingRepository, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,147 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingListResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingWithAdminName;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.mapper.BuildingMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserNameProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildingServiceImplTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BuildingInfoCache buildingInfoCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private BuildingMapper buildingMapper;
+
+    @InjectMocks
+    private BuildingServiceImpl buildingService;
+
+    @Test
+    void getAllBuildings_ResolvesAdminNamesWithSingleQuery() {
+        List<Building> buildings = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            buildings.add(Building.builder().id(i).name("Torre " + i).address("Calle " + i)
+                    .adminUserId(i % 2 == 0 ? 10L : 11L).build());
+        }
+        Page<Building> page = new PageImpl<>(buildings);
+        when(buildingRepository.findAll(any(Pageable.class))).thenReturn(page);
+        when(userRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(userName(10L, "Admin A"), userName(11L, "Admin B")));
+
+        Page<BuildingListResponse> result = buildingService.getAllBuildings(new BuildingSearchRequest());
+
+        assertEquals(PAGE_SIZE, result.getNumberOfElements());
+        assertEquals("Admin B", result.getContent().get(0).getAdminName());
+        assertEquals("Admin A", result.getContent().get(1).getAdminName());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void scrollBuildings_ResolvesAdminNamesWithSingleQuery() {
+        List<Building> buildings = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            buildings.add(Building.builder().id(i).name("Torre " + i).address("Calle " + i)
+                    .adminUserId(i % 2 == 0 ? 10L : 11L).build());
+        }
+        when(buildingRepository.findBy(any(Specification.class), any())).thenReturn(buildings);
+        when(userRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(userName(10L, "Admin A"), userName(11L, "Admin B")));
+
+        BuildingSearchRequest request = new BuildingSearchRequest();
+        request.setSize(PAGE_SIZE);
+        PageResponse<BuildingListResponse> result = buildingService.scrollBuildings(request);
+
+        assertEquals(PAGE_SIZE, result.getContent().size());
+        assertEquals("Admin B", result.getContent().get(0).getAdminName());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void getBuildingById_ReadsAdminNameInSameQuery() {
+        Building building = Building.builder().id(1L).name("Torre").address("Calle").adminUserId(10L).build();
+        when(buildingRepository.findWithAdminNameById(1L))
+                .thenReturn(Optional.of(new BuildingWithAdminName(building, "Admin A")));
+
+        BuildingResponse response = buildingService.getBuildingById(1L);
+
+        assertEquals("Admin A", response.getAdminName());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void createBuilding_ReusesValidatedAdmin() {
+        User admin = User.builder().id(10L).name("Admin A").role(UserRole.ADMIN).isActive(true).build();
+        when(userRepository.findById(10L)).thenReturn(Optional.of(admin));
+        when(buildingRepository.save(any(Building.class))).thenAnswer(invocation -> {
+            Building saved = invocation.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+
+        BuildingCreateRequest request = new BuildingCreateRequest();
+        request.setName("Torre");
+        request.setAddress("Calle");
+        request.setAdminUserId(10L);
+
+        BuildingResponse response = buildingService.createBuilding(request);
+
+        assertEquals("Admin A", response.getAdminName());
+        verify(userRepository, times(1)).findById(10L);
+    }
+
+    private static UserNameProjection userName(Long id, String name) {
+        return new UserNameProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.building.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingCreateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingListResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.dto.BuildingUpdateRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.mapper.BuildingMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import com.buildingmanagement.buildingmanagementbackend.shared.persistence.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sentencias por operación del servicio de edificios: los nombres de administrador se
+ * resuelven con joins o en bloque, nunca una consulta por fila.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BuildingServiceImpl.class, BuildingMapper.class})
+class BuildingServiceStatementCountTest {
+
+    @Autowired
+    private BuildingService buildingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private BuildingInfoCache buildingInfoCache;
+
+    private StatementCounter counter;
+    private User admin;
+    private User boardMember;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManager);
+        admin = persist(user("admin@test.com", UserRole.ADMIN));
+        boardMember = persist(user("board@test.com", UserRole.BOARD_MEMBER));
+        for (int i = 0; i < 5; i++) {
+            persist(Building.builder()
+                    .name("Building " + i)
+                    .address("Street " + i)
+                    .adminUserId(i % 2 == 0 ? admin.getId() : boardMember.getId())
+                    .build());
+        }
+    }
+
+    @Test
+    void getAllBuildings_LoadsPageCountAndAdminNamesInThreeStatements() {
+        BuildingSearchRequest request = new BuildingSearchRequest();
+        request.setSize(3);
+
+        StatementCounter.Counted<Page<BuildingListResponse>> page =
+                counter.count(() -> buildingService.getAllBuildings(request));
+
+        assertEquals(3, page.result().getNumberOfElements());
+        assertTrue(page.result().getContent().stream().allMatch(building -> building.getAdminName() != null));
+        assertEquals(3, page.statements());
+    }
+
+    @Test
+    void getBuildingById_LoadsBuildingAndAdminNameInOneStatement() {
+        Long id = persist(Building.builder().name("Detail").address("Street 9").adminUserId(admin.getId()).build()).getId();
+
+        StatementCounter.Counted<BuildingResponse> detail = counter.count(() -> buildingService.getBuildingById(id));
+
+        assertEquals("Admin", detail.result().getAdminName());
+        assertEquals(1, detail.statements());
+    }
+
+    @Test
+    void createBuilding_ChecksNameAndAdminThenInsertsBuildingAndSummary() {
+        BuildingCreateRequest request = new BuildingCreateRequest();
+        request.setName("New building");
+        request.setAddress("New street 1");
+        request.setAdminUserId(admin.getId());
+
+        StatementCounter.Counted<BuildingResponse> created = counter.count(() -> buildingService.createBuilding(request));
+
+        assertEquals("Admin", created.result().getAdminName());
+        assertEquals(4, created.statements());
+    }
+
+    @Test
+    void updateBuilding_LoadsChecksAndUpdatesInFourStatements() {
+        Long id = persist(Building.builder().name("Old name").address("Street 9").adminUserId(admin.getId()).build()).getId();
+        BuildingUpdateRequest request = new BuildingUpdateRequest();
+        request.setName("New name");
+        request.setAddress("Street 10");
+        request.setAdminUserId(boardMember.getId());
+
+        StatementCounter.Counted<BuildingResponse> updated = counter.count(() -> buildingService.updateBuilding(id, request));
+
+        assertEquals("Board member", updated.result().getAdminName());
+        assertEquals(4, updated.statements());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static User user(String email, UserRole role) {
+        return User.builder()
+                .email(email)
+                .password("hash")
+                .name(role == UserRole.ADMIN ? "Admin" : "Board member")
+                .role(role)
+                .isActive(true)
+                .build();
+    }
+}
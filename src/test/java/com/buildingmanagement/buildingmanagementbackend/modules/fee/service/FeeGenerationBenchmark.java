@@ -0,0 +1,111 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.ActiveFeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Un millón de cuotas: 1.000 edificios × 200 unidades × 5 tipos mensuales (2 por área).
+ * JdbcTemplate es un stub que solo cuenta sentencias y filas, así que se mide el trabajo
+ * en proceso (importes, batches, deltas de saldo), no los upserts en MySQL.
+ */
+@Tag(MicroBenchmark.TAG)
+class FeeGenerationBenchmark {
+
+    private static final int BUILDINGS = 1_000;
+    private static final int UNITS_PER_BUILDING = 200;
+    private static final int BATCH_SIZE = 500;
+
+    @Test
+    void generateOneMillionFees() {
+        CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate();
+        FeeServiceImpl feeService = feeService(jdbcTemplate);
+        LocalDate dueDate = LocalDate.of(2025, 6, 10);
+
+        MicroBenchmark.Result result = MicroBenchmark.run("fees: generateForBuilding (1000 fees)", 1, 3, BUILDINGS,
+                i -> feeService.generateForBuilding((long) i, 6, 2025, dueDate).written());
+
+        long rows = (long) BUILDINGS * UNITS_PER_BUILDING * 5;
+        MicroBenchmark.report("fees: 1M fees in process", "%8.0f ms  %d statements/pass",
+                result.median() * BUILDINGS / 1e6, jdbcTemplate.statements / 4);
+        assertEquals(rows * 4, jdbcTemplate.upsertRows);
+    }
+
+    private static FeeServiceImpl feeService(JdbcTemplate jdbcTemplate) {
+        FeeTypeService feeTypeService = mock(FeeTypeService.class);
+        FeeTypeCatalog catalog = FeeTypeCatalog.of(1L, 1, List.of(
+                feeType(1L, "85.00", false),
+                feeType(2L, "1.75", true),
+                feeType(3L, "12.50", false),
+                feeType(4L, "0.40", true),
+                feeType(5L, "30.00", false)));
+        when(feeTypeService.getCatalog(anyLong())).thenReturn(catalog);
+
+        FeeServiceImpl feeService = new FeeServiceImpl(mock(FeeTypeRepository.class), feeTypeService,
+                mock(FeeRepository.class), mock(UnitRepository.class), new UnitBalanceLedger(jdbcTemplate),
+                mock(UnitBalanceRebuilder.class), mock(FeeMapper.class), mock(BuildingRepository.class),
+                jdbcTemplate, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(feeService, "batchSize", BATCH_SIZE);
+        return feeService;
+    }
+
+    private static ActiveFeeType feeType(Long id, String baseAmount, boolean perArea) {
+        return new ActiveFeeType(id, 1L, "Fee " + id, null, Money.of(baseAmount), FeeFrequency.MONTHLY, perArea, null, null);
+    }
+
+    private static final class CountingJdbcTemplate extends JdbcTemplate {
+        private long statements;
+        private long upsertRows;
+
+        // Unidades activas del edificio: {id, área en centésimas}
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            statements++;
+            long buildingId = ((Number) args[0]).longValue();
+            List<long[]> units = new ArrayList<>(UNITS_PER_BUILDING);
+            for (int i = 0; i < UNITS_PER_BUILDING; i++) {
+                units.add(new long[]{buildingId * UNITS_PER_BUILDING + i, 4_000 + i * 37L});
+            }
+            return (List<T>) units;
+        }
+
+        // Cuotas existentes del batch: ninguna (primera generación del período)
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            statements++;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs, int[] argTypes) {
+            statements++;
+            if (sql.startsWith("INSERT INTO fees")) {
+                upsertRows += batchArgs.size();
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.shared.job.JobCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeeOverdueSweeperTest {
+
+    private static final String JOB = FeeOverdueSweeper.JOB_NAME;
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private FeeOverdueSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sweeper, "chunkSize", 100L);
+        ReflectionTestUtils.setField(sweeper, "maxChunksPerRun", 10);
+        sweeper.init();
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM fees", Long.class)).thenReturn(250L);
+    }
+
+    @Test
+    void sweep_AdvancesPositionAfterEachChunkUntilEndAndRestartsPass() {
+        when(checkpointRepository.lockPosition(JOB)).thenReturn(0L, 100L, 200L, 250L);
+        when(jdbcTemplate.update(anyString(), anyLong(), anyLong(), any(Date.class))).thenReturn(7, 0, 3);
+
+        assertEquals(10, sweeper.sweep(TODAY));
+
+        InOrder inOrder = inOrder(jdbcTemplate, checkpointRepository);
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(0L), eq(100L), eq(Date.valueOf(TODAY)));
+        inOrder.verify(checkpointRepository).setPosition(JOB, 100L);
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(100L), eq(200L), eq(Date.valueOf(TODAY)));
+        inOrder.verify(checkpointRepository).setPosition(JOB, 200L);
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(200L), eq(250L), eq(Date.valueOf(TODAY)));
+        inOrder.verify(checkpointRepository).setPosition(JOB, 250L);
+        inOrder.verify(checkpointRepository).setPosition(JOB, 0L);
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void sweep_FailedChunkRollsBackWithoutAdvancingPosition() {
+        when(checkpointRepository.lockPosition(JOB)).thenReturn(100L);
+        when(jdbcTemplate.update(anyString(), anyLong(), anyLong(), any(Date.class)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> sweeper.sweep(TODAY));
+
+        verify(checkpointRepository, never()).setPosition(anyString(), anyLong());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void sweep_StopsWhileAnotherNodeHoldsTheCheckpoint() {
+        when(checkpointRepository.lockPosition(JOB)).thenReturn(null);
+
+        assertEquals(0, sweeper.sweep(TODAY));
+
+        verify(jdbcTemplate, never()).update(anyString(), anyLong(), anyLong(), any(Date.class));
+    }
+}
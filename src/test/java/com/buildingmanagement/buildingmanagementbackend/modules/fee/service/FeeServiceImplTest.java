@@ -0,0 +1,156 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.ActiveFeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeeServiceImplTest {
+
+    @Mock
+    private FeeTypeRepository feeTypeRepository;
+
+    @Mock
+    private FeeTypeService feeTypeService;
+
+    @Mock
+    private FeeRepository feeRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private UnitBalanceLedger balanceLedger;
+
+    @Mock
+    private UnitBalanceRebuilder balanceRebuilder;
+
+    @Mock
+    private FeeMapper feeMapper;
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private FeeServiceImpl feeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feeService, "batchSize", 2);
+    }
+
+    @Test
+    void appliesTo_FollowsFrequency() {
+        ActiveFeeType oneTime = new ActiveFeeType(4L, 1L, "Fee 4", null, Money.of("10.00"),
+                FeeFrequency.ONE_TIME, false, LocalDateTime.of(2025, 3, 15, 10, 0), null);
+
+        assertTrue(FeeServiceImpl.appliesTo(feeType(1L, FeeFrequency.MONTHLY, "1", false), 5, 2025));
+        assertTrue(FeeServiceImpl.appliesTo(feeType(2L, FeeFrequency.QUARTERLY, "1", false), 4, 2025));
+        assertFalse(FeeServiceImpl.appliesTo(feeType(2L, FeeFrequency.QUARTERLY, "1", false), 5, 2025));
+        assertFalse(FeeServiceImpl.appliesTo(feeType(3L, FeeFrequency.ANNUAL, "1", false), 2, 2025));
+        assertTrue(FeeServiceImpl.appliesTo(oneTime, 3, 2025));
+        assertFalse(FeeServiceImpl.appliesTo(oneTime, 3, 2026));
+    }
+
+    @Test
+    void amount_MultipliesAreaWhenPerArea() {
+        assertEquals(Money.of("150.00"),
+                FeeServiceImpl.amount(feeType(1L, FeeFrequency.MONTHLY, "150.00", false), 8000));
+        assertEquals(Money.of("139.13"),
+                FeeServiceImpl.amount(feeType(1L, FeeFrequency.MONTHLY, "2.50", true), 5565));
+        assertNull(FeeServiceImpl.amount(feeType(1L, FeeFrequency.MONTHLY, "2.50", true), -1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateForBuilding_UpsertsInBatchesAndAppliesBalanceDeltas() throws Exception {
+        when(feeTypeService.getCatalog(1L)).thenReturn(FeeTypeCatalog.of(1L, 3, List.of(
+                feeType(10L, FeeFrequency.MONTHLY, "100.00", false),
+                feeType(11L, FeeFrequency.MONTHLY, "2.00", true),
+                feeType(12L, FeeFrequency.ANNUAL, "500.00", false))));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L))).thenReturn(List.of(
+                new long[]{100L, 5000},
+                new long[]{101L, -1}));
+
+        // Ya existen: (100, 10) pendiente por 90.00 y (100, 11) pagada
+        ResultSet existing = mock(ResultSet.class);
+        when(existing.getLong("unit_id")).thenReturn(100L, 100L);
+        when(existing.getLong("fee_type_id")).thenReturn(10L, 11L);
+        when(existing.getBigDecimal("amount")).thenReturn(new BigDecimal("90.00"), new BigDecimal("100.00"));
+        when(existing.getString("status")).thenReturn("PENDING", "PAID");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(existing);
+            handler.processRow(existing);
+            return null;
+        }).doNothing().when(jdbcTemplate).query(contains("FOR UPDATE"), any(RowCallbackHandler.class), any(Object[].class));
+
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(contains("ON DUPLICATE KEY UPDATE"), anyList(), any(int[].class)))
+                .thenAnswer(invocation -> {
+                    batchSizes.add(((List<Object[]>) invocation.getArgument(1)).size());
+                    return new int[0];
+                });
+
+        FeeServiceImpl.BuildingGeneration result = feeService.generateForBuilding(1L, 6, 2025, LocalDate.of(2025, 6, 10));
+
+        // 2 unidades × 2 tipos mensuales, menos la cuota por área de la unidad sin área
+        assertEquals(3, result.written());
+        assertEquals(List.of(101L), result.skippedUnitIds());
+        assertEquals(List.of(2, 1), batchSizes);
+
+        // El saldo suma solo la diferencia de la pendiente y nada por la pagada
+        ArgumentCaptor<List<UnitBalanceLedger.Delta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(balanceLedger, times(2)).apply(eq(1L), deltas.capture());
+        assertEquals(List.of(UnitBalanceLedger.Delta.charge(100L, 10L, 1000)), deltas.getAllValues().get(0));
+        assertEquals(List.of(UnitBalanceLedger.Delta.charge(101L, 10L, 10000)), deltas.getAllValues().get(1));
+    }
+
+    @Test
+    void generateForBuilding_SkipsWhenNoFeeTypeApplies() {
+        when(feeTypeService.getCatalog(1L)).thenReturn(FeeTypeCatalog.of(1L, 3, List.of(
+                feeType(12L, FeeFrequency.ANNUAL, "500.00", false))));
+
+        assertEquals(0, feeService.generateForBuilding(1L, 6, 2025, LocalDate.of(2025, 6, 10)).written());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static ActiveFeeType feeType(Long id, FeeFrequency frequency, String baseAmount, boolean perArea) {
+        return new ActiveFeeType(id, 1L, "Fee " + id, null, Money.of(baseAmount), frequency, perArea, null, null);
+    }
+}
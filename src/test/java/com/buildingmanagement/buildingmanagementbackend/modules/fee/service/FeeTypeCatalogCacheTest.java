@@ -0,0 +1,94 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.FeeFrequency;
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ResourceNotFoundException;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.FeeTypeCatalog;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.entity.FeeType;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.mapper.FeeTypeMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.repository.FeeTypeRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeeTypeCatalogCacheTest {
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private FeeTypeRepository feeTypeRepository;
+
+    @Spy
+    private FeeTypeMapper feeTypeMapper = new FeeTypeMapper();
+
+    @InjectMocks
+    private FeeTypeCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogCache, "maxSize", 100);
+        ReflectionTestUtils.setField(catalogCache, "versionCheckMillis", 0L);
+        catalogCache.init();
+    }
+
+    @Test
+    void get_IndexesByIdAndName() {
+        when(buildingRepository.findFeeTypeVersion(1L)).thenReturn(Optional.of(4L));
+        when(feeTypeRepository.findByBuildingIdAndIsActiveTrue(1L)).thenReturn(List.of(
+                feeType(10L, "Expensas ordinarias"), feeType(11L, "Fondo de reserva")));
+
+        FeeTypeCatalog catalog = catalogCache.get(1L);
+
+        assertEquals(4L, catalog.version());
+        assertEquals(11L, catalog.findByName("  fondo de RESERVA ").id());
+        assertEquals("Expensas ordinarias", catalog.findById(10L).name());
+        assertNull(catalog.findById(99L));
+    }
+
+    @Test
+    void get_ReloadsOnlyWhenVersionChanges() {
+        when(buildingRepository.findFeeTypeVersion(1L)).thenReturn(Optional.of(4L), Optional.of(4L), Optional.of(5L));
+        when(feeTypeRepository.findByBuildingIdAndIsActiveTrue(1L))
+                .thenReturn(List.of(feeType(10L, "Expensas ordinarias")))
+                .thenReturn(List.of());
+
+        FeeTypeCatalog first = catalogCache.get(1L);
+        assertSame(first, catalogCache.get(1L));
+        assertTrue(catalogCache.get(1L).feeTypes().isEmpty());
+
+        verify(feeTypeRepository, times(2)).findByBuildingIdAndIsActiveTrue(1L);
+    }
+
+    @Test
+    void get_ThrowsWhenBuildingDoesNotExist() {
+        when(buildingRepository.findFeeTypeVersion(9L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> catalogCache.get(9L));
+    }
+
+    private static FeeType feeType(Long id, String name) {
+        return FeeType.builder()
+                .id(id)
+                .buildingId(1L)
+                .name(name)
+                .baseAmount(Money.of("100.00"))
+                .frequency(FeeFrequency.MONTHLY)
+                .isPerArea(false)
+                .isActive(true)
+                .build();
+    }
+}
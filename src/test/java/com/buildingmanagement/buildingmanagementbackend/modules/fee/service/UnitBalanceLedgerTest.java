@@ -0,0 +1,55 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitBalanceLedgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UnitBalanceLedger ledger;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_GroupsUnitTotalsAndSkipsZeroDeltas() {
+        ledger.apply(1L, List.of(
+                UnitBalanceLedger.Delta.charge(100L, 10L, 15000),
+                UnitBalanceLedger.Delta.charge(100L, 11L, -2550),
+                UnitBalanceLedger.Delta.payment(101L, 10L, 5000),
+                UnitBalanceLedger.Delta.charge(102L, 10L, 0)));
+
+        ArgumentCaptor<List<Object[]>> feeTypeRows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> unitRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("unit_fee_type_balances"), feeTypeRows.capture(), any(int[].class));
+        verify(jdbcTemplate).batchUpdate(contains("INTO unit_balances"), unitRows.capture(), any(int[].class));
+
+        assertEquals(3, feeTypeRows.getValue().size());
+        assertEquals(2, unitRows.getValue().size());
+        assertArrayEquals(new Object[]{100L, 1L, new BigDecimal("124.50"), new BigDecimal("0.00")},
+                unitRows.getValue().get(0));
+        assertArrayEquals(new Object[]{101L, 1L, new BigDecimal("0.00"), new BigDecimal("50.00")},
+                unitRows.getValue().get(1));
+    }
+
+    @Test
+    void apply_DoesNothingWithoutChanges() {
+        ledger.apply(1L, List.of(UnitBalanceLedger.Delta.charge(100L, 10L, 0)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
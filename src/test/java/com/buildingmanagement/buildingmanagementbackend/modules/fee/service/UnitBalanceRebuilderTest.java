@@ -0,0 +1,108 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.fee.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.fee.dto.BalanceRebuildResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitBalanceRebuilderTest {
+
+    private static final String ALL_BUILDINGS_SQL = "SELECT id FROM buildings ORDER BY id";
+    private static final String LOCK_BUILDING_SQL = "SELECT id FROM buildings WHERE id = ? FOR UPDATE";
+    private static final String DELETE_UNIT_BALANCES_SQL = "DELETE FROM unit_balances WHERE building_id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private UnitBalanceRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rebuilder, "rebuildThreads", 2);
+        rebuilder.init();
+    }
+
+    @Test
+    void rebuild_FailedBuildingIsReportedAndOthersAreRebuilt() {
+        when(jdbcTemplate.queryForList(ALL_BUILDINGS_SQL, Long.class)).thenReturn(List.of(1L, 2L, 3L));
+        when(jdbcTemplate.queryForList(eq(LOCK_BUILDING_SQL), eq(Long.class), anyLong())).thenAnswer(invocation -> {
+            Long buildingId = invocation.getArgument(2);
+            if (buildingId == 2L) {
+                throw new CannotAcquireLockException("lock wait timeout");
+            }
+            return List.of(buildingId);
+        });
+
+        BalanceRebuildResponse response = rebuilder.rebuild(null);
+
+        assertEquals(3, response.getTotalBuildings());
+        assertEquals(2, response.getRebuiltBuildings());
+        assertEquals(List.of(2L), response.getFailedBuildingIds());
+        verify(jdbcTemplate).update(DELETE_UNIT_BALANCES_SQL, 1L);
+        verify(jdbcTemplate).update(DELETE_UNIT_BALANCES_SQL, 3L);
+        verify(jdbcTemplate, never()).update(DELETE_UNIT_BALANCES_SQL, 2L);
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void verifyAll_RebuildsOnlyDriftedBuildings() throws Exception {
+        when(jdbcTemplate.queryForList(ALL_BUILDINGS_SQL, Long.class)).thenReturn(List.of(1L, 2L));
+
+        // Edificio 2: fees y payments esperan 150.00 cargados pero no hay saldo guardado
+        ResultSet expected = mock(ResultSet.class);
+        when(expected.getLong("unit_id")).thenReturn(100L);
+        when(expected.getLong("fee_type_id")).thenReturn(10L);
+        when(expected.getBigDecimal("charged")).thenReturn(new BigDecimal("150.00"));
+        when(expected.getBigDecimal("paid")).thenReturn(BigDecimal.ZERO);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(expected);
+            return null;
+        }).when(jdbcTemplate).query(eq(UnitBalanceRebuilder.EXPECTED_SQL), any(RowCallbackHandler.class), eq(2L), eq(2L));
+
+        rebuilder.verifyAll();
+
+        verify(jdbcTemplate).update(DELETE_UNIT_BALANCES_SQL, 2L);
+        verify(jdbcTemplate, never()).update(DELETE_UNIT_BALANCES_SQL, 1L);
+        assertEquals(Map.of("rebuilds", 1L, "verifiedBuildings", 2L, "driftedBuildings", 1L), rebuilder.getMetrics());
+    }
+
+    @Test
+    void sameBalances_TreatsZeroRowsAsMissing() {
+        Map<String, BigDecimal[]> expected = Map.of("100:10", amounts("150.00", "50.00"));
+
+        assertTrue(UnitBalanceRebuilder.sameBalances(expected, Map.of(
+                "100:10", amounts("150.0", "50"),
+                "101:10", amounts("0.00", "0.00"))));
+        assertFalse(UnitBalanceRebuilder.sameBalances(expected, Map.of("100:10", amounts("150.00", "40.00"))));
+        assertFalse(UnitBalanceRebuilder.sameBalances(expected, Map.of()));
+        assertFalse(UnitBalanceRebuilder.sameBalances(Map.of(), Map.of("101:10", amounts("1.00", "0.00"))));
+    }
+
+    private static BigDecimal[] amounts(String charged, String paid) {
+        return new BigDecimal[]{new BigDecimal(charged), new BigDecimal(paid)};
+    }
+}
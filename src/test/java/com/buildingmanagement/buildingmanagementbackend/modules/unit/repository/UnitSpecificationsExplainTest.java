@@ -0,0 +1,166 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.shared.persistence.MySqlIntegrationTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Índice que MySQL elige para cada combinación de filtros de UnitSpecifications (V12 y V13).
+ * Los valores se escriben literales en el SQL generado para poder pasarlo a EXPLAIN tal cual.
+ *
+ * Reparto sembrado: en el edificio medido el 10 % de las unidades son PARKING, el 10 % no
+ * tiene propietario y el 10 % tiene inquilino, así cada filtro es selectivo por sí solo.
+ */
+@MySqlIntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitSpecificationsExplainTest$CapturedSql"
+})
+class UnitSpecificationsExplainTest {
+
+    private static final String PREFIX = "explain-it-";
+    private static final int BUILDINGS = 50;
+    private static final int UNITS_PER_BUILDING = 400;
+
+    // Índices con prefijo (building_id, is_active) o (building_id, unit_number): sin más filtros
+    // cualquiera resuelve el rango del edificio; el de unit_number además evita el filesort
+    private static final Set<String> BUILDING_RANGE = Set.of("uk_units_building_number",
+            "idx_units_building_active_type", "idx_units_building_active_owner",
+            "idx_units_building_active_tenant", "idx_units_building_active_created");
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long buildingId;
+
+    @BeforeAll
+    void seed() {
+        cleanUp();
+        jdbcTemplate.update("INSERT INTO users (email, password, name, role) VALUES (?, 'hash', 'Owner', 'OWNER')",
+                PREFIX + "owner@test.com");
+        jdbcTemplate.update("INSERT INTO users (email, password, name, role) VALUES (?, 'hash', 'Tenant', 'TENANT')",
+                PREFIX + "tenant@test.com");
+        Long ownerId = userId("owner@test.com");
+        Long tenantId = userId("tenant@test.com");
+
+        for (int b = 0; b < BUILDINGS; b++) {
+            jdbcTemplate.update("INSERT INTO buildings (name, address) VALUES (?, 'Explain street')", PREFIX + b);
+            Long id = jdbcTemplate.queryForObject("SELECT id FROM buildings WHERE name = ?", Long.class, PREFIX + b);
+            if (buildingId == null) {
+                buildingId = id;
+            }
+            List<Object[]> rows = new ArrayList<>(UNITS_PER_BUILDING);
+            for (int u = 0; u < UNITS_PER_BUILDING; u++) {
+                rows.add(new Object[]{id, String.format("%04d", u), u % 10 == 0 ? "PARKING" : "APARTMENT",
+                        u % 10 == 1 ? null : ownerId, u % 10 == 2 ? tenantId : null});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO units (building_id, unit_number, unit_type, owner_id, tenant_id) " +
+                    "VALUES (?, ?, ?, ?, ?)", rows);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE units");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        // Las unidades se borran en cascada con el edificio
+        jdbcTemplate.update("DELETE FROM buildings WHERE name LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", PREFIX + "%");
+    }
+
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+                Arguments.of("no filters", request(null, null, null, null), BUILDING_RANGE),
+                Arguments.of("unitType", request(UnitType.PARKING, null, null, null),
+                        Set.of("idx_units_building_active_type")),
+                Arguments.of("hasOwner=false", request(null, false, null, null),
+                        Set.of("idx_units_building_active_owner")),
+                Arguments.of("hasTenant=true", request(null, null, true, null),
+                        Set.of("idx_units_building_active_tenant")),
+                Arguments.of("unitType + hasOwner=false", request(UnitType.PARKING, false, null, null),
+                        Set.of("idx_units_building_active_type", "idx_units_building_active_owner")),
+                Arguments.of("unitType + hasTenant=true", request(UnitType.PARKING, null, true, null),
+                        Set.of("idx_units_building_active_type", "idx_units_building_active_tenant")),
+                // LIKE '%...%' no usa índice: queda el rango del edificio
+                Arguments.of("unitNumber", request(null, null, null, "01"), BUILDING_RANGE),
+                Arguments.of("unitType + unitNumber", request(UnitType.PARKING, null, null, "01"),
+                        Set.of("idx_units_building_active_type")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    void listingQuery_UsesExpectedIndex(String combination, UnitSearchRequest request, Set<String> expectedKeys) {
+        CapturedSql.STATEMENTS.clear();
+        unitRepository.findAll(UnitSpecifications.forSearch(buildingId, request),
+                PageRequest.of(0, 20, Sort.by("unitNumber")));
+
+        String select = CapturedSql.STATEMENTS.stream()
+                .filter(sql -> !sql.toLowerCase().startsWith("select count"))
+                .findFirst()
+                .orElseThrow();
+        // Solo la paginación queda como parámetros JDBC ("limit ?,?" en el dialecto de MySQL)
+        String explained = select.replaceFirst("limit \\?,\\s*\\?", "limit 0,20").replace("limit ?", "limit 20");
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + explained);
+
+        assertEquals(1, plan.size(), combination + ": " + plan);
+        Map<String, Object> units = plan.get(0);
+        System.out.printf("[explain] %-28s type=%-6s key=%s rows=%s%n",
+                combination, units.get("type"), units.get("key"), units.get("rows"));
+        assertNotNull(units.get("key"), combination + " does not use an index: " + units);
+        for (String key : units.get("key").toString().split(",")) {
+            assertTrue(expectedKeys.contains(key), combination + " uses " + key + ", expected one of " + expectedKeys);
+        }
+    }
+
+    private Long userId(String email) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, PREFIX + email);
+    }
+
+    private static UnitSearchRequest request(UnitType unitType, Boolean hasOwner, Boolean hasTenant, String unitNumber) {
+        UnitSearchRequest request = new UnitSearchRequest();
+        request.setUnitType(unitType);
+        request.setHasOwner(hasOwner);
+        request.setHasTenant(hasTenant);
+        request.setUnitNumber(unitNumber);
+        return request;
+    }
+
+    /**
+     * Guarda el SQL que Hibernate prepara, para pasarlo a EXPLAIN.
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
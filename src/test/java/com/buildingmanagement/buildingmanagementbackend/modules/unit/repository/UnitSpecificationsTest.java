@@ -0,0 +1,64 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.repository;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitSpecificationsTest {
+
+    @Mock
+    private Root<Unit> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Object> path;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(root.get(anyString())).thenReturn(path);
+    }
+
+    @Test
+    void forSearch_WithoutFiltersOnlyRestrictsBuildingAndActive() {
+        UnitSpecifications.forSearch(1L, new UnitSearchRequest()).toPredicate(root, query, cb);
+
+        verify(cb).equal(path, 1L);
+        verify(root, never()).get("unitType");
+        verify(root, never()).get("ownerId");
+        verify(root, never()).get("tenantId");
+        verify(root, never()).get("unitNumber");
+    }
+
+    @Test
+    void forSearch_AddsOnlyPresentFilters() {
+        UnitSearchRequest request = new UnitSearchRequest();
+        request.setUnitType(UnitType.PARKING);
+        request.setHasOwner(false);
+
+        UnitSpecifications.forSearch(1L, request).toPredicate(root, query, cb);
+
+        verify(cb).equal(path, UnitType.PARKING);
+        verify(cb).isNull(path);
+        verify(root).get("ownerId");
+        verify(root, never()).get("tenantId");
+        verify(cb, never()).isNotNull(any());
+    }
+}
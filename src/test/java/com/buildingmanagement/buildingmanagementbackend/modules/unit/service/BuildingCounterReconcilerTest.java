@@ -0,0 +1,53 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildingCounterReconcilerTest {
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private BuildingUnitSummaryProjector summaryProjector;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BuildingCounterReconciler reconciler;
+
+    @Test
+    void reconcile_RecountsEachDriftedBuildingUnderUnitThenBuildingLocks() {
+        reconciler.init();
+        when(buildingRepository.findCounterDriftIds()).thenReturn(List.of(1L, 2L));
+        when(buildingRepository.lockById(1L)).thenReturn(Optional.of(1L));
+        when(buildingRepository.lockById(2L)).thenReturn(Optional.empty());
+
+        assertEquals(2, reconciler.reconcile());
+
+        InOrder inOrder = inOrder(unitRepository, buildingRepository, summaryProjector);
+        inOrder.verify(unitRepository).lockByBuildingId(1L);
+        inOrder.verify(buildingRepository).lockById(1L);
+        inOrder.verify(summaryProjector).recount(1L);
+        verify(summaryProjector, never()).recount(2L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
@@ -0,0 +1,114 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.UnitSnapshot;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.BuildingUnitSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildingUnitSummaryProjectorTest {
+
+    @Mock
+    private BuildingUnitSummaryRepository summaryRepository;
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @InjectMocks
+    private BuildingUnitSummaryProjector projector;
+
+    private Unit unit;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projector, "enabled", true);
+
+        unit = Unit.builder()
+                .id(10L)
+                .buildingId(1L)
+                .unitNumber("101")
+                .unitType(UnitType.COMMERCIAL)
+                .area(40.0)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void apply_CreateAddsAllCounters() {
+        projector.apply(null, UnitSnapshot.of(unit));
+
+        verify(summaryRepository).applyDelta(1L, 1, 0, 0, 0, 0, 1, 40.0);
+        verify(buildingRepository).applyCounterDelta(1L, 1, 0, 40.0, 0);
+    }
+
+    @Test
+    void apply_AssignOwnerOnlyChangesOccupied() {
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        unit.setOwnerId(5L);
+
+        projector.apply(before, UnitSnapshot.of(unit));
+
+        verify(summaryRepository).applyDelta(1L, 0, 1, 0, 0, 0, 0, 0.0);
+        verify(buildingRepository).applyCounterDelta(1L, 0, 1, 0.0, 1);
+    }
+
+    @Test
+    void apply_TenantChangeOnlyUpdatesAssignedOccupants() {
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        unit.setTenantId(6L);
+
+        projector.apply(before, UnitSnapshot.of(unit));
+
+        verify(summaryRepository, never()).applyDelta(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyDouble());
+        verify(buildingRepository).applyCounterDelta(1L, 0, 0, 0.0, 1);
+    }
+
+    @Test
+    void apply_MoveBetweenBuildingsUpdatesBoth() {
+        UnitSnapshot before = UnitSnapshot.of(unit);
+        unit.setBuildingId(2L);
+
+        projector.apply(before, UnitSnapshot.of(unit));
+
+        verify(buildingRepository).applyCounterDelta(1L, -1, 0, -40.0, 0);
+        verify(buildingRepository).applyCounterDelta(2L, 1, 0, 40.0, 0);
+    }
+
+    @Test
+    void applyAll_GroupsDeltasPerBuilding() {
+        ReflectionTestUtils.setField(projector, "enabled", false);
+        Unit second = Unit.builder().buildingId(1L).unitType(UnitType.PARKING).area(12.5)
+                .ownerId(5L).tenantId(6L).isActive(true).build();
+
+        projector.applyAll(Arrays.asList(null, null), List.of(UnitSnapshot.of(unit), UnitSnapshot.of(second)));
+
+        verify(buildingRepository).applyCounterDelta(1L, 2, 1, 52.5, 2);
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    void apply_AlwaysUpsertsWithoutExistenceCheck() {
+        unit.setBuildingId(2L);
+
+        projector.apply(null, UnitSnapshot.of(unit));
+
+        verify(summaryRepository).applyDelta(2L, 1, 0, 0, 0, 0, 1, 40.0);
+        verify(summaryRepository, never()).existsById(anyLong());
+        verify(summaryRepository, never()).rebuild(anyLong());
+    }
+}
@@ -0,0 +1,153 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.AssignmentRole;
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitBulkAssignmentResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserReferenceProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitBulkAssignmentServiceImplTest {
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BuildingUnitSummaryProjector summaryProjector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UnitBulkAssignmentServiceImpl bulkAssignmentService;
+
+    @Test
+    void assign_GroupsValidItemsIntoSetBasedUpdatesAndReportsFailures() {
+        stubUnitsAndUsers();
+        when(unitRepository.assignOwner(eq(1L), anyList(), eq(100L))).thenReturn(3);
+        when(unitRepository.clearTenant(eq(1L), anyList())).thenReturn(1);
+        when(unitRepository.assignTenant(eq(1L), anyList(), eq(200L))).thenReturn(1);
+
+        UnitBulkAssignmentRequest request = new UnitBulkAssignmentRequest();
+        request.setAssignments(List.of(
+                item(1L, 100L, AssignmentRole.OWNER),
+                item(2L, 100L, AssignmentRole.OWNER),
+                item(3L, 100L, AssignmentRole.OWNER),
+                item(3L, 100L, AssignmentRole.OWNER),   // duplicado
+                item(4L, null, AssignmentRole.TENANT),
+                item(1L, 200L, AssignmentRole.OWNER),   // inquilino no puede ser propietario (y duplicado)
+                item(2L, 200L, AssignmentRole.TENANT),
+                item(9L, 100L, AssignmentRole.OWNER),   // otro edificio
+                item(3L, 999L, AssignmentRole.TENANT))); // usuario inexistente
+
+        UnitBulkAssignmentResponse response = bulkAssignmentService.assign(1L, request);
+
+        assertEquals(9, response.getRequested());
+        assertEquals(5, response.getApplied());
+        assertEquals(0, response.getSkipped());
+        assertEquals(4, response.getFailed());
+        assertEquals(3, response.getUpdateStatements());
+
+        verify(unitRepository).assignOwner(eq(1L), eq(List.of(1L, 2L, 3L)), eq(100L));
+        verify(unitRepository).clearTenant(eq(1L), eq(List.of(4L)));
+        verify(unitRepository).assignTenant(eq(1L), eq(List.of(2L)), eq(200L));
+        verify(unitRepository, never()).save(any());
+        verify(userRepository, times(1)).findReferencesByIdIn(anyCollection());
+        verify(summaryProjector).applyAll(argThat(before -> before.size() == 4), argThat(after -> after.size() == 4));
+        verify(eventPublisher, times(4)).publishEvent(any(UnitChangedEvent.class));
+    }
+
+    @Test
+    void assign_ReportsUnitsChangedConcurrentlyAsSkippedAndRecounts() {
+        stubUnitsAndUsers();
+        // Una de las tres unidades se dio de baja entre la lectura y el UPDATE
+        when(unitRepository.assignOwner(eq(1L), anyList(), eq(100L))).thenReturn(2);
+
+        UnitBulkAssignmentRequest request = new UnitBulkAssignmentRequest();
+        request.setAssignments(List.of(
+                item(1L, 100L, AssignmentRole.OWNER),
+                item(2L, 100L, AssignmentRole.OWNER),
+                item(3L, 100L, AssignmentRole.OWNER)));
+
+        UnitBulkAssignmentResponse response = bulkAssignmentService.assign(1L, request);
+
+        assertEquals(2, response.getApplied());
+        assertEquals(1, response.getSkipped());
+        verify(summaryProjector).recount(1L);
+        verify(summaryProjector, never()).applyAll(anyList(), anyList());
+        verify(eventPublisher).publishEvent(new BuildingUnitsChangedEvent(1L));
+        verify(eventPublisher, never()).publishEvent(any(UnitChangedEvent.class));
+    }
+
+    private void stubUnitsAndUsers() {
+        List<Unit> units = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            units.add(Unit.builder().id(id).buildingId(1L).unitNumber("P-0" + id)
+                    .unitType(UnitType.PARKING).tenantId(id == 4 ? 300L : null).isActive(true).build());
+        }
+        units.add(Unit.builder().id(9L).buildingId(2L).unitNumber("X").unitType(UnitType.PARKING).isActive(true).build());
+
+        when(buildingRepository.existsById(1L)).thenReturn(true);
+        when(unitRepository.findAllByIdForUpdate(anyCollection())).thenReturn(units);
+        when(userRepository.findReferencesByIdIn(anyCollection())).thenReturn(List.of(
+                user(100L, UserRole.OWNER), user(200L, UserRole.TENANT)));
+    }
+
+    private static UnitBulkAssignmentRequest.Item item(Long unitId, Long userId, AssignmentRole role) {
+        UnitBulkAssignmentRequest.Item item = new UnitBulkAssignmentRequest.Item();
+        item.setUnitId(unitId);
+        item.setUserId(userId);
+        item.setRole(role);
+        return item;
+    }
+
+    private static UserReferenceProjection user(Long id, UserRole role) {
+        return new UserReferenceProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + id + "@test.com";
+            }
+
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getIsActive() {
+                return true;
+            }
+        };
+    }
+}
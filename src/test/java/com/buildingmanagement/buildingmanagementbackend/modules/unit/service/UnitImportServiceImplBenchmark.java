@@ -0,0 +1,113 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitImportResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportParser;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Importación de 10.000 unidades con los repositorios simulados: mide el trabajo
+ * en proceso (lectura, validación, armado de batches), no los INSERT en MySQL.
+ */
+@Tag(MicroBenchmark.TAG)
+class UnitImportServiceImplBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final String[] TYPES = {"APARTMENT", "PARKING", "STORAGE", "COMMERCIAL"};
+
+    @Test
+    void import10kUnits() throws IOException {
+        byte[] csv = csv();
+        byte[] xlsx = xlsx();
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        UnitImportServiceImpl importService = importService(jdbcTemplate);
+
+        MicroBenchmark.run("import: 10k rows CSV, per import", 3, 5, 1, i ->
+                importService.importUnits(1L, new ByteArrayInputStream(csv), UnitImportParser.Format.CSV, false)
+                        .getImportedRows());
+        MicroBenchmark.run("import: 10k rows XLSX, per import", 3, 5, 1, i ->
+                importService.importUnits(1L, new ByteArrayInputStream(xlsx), UnitImportParser.Format.XLSX, false)
+                        .getImportedRows());
+
+        UnitImportResponse response = importService.importUnits(
+                1L, new ByteArrayInputStream(csv), UnitImportParser.Format.CSV, true);
+        assertEquals(ROWS, response.getImportedRows());
+        assertEquals(0, response.getFailedRows());
+    }
+
+    private static UnitImportServiceImpl importService(JdbcTemplate jdbcTemplate) {
+        BuildingRepository buildingRepository = mock(BuildingRepository.class);
+        UnitRepository unitRepository = mock(UnitRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(buildingRepository.existsById(1L)).thenReturn(true);
+        when(unitRepository.findUnitNumbersByBuildingId(1L)).thenReturn(List.of());
+        when(userRepository.findReferencesByEmailIn(anyCollection())).thenReturn(List.of());
+
+        UnitImportServiceImpl importService = new UnitImportServiceImpl(
+                buildingRepository, unitRepository, userRepository, new UnitImportParser(), jdbcTemplate,
+                mock(BuildingUnitSummaryProjector.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(importService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(importService, "maxRows", ROWS);
+        return importService;
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("unitNumber;unitType;area;ownerEmail;tenantEmail\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(unitNumber(i)).append(';').append(TYPES[i % TYPES.length]).append(';')
+                    .append(area(i)).append(";;\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] xlsx() throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("units");
+            Row header = sheet.createRow(0);
+            String[] columns = {"unitNumber", "unitType", "area", "ownerEmail", "tenantEmail"};
+            for (int c = 0; c < columns.length; c++) {
+                header.createCell(c).setCellValue(columns[c]);
+            }
+            for (int i = 0; i < ROWS; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(unitNumber(i));
+                row.createCell(1).setCellValue(TYPES[i % TYPES.length]);
+                row.createCell(2).setCellValue(area(i));
+            }
+            workbook.write(out);
+            workbook.dispose();
+            return out.toByteArray();
+        }
+    }
+
+    private static String unitNumber(int i) {
+        return "T" + (i / 1000) + "-" + (i % 1000);
+    }
+
+    private static String area(int i) {
+        return (30 + i % 120) + "." + (i % 100);
+    }
+}
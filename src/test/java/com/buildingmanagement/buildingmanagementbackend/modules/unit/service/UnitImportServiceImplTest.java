@@ -0,0 +1,170 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitImportResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.BuildingUnitsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.importer.UnitImportParser;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserReferenceProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitImportServiceImplTest {
+
+    private static final String CSV = String.join("\n",
+            "unitNumber;unitType;area;ownerEmail;tenantEmail",
+            "A-101;APARTMENT;55.5;owner@test.com;",
+            "A-102;APARTMENT;60;;tenant@test.com",
+            "a-101;APARTMENT;50;;",
+            "B-1;PARKING;12;;",
+            "C-1;CASTLE;10;;",
+            "C-2;STORAGE;;ghost@test.com;",
+            "C-3;STORAGE;-4;;",
+            "D-1;STORAGE;NaN;;",
+            "D-2;STORAGE;Infinity;;",
+            "D-3;STORAGE;1e400;;",
+            "D-4;STORAGE;12.345;;");
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UnitImportParser parser = new UnitImportParser();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BuildingUnitSummaryProjector summaryProjector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UnitImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        ReflectionTestUtils.setField(importService, "maxRows", 100);
+
+        when(buildingRepository.existsById(1L)).thenReturn(true);
+        when(unitRepository.findUnitNumbersByBuildingId(1L)).thenReturn(List.of("b-1"));
+        when(userRepository.findReferencesByEmailIn(anyCollection())).thenReturn(List.of(
+                user(10L, "owner@test.com", UserRole.OWNER),
+                user(11L, "tenant@test.com", UserRole.TENANT)));
+    }
+
+    @Test
+    void importUnits_ReportsInvalidRowsAndBatchesValidOnes() {
+        UnitImportResponse response = importService.importUnits(1L, csv(), UnitImportParser.Format.CSV, false);
+
+        assertEquals(11, response.getTotalRows());
+        assertEquals(2, response.getImportedRows());
+        assertEquals(9, response.getFailedRows());
+        assertEquals(List.of(4, 5, 6, 7, 8, 9, 10, 11, 12),
+                response.getErrors().stream().map(UnitImportResponse.RowError::getRow).toList());
+
+        // Una sola consulta para todos los emails y batches del tamaño configurado
+        verify(userRepository, times(1)).findReferencesByEmailIn(anyCollection());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), any(int[].class));
+        verify(summaryProjector).applyAll(anyList(), argThat(created -> created.size() == 2));
+        verify(eventPublisher).publishEvent(new BuildingUnitsChangedEvent(1L));
+    }
+
+    @Test
+    void importUnits_DryRunDoesNotWrite() {
+        UnitImportResponse response = importService.importUnits(1L, csv(), UnitImportParser.Format.CSV, true);
+
+        assertTrue(response.isDryRun());
+        assertEquals(2, response.getImportedRows());
+        verifyNoInteractions(jdbcTemplate, summaryProjector, eventPublisher);
+    }
+
+    @Test
+    void importUnits_ReadsXlsx() throws IOException {
+        UnitImportResponse response = importService.importUnits(1L, xlsx(), UnitImportParser.Format.XLSX, true);
+
+        assertEquals(11, response.getTotalRows());
+        assertEquals(2, response.getImportedRows());
+        assertEquals(9, response.getFailedRows());
+    }
+
+    private static InputStream csv() {
+        return new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Mismas filas que el CSV, todas como texto
+    private static InputStream xlsx() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("units");
+            String[] lines = CSV.split("\n");
+            for (int r = 0; r < lines.length; r++) {
+                Row row = sheet.createRow(r);
+                String[] cells = lines[r].split(";", -1);
+                for (int c = 0; c < cells.length; c++) {
+                    if (!cells[c].isEmpty()) {
+                        row.createCell(c).setCellValue(cells[c]);
+                    }
+                }
+            }
+            workbook.write(out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+    }
+
+    private static UserReferenceProjection user(Long id, String email, UserRole role) {
+        return new UserReferenceProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getIsActive() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitAutocompleteResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitNumberProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnitNumberIndexTest {
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @InjectMocks
+    private UnitNumberIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(unitRepository.findAllActiveUnitNumbers()).thenReturn(List.of(
+                unit(1L, 1L, "A-101"),
+                unit(2L, 1L, "101"),
+                unit(3L, 1L, "1010"),
+                unit(4L, 1L, "B-2101"),
+                unit(5L, 2L, "101")));
+        index.reloadAll();
+    }
+
+    @Test
+    void search_RanksExactThenPrefixThenInfix() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(2L, 3L, 1L, 4L), index.search(1L, "101"));
+        assertEquals(List.of(1L), index.search(1L, "a-1"));
+    }
+
+    @Test
+    void autocomplete_ReturnsTopK() {
+        List<UnitAutocompleteResponse> result = index.autocomplete(1L, "10", 2);
+
+        assertEquals(2, result.size());
+        assertEquals("101", result.get(0).getUnitNumber());
+        assertEquals("1010", result.get(1).getUnitNumber());
+    }
+
+    @Test
+    void onUnitChanged_UpdatesIndex() {
+        index.onUnitChanged(new UnitChangedEvent(6L, 1L, "101B", UnitType.APARTMENT, true, false));
+        index.onUnitChanged(new UnitChangedEvent(2L, 1L, "101", UnitType.APARTMENT, false, false));
+
+        assertEquals(List.of(3L, 6L, 1L, 4L), index.search(1L, "101"));
+        assertEquals(List.of(5L), index.search(2L, "101"));
+    }
+
+    @Test
+    void reloadAll_DoesNotOverwriteBuildingChangedDuringLoad() {
+        // La consulta devuelve el estado previo; el evento llega mientras se carga
+        when(unitRepository.findAllActiveUnitNumbers()).thenAnswer(invocation -> {
+            index.onUnitChanged(new UnitChangedEvent(6L, 1L, "101B", UnitType.APARTMENT, true, false));
+            return List.of(unit(1L, 1L, "A-101"), unit(5L, 2L, "102"));
+        });
+
+        index.reloadAll();
+
+        assertTrue(index.search(1L, "101").contains(6L));
+        assertEquals(List.of(5L), index.search(2L, "102"));
+    }
+
+    private static UnitNumberProjection unit(Long id, Long buildingId, String unitNumber) {
+        return new UnitNumberProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getBuildingId() {
+                return buildingId;
+            }
+
+            @Override
+            public String getUnitNumber() {
+                return unitNumber;
+            }
+        };
+    }
+}
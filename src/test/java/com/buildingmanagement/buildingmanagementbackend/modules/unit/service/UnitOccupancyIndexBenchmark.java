@@ -0,0 +1,103 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitOccupancyProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Consultas y eventos sobre un edificio de 2.000 plazas de garaje: ocupación aleatoria
+ * del 70% y un caso casi lleno con las libres al final (peor caso del recorrido del BitSet).
+ */
+@Tag(MicroBenchmark.TAG)
+class UnitOccupancyIndexBenchmark {
+
+    private static final int UNITS = 2_000;
+    private static final int OPS = 100_000;
+
+    @Test
+    void queriesAndEvents() {
+        UnitOccupancyIndex random = index(1L, i -> new Random(42L + i).nextInt(10) < 7);
+        MicroBenchmark.run("occupancy: firstFree(10), 70% occupied", 5, 10, OPS,
+                i -> random.firstFree(1L, UnitType.PARKING, 10).size());
+        MicroBenchmark.run("occupancy: counts", 5, 10, OPS,
+                i -> random.counts(1L, UnitType.PARKING)[1]);
+
+        UnitOccupancyIndex nearlyFull = index(1L, i -> i < UNITS - 10);
+        MicroBenchmark.run("occupancy: firstFree(10), free at the end", 5, 10, OPS,
+                i -> nearlyFull.firstFree(1L, UnitType.PARKING, 10).size());
+
+        MicroBenchmark.run("occupancy: assign/release event", 5, 10, OPS, i -> {
+            int unit = i % UNITS;
+            random.onUnitChanged(new UnitChangedEvent(unit + 1L, 1L, number(unit), UnitType.PARKING, true, i % 2 == 0));
+            return unit;
+        });
+
+        // Alta con número intermedio: reordena los ordinales del tipo
+        int[] next = {UNITS};
+        MicroBenchmark.run("occupancy: out-of-order unit creation", 1, 5, 200, i -> {
+            long id = ++next[0];
+            random.onUnitChanged(new UnitChangedEvent(id, 1L, "P-0000-" + id, UnitType.PARKING, true, false));
+            return id;
+        });
+
+        assertEquals(10, nearlyFull.firstFree(1L, UnitType.PARKING, 10).size());
+    }
+
+    private static UnitOccupancyIndex index(Long buildingId, java.util.function.IntPredicate occupied) {
+        List<UnitOccupancyProjection> units = new ArrayList<>(UNITS);
+        for (int i = 0; i < UNITS; i++) {
+            units.add(unit(i + 1L, buildingId, number(i), occupied.test(i) ? 100L + i : null));
+        }
+        UnitRepository unitRepository = mock(UnitRepository.class);
+        when(unitRepository.findAllActiveUnitOccupancy()).thenReturn(units);
+
+        UnitOccupancyIndex index = new UnitOccupancyIndex(unitRepository);
+        index.reloadAll();
+        return index;
+    }
+
+    private static String number(int i) {
+        return String.format("P-%04d", i);
+    }
+
+    private static UnitOccupancyProjection unit(Long id, Long buildingId, String unitNumber, Long ownerId) {
+        return new UnitOccupancyProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getBuildingId() {
+                return buildingId;
+            }
+
+            @Override
+            public String getUnitNumber() {
+                return unitNumber;
+            }
+
+            @Override
+            public UnitType getUnitType() {
+                return UnitType.PARKING;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.AvailableUnitResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitOccupancyProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnitOccupancyIndexTest {
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @InjectMocks
+    private UnitOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(unitRepository.findAllActiveUnitOccupancy()).thenReturn(List.of(
+                unit(1L, 1L, "P-01", UnitType.PARKING, 100L),
+                unit(2L, 1L, "P-02", UnitType.PARKING, null),
+                unit(3L, 1L, "P-03", UnitType.PARKING, null),
+                unit(4L, 1L, "A-101", UnitType.APARTMENT, 101L),
+                unit(5L, 2L, "P-01", UnitType.PARKING, null)));
+        index.reloadAll();
+    }
+
+    @Test
+    void firstFree_ReturnsFreeUnitsOfTypeInNumberOrder() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(2L, 3L), ids(index.firstFree(1L, UnitType.PARKING, 5)));
+        assertEquals(List.of(2L), ids(index.firstFree(1L, UnitType.PARKING, 1)));
+        assertTrue(index.firstFree(1L, UnitType.APARTMENT, 5).isEmpty());
+        assertArrayEquals(new long[]{3, 1}, index.counts(1L, UnitType.PARKING));
+    }
+
+    @Test
+    void onUnitChanged_TracksAssignmentsCreationsAndDeletions() {
+        index.onUnitChanged(new UnitChangedEvent(2L, 1L, "P-02", UnitType.PARKING, true, true));
+        index.onUnitChanged(new UnitChangedEvent(1L, 1L, "P-01", UnitType.PARKING, true, false));
+        index.onUnitChanged(new UnitChangedEvent(6L, 1L, "P-04", UnitType.PARKING, true, false));
+        index.onUnitChanged(new UnitChangedEvent(3L, 1L, "P-03", UnitType.PARKING, false, false));
+
+        assertEquals(List.of(1L, 6L), ids(index.firstFree(1L, UnitType.PARKING, 5)));
+        assertArrayEquals(new long[]{3, 1}, index.counts(1L, UnitType.PARKING));
+    }
+
+    @Test
+    void onUnitChanged_InsertsNewUnitsInNumberOrder() {
+        index.onUnitChanged(new UnitChangedEvent(6L, 1L, "P-00", UnitType.PARKING, true, false));
+        index.onUnitChanged(new UnitChangedEvent(3L, 1L, "p-015", UnitType.PARKING, true, false));
+
+        assertEquals(List.of(6L, 3L, 2L), ids(index.firstFree(1L, UnitType.PARKING, 5)));
+    }
+
+    @Test
+    void verify_ReloadsBuildingsThatDriftedPerUnit() {
+        // Mismos contadores que el índice, pero otra unidad ocupada: solo se detecta por id
+        when(unitRepository.findAllActiveUnitOccupancy()).thenReturn(List.of(
+                unit(1L, 1L, "P-01", UnitType.PARKING, null),
+                unit(2L, 1L, "P-02", UnitType.PARKING, 102L),
+                unit(3L, 1L, "P-03", UnitType.PARKING, null),
+                unit(4L, 1L, "A-101", UnitType.APARTMENT, 101L),
+                unit(5L, 2L, "P-01", UnitType.PARKING, null)));
+
+        index.verify();
+
+        assertEquals(List.of(1L, 3L), ids(index.firstFree(1L, UnitType.PARKING, 5)));
+        assertEquals(List.of(5L), ids(index.firstFree(2L, UnitType.PARKING, 5)));
+        assertEquals(1L, ((Map<?, ?>) index.getMetrics()).get("driftRepairs"));
+    }
+
+    @Test
+    void reloadAll_DoesNotOverwriteBuildingChangedDuringLoad() {
+        when(unitRepository.findAllActiveUnitOccupancy()).thenAnswer(invocation -> {
+            index.onUnitChanged(new UnitChangedEvent(2L, 1L, "P-02", UnitType.PARKING, true, true));
+            return List.of(unit(2L, 1L, "P-02", UnitType.PARKING, null));
+        });
+
+        index.reloadAll();
+
+        assertEquals(List.of(3L), ids(index.firstFree(1L, UnitType.PARKING, 5)));
+    }
+
+    private static List<Long> ids(List<AvailableUnitResponse> units) {
+        return units.stream().map(AvailableUnitResponse::getId).toList();
+    }
+
+    private static UnitOccupancyProjection unit(Long id, Long buildingId, String unitNumber, UnitType type, Long ownerId) {
+        return new UnitOccupancyProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getBuildingId() {
+                return buildingId;
+            }
+
+            @Override
+            public String getUnitNumber() {
+                return unitNumber;
+            }
+
+            @Override
+            public UnitType getUnitType() {
+                return type;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitRelation;
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitCountersProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitListResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSummaryResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitVersionProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.mapper.UnitMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.dto.UserNameProjection;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Regresión de cantidad de consultas: los listados resuelven los nombres de
+ * propietarios e inquilinos con una sola consulta, sin importar el tamaño de la página.
+ */
+@ExtendWith(MockitoExtension.class)
+class UnitServiceImplTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BuildingUnitSummaryProjector summaryProjector;
+
+    @Spy
+    private UnitMapper unitMapper;
+
+    @InjectMocks
+    private UnitServiceImpl unitService;
+
+    private List<Unit> units;
+
+    @BeforeEach
+    void setUp() {
+        units = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            units.add(Unit.builder()
+                    .id(i)
+                    .buildingId(1L)
+                    .unitNumber("U-" + i)
+                    .unitType(UnitType.APARTMENT)
+                    .ownerId(100 + i)
+                    .tenantId(200 + i)
+                    .isActive(true)
+                    .build());
+        }
+        lenient().when(userRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(userName(101L, "Owner 1"), userName(201L, "Tenant 1")));
+    }
+
+    @Test
+    void getUnitsByBuilding_ResolvesNamesWithSingleQuery() {
+        when(buildingRepository.existsById(1L)).thenReturn(true);
+        Page<Unit> page = new PageImpl<>(units);
+        when(unitRepository.findAll(ArgumentMatchers.<Specification<Unit>>any(), any(Pageable.class))).thenReturn(page);
+
+        Page<UnitListResponse> result = unitService.getUnitsByBuilding(1L, new UnitSearchRequest());
+
+        assertEquals(PAGE_SIZE, result.getNumberOfElements());
+        assertEquals("Owner 1", result.getContent().get(0).getOwnerName());
+        assertEquals("Tenant 1", result.getContent().get(0).getTenantName());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void getUnitsByOwner_ResolvesNamesWithSingleQuery() {
+        when(unitRepository.findByOwnerIdAndIsActiveTrue(101L)).thenReturn(units);
+
+        List<UnitListResponse> result = unitService.getUnitsByOwner(101L);
+
+        assertEquals(PAGE_SIZE, result.size());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void getUnitsByTenant_ResolvesNamesWithSingleQuery() {
+        when(unitRepository.findByTenantIdAndIsActiveTrue(201L)).thenReturn(units);
+
+        List<UnitListResponse> result = unitService.getUnitsByTenant(201L);
+
+        assertEquals(PAGE_SIZE, result.size());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void getMyUnits_SingleQueryMarksRelationWithoutDuplicates() {
+        Unit ownedAndRented = Unit.builder().id(1L).unitNumber("A-1").ownerId(101L).tenantId(101L).isActive(true).build();
+        Unit rented = Unit.builder().id(2L).unitNumber("A-2").ownerId(102L).tenantId(101L).isActive(true).build();
+        when(unitRepository.findActiveByOwnerIdOrTenantId(101L)).thenReturn(List.of(ownedAndRented, rented));
+
+        List<UnitListResponse> result = unitService.getMyUnits(101L);
+
+        assertEquals(2, result.size());
+        assertEquals(UnitRelation.OWNER_AND_TENANT, result.get(0).getRelation());
+        assertEquals(UnitRelation.TENANT, result.get(1).getRelation());
+        verify(userRepository, times(1)).findNamesByIdIn(anyCollection());
+        verify(unitRepository, never()).findByOwnerIdAndIsActiveTrue(any());
+        verify(unitRepository, never()).findByTenantIdAndIsActiveTrue(any());
+    }
+
+    @Test
+    void getMyUnitsETag_ChangesWithVersion() {
+        LocalDateTime updated = LocalDateTime.of(2024, 5, 1, 10, 0);
+        UnitVersionProjection version = mock(UnitVersionProjection.class);
+        when(version.getUnitCount()).thenReturn(2L, 2L, 1L);
+        when(version.getLastUnitUpdate()).thenReturn(updated);
+        when(unitRepository.getVersionByOwnerIdOrTenantId(101L)).thenReturn(version);
+
+        String first = unitService.getMyUnitsETag(101L);
+        String same = unitService.getMyUnitsETag(101L);
+        String afterRemoval = unitService.getMyUnitsETag(101L);
+
+        assertTrue(first.startsWith("W/\""));
+        assertEquals(first, same);
+        assertNotEquals(first, afterRemoval);
+    }
+
+    @Test
+    void getUnitById_ResolvesDisplayNamesWithSingleQuery() {
+        when(unitRepository.findById(1L)).thenReturn(Optional.of(units.get(0)));
+
+        unitService.getUnitById(1L);
+
+        verify(unitRepository, times(1)).findDisplayNames(1L, 101L, 201L);
+        verifyNoInteractions(buildingRepository, userRepository);
+    }
+
+    @Test
+    void getBuildingSummary_FallsBackToSingleAggregateQuery() {
+        UnitCountersProjection counters = mock(UnitCountersProjection.class);
+        when(counters.getBuildingName()).thenReturn("Torre A");
+        when(counters.getTotalUnits()).thenReturn(4L);
+        when(counters.getOccupiedUnits()).thenReturn(1L);
+        when(counters.getCommercialUnits()).thenReturn(2L);
+        when(counters.getTotalArea()).thenReturn(120.0);
+        when(summaryProjector.find(1L)).thenReturn(Optional.empty());
+        when(unitRepository.getBuildingCounters(1L)).thenReturn(Optional.of(counters));
+
+        UnitSummaryResponse summary = unitService.getBuildingSummary(1L);
+
+        assertEquals("Torre A", summary.getBuildingName());
+        assertEquals(3L, summary.getVacantUnits());
+        assertEquals(2L, summary.getCommercialUnits());
+        assertEquals(25.0, summary.getOccupancyRate());
+        verifyNoInteractions(buildingRepository);
+    }
+
+    private static UserNameProjection userName(Long id, String name) {
+        return new UserNameProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.unit.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UnitType;
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.entity.Building;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitListResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitResponse;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.dto.UnitSearchRequest;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.mapper.UnitMapper;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import com.buildingmanagement.buildingmanagementbackend.shared.persistence.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sentencias por lectura del servicio de unidades: propietarios e inquilinos de una página
+ * en una sola consulta y los nombres del detalle en un solo join.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UnitServiceImpl.class, UnitMapper.class})
+class UnitServiceStatementCountTest {
+
+    @Autowired
+    private UnitService unitService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private BuildingUnitSummaryProjector summaryProjector;
+
+    @MockBean
+    private UnitNumberIndex unitNumberIndex;
+
+    @MockBean
+    private UnitOccupancyIndex occupancyIndex;
+
+    private StatementCounter counter;
+    private Building building;
+    private User owner;
+    private final List<Unit> units = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManager);
+        owner = persist(user("owner@test.com", "Owner"));
+        User tenant = persist(user("tenant@test.com", "Tenant"));
+        building = persist(Building.builder().name("Building").address("Street 1").build());
+        // Cada unidad con propietario e inquilino: un lookup por fila serían dos consultas más por unidad
+        for (int i = 1; i <= 5; i++) {
+            units.add(persist(Unit.builder()
+                    .buildingId(building.getId())
+                    .unitNumber("10" + i)
+                    .unitType(UnitType.APARTMENT)
+                    .ownerId(owner.getId())
+                    .tenantId(i % 2 == 0 ? tenant.getId() : null)
+                    .isActive(true)
+                    .build()));
+        }
+    }
+
+    @Test
+    void getUnitsByBuilding_LoadsPageCountAndNamesInFourStatements() {
+        UnitSearchRequest request = new UnitSearchRequest();
+        request.setSize(3);
+
+        StatementCounter.Counted<Page<UnitListResponse>> page =
+                counter.count(() -> unitService.getUnitsByBuilding(building.getId(), request));
+
+        assertEquals(3, page.result().getNumberOfElements());
+        assertEquals("Tenant", page.result().getContent().get(1).getTenantName());
+        // existsById, página, count y nombres en bloque
+        assertEquals(4, page.statements());
+    }
+
+    @Test
+    void getUnitsByOwner_LoadsUnitsAndNamesInTwoStatements() {
+        StatementCounter.Counted<List<UnitListResponse>> owned =
+                counter.count(() -> unitService.getUnitsByOwner(owner.getId()));
+
+        assertEquals(5, owned.result().size());
+        assertTrue(owned.result().stream().allMatch(unit -> "Owner".equals(unit.getOwnerName())));
+        assertEquals(2, owned.statements());
+    }
+
+    @Test
+    void getUnitById_ResolvesDisplayNamesWithOneJoin() {
+        StatementCounter.Counted<UnitResponse> detail = counter.count(() -> unitService.getUnitById(units.get(1).getId()));
+
+        assertEquals("Building", detail.result().getBuildingName());
+        assertEquals("Owner", detail.result().getOwnerName());
+        assertEquals("Tenant", detail.result().getTenantName());
+        // La unidad y el join de enrichUnitResponse
+        assertEquals(2, detail.statements());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static User user(String email, String name) {
+        return User.builder()
+                .email(email)
+                .password("hash")
+                .name(name)
+                .role(UserRole.OWNER)
+                .isActive(true)
+                .build();
+    }
+}
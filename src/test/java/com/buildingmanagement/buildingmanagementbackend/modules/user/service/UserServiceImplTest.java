@@ -0,0 +1,81 @@
+package com.buildingmanagement.buildingmanagementbackend.modules.user.service;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.repository.UserRepository;
+import com.buildingmanagement.buildingmanagementbackend.security.ActiveUserVerifier;
+import com.buildingmanagement.buildingmanagementbackend.security.BuildingScopeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ActiveUserVerifier activeUserVerifier;
+
+    @Mock
+    private BuildingScopeResolver buildingScopeResolver;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userService, "principalCacheMaxSize", 100);
+        ReflectionTestUtils.setField(userService, "principalCacheTtlSeconds", 300L);
+        userService.initCaches();
+
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("encoded_password")
+                .name("Test User")
+                .role(UserRole.OWNER)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void loadUserByUsername_CachesPrincipalForEmailAndId() {
+        when(userRepository.findByEmailAndIsActiveTrue("test@example.com")).thenReturn(Optional.of(testUser));
+
+        UserDetails byEmail = userService.loadUserByUsername("test@example.com");
+        UserDetails again = userService.loadUserByUsername("test@example.com");
+        UserDetails byId = userService.loadUserByUsername("1");
+
+        assertSame(byEmail, again);
+        assertSame(byEmail, byId);
+        verify(userRepository, times(1)).findByEmailAndIsActiveTrue("test@example.com");
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void evictUser_ForcesReload() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        userService.loadUserByUsername("1");
+        userService.evictUser(1L);
+        userService.loadUserByUsername("1");
+
+        verify(userRepository, times(2)).findById(1L);
+        verify(activeUserVerifier).invalidate(1L);
+    }
+}
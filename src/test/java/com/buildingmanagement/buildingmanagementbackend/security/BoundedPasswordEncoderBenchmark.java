@@ -0,0 +1,156 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ServiceUnavailableException;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Oleada de logins sobre un pool que hace de workers de Tomcat, mezclada con requests
+ * sin autenticación. Mide el p99 de estas últimas con BCrypt en el worker (antes)
+ * y a través de BoundedPasswordEncoder; y, con un pool Hikari de 10 conexiones sobre H2,
+ * con el login reteniendo la conexión durante BCrypt (login transaccional) o no.
+ */
+@Tag(MicroBenchmark.TAG)
+class BoundedPasswordEncoderBenchmark {
+
+    // Cost 8 en lugar del 10 de producción para que la oleada sin acotar termine en segundos
+    private static final int BCRYPT_COST = 8;
+    // server.tomcat.threads.max por defecto
+    private static final int WORKERS = 200;
+    private static final int LOGINS = 1000;
+    private static final int PLAIN_REQUESTS = 200;
+    private static final long PLAIN_INTERVAL_MS = 5;
+    private static final int QUEUE_CAPACITY = 64;
+    // spring.datasource.hikari.maximum-pool-size por defecto
+    private static final int POOL_SIZE = 10;
+
+    private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(BCRYPT_COST);
+    private final String hash = bcrypt.encode("password123");
+
+    @Test
+    void loginStorm() throws Exception {
+        run("login storm: bcrypt on worker", () -> bcrypt.matches("password123", hash), () -> { });
+
+        BoundedPasswordEncoder bounded = boundedEncoder();
+        try {
+            run("login storm: bounded encoder", () -> bounded.matches("password123", hash), () -> { });
+        } finally {
+            bounded.shutdown();
+        }
+    }
+
+    @Test
+    void loginStormWithConnectionPool() throws Exception {
+        BoundedPasswordEncoder bounded = boundedEncoder();
+        try (HikariDataSource dataSource = dataSource()) {
+            Request plain = () -> query(dataSource);
+
+            // Login @Transactional: la conexión se toma antes de autenticar y se suelta al final
+            run("pooled: connection held during bcrypt", () -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    select(connection);
+                    bounded.matches("password123", hash);
+                    select(connection);
+                }
+            }, plain);
+
+            // Búsqueda del usuario y emisión del refresh token, cada una con su conexión
+            run("pooled: connection only around queries", () -> {
+                query(dataSource);
+                bounded.matches("password123", hash);
+                query(dataSource);
+            }, plain);
+        } finally {
+            bounded.shutdown();
+        }
+    }
+
+    private void run(String name, Request login, Request plain) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        AtomicInteger rejected = new AtomicInteger();
+        long[] latencies = new long[PLAIN_REQUESTS];
+        List<Future<?>> pending = new ArrayList<>();
+        try {
+            for (int i = 0; i < LOGINS; i++) {
+                pending.add(workers.submit(() -> {
+                    try {
+                        login.handle();
+                    } catch (ServiceUnavailableException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < PLAIN_REQUESTS; i++) {
+                int slot = i;
+                long submitted = System.nanoTime();
+                pending.add(workers.submit(() -> {
+                    plain.handle();
+                    latencies[slot] = System.nanoTime() - submitted;
+                    return null;
+                }));
+                Thread.sleep(PLAIN_INTERVAL_MS);
+            }
+            for (Future<?> future : pending) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        Arrays.sort(latencies);
+        MicroBenchmark.report(name, "plain p50 %8.2f ms  p99 %8.2f ms  logins rejected %d/%d",
+                MicroBenchmark.percentile(latencies, 50) / 1e6,
+                MicroBenchmark.percentile(latencies, 99) / 1e6,
+                rejected.get(), LOGINS);
+        assertEquals(PLAIN_REQUESTS, Arrays.stream(latencies).filter(latency -> latency > 0).count());
+    }
+
+    private BoundedPasswordEncoder boundedEncoder() {
+        return new BoundedPasswordEncoder(bcrypt, Runtime.getRuntime().availableProcessors(), QUEUE_CAPACITY);
+    }
+
+    private static HikariDataSource dataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:login_storm;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        return new HikariDataSource(config);
+    }
+
+    private static void query(HikariDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            select(connection);
+        }
+    }
+
+    private static void select(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void handle() throws Exception;
+    }
+}
@@ -0,0 +1,94 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void matches_DelegatesToBCrypt() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        String hash = encoder.encode("password123");
+
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+    }
+
+    @Test
+    void upgradeEncoding_TrueWhenCostFactorIncreased() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1);
+
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+
+    @Test
+    void encode_RejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> encoder.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> encoder.encode("b")); // ocupa la única posición de la cola
+            awaitQueued(1);
+
+            assertThrows(ServiceUnavailableException.class, () -> encoder.encode("c"));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Integer.valueOf(expected).equals(((Map<String, Object>) encoder.getMetrics()).get("queued"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.event.BuildingAdminChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.building.repository.BuildingRepository;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.event.UnitOccupantsChangedEvent;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.repository.UnitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildingScopeResolverTest {
+
+    @Mock
+    private BuildingRepository buildingRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @InjectMocks
+    private BuildingScopeResolver buildingScope;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buildingScope, "maxSize", 100);
+        ReflectionTestUtils.setField(buildingScope, "ttlSeconds", 600L);
+        buildingScope.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void canAccess_CachesScopePerUser() {
+        authenticate(7L, UserRole.BOARD_MEMBER);
+        when(buildingRepository.findScopeBuildingIds(7L)).thenReturn(List.of(1L, 3L));
+
+        assertTrue(buildingScope.canAccess(1L));
+        assertFalse(buildingScope.canAccess(2L));
+        assertTrue(buildingScope.canAccess(3L));
+
+        verify(buildingRepository, times(1)).findScopeBuildingIds(7L);
+    }
+
+    @Test
+    void canAccess_AdminSkipsLookup() {
+        authenticate(1L, UserRole.ADMIN);
+
+        assertTrue(buildingScope.canAccess(99L));
+        assertTrue(buildingScope.canAccessUnit(500L));
+        verifyNoInteractions(buildingRepository, unitRepository);
+    }
+
+    @Test
+    void canAccessUnit_ResolvesBuildingOnce() {
+        authenticate(8L, UserRole.TENANT);
+        when(buildingRepository.findScopeBuildingIds(8L)).thenReturn(List.of(2L));
+        when(unitRepository.findBuildingIdById(20L)).thenReturn(Optional.of(2L));
+        when(unitRepository.findBuildingIdById(21L)).thenReturn(Optional.of(5L));
+
+        assertTrue(buildingScope.canAccessUnit(20L));
+        assertTrue(buildingScope.canAccessUnit(20L));
+        assertFalse(buildingScope.canAccessUnit(21L));
+
+        verify(unitRepository, times(1)).findBuildingIdById(20L);
+    }
+
+    @Test
+    void canManage_ExcludesOwnedAndRentedUnits() {
+        authenticate(9L, UserRole.BOARD_MEMBER);
+        when(buildingRepository.findScopeBuildingIds(9L)).thenReturn(List.of(1L, 2L));
+        when(buildingRepository.findManagedBuildingIds(9L)).thenReturn(List.of(1L));
+        when(unitRepository.findBuildingIdById(20L)).thenReturn(Optional.of(2L));
+
+        assertTrue(buildingScope.canAccess(2L));
+        assertTrue(buildingScope.canManage(1L));
+        assertFalse(buildingScope.canManage(2L));
+        assertTrue(buildingScope.canAccessUnit(20L));
+        assertFalse(buildingScope.canManageUnit(20L));
+    }
+
+    @Test
+    void isUnitOccupant_ChecksOwnerOrTenantOfTheUnit() {
+        authenticate(8L, UserRole.TENANT);
+        when(unitRepository.isOccupant(20L, 8L)).thenReturn(true);
+        when(unitRepository.isOccupant(21L, 8L)).thenReturn(false);
+
+        assertTrue(buildingScope.isUnitOccupant(20L));
+        assertFalse(buildingScope.isUnitOccupant(21L));
+        verifyNoInteractions(buildingRepository);
+    }
+
+    @Test
+    void events_InvalidateAffectedUsers() {
+        when(buildingRepository.findScopeBuildingIds(7L)).thenReturn(List.of(1L), List.of(1L, 4L));
+        when(buildingRepository.findScopeBuildingIds(8L)).thenReturn(List.of(), List.of(4L));
+        buildingScope.buildingIds(7L);
+        buildingScope.buildingIds(8L);
+
+        buildingScope.onBuildingAdminChanged(new BuildingAdminChangedEvent(4L, null, 7L));
+        buildingScope.onUnitOccupantsChanged(new UnitOccupantsChangedEvent(Set.of(8L)));
+
+        assertEquals(Set.of(1L, 4L), buildingScope.buildingIds(7L));
+        assertEquals(Set.of(4L), buildingScope.buildingIds(8L));
+    }
+
+    private static void authenticate(Long userId, UserRole role) {
+        UserPrincipal principal = new UserPrincipal(userId, "User", "user@test.com", null, role, null,
+                List.of(new SimpleGrantedAuthority(role.getAuthority())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
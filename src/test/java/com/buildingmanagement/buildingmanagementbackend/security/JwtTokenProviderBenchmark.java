@@ -0,0 +1,77 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Coste por request de la autenticación JWT: parser construido por llamada (antes),
+ * parser único sin caché y verificación cacheada por digest.
+ */
+@Tag(MicroBenchmark.TAG)
+class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "1d71c0430abf3e6b5fe6d2fcd7148a74c84606c58063736037b05fdb75935af252c1313eafb5fdf65d1d762151836f143786aea7a1e9c9d0e73bac9908943849";
+
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+    private static final int OPS = 20_000;
+
+    @Test
+    void verifyToken() {
+        JwtTokenProvider cached = provider(1024);
+        JwtTokenProvider uncached = provider(0);
+        String token = cached.generateToken(new UsernamePasswordAuthenticationToken(principal(), null));
+
+        MicroBenchmark.run("jwt: parser per call, parsed twice", WARMUP, ROUNDS, OPS, i -> {
+            long id = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                id += Long.parseLong(Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                        .build()
+                        .parseSignedClaims(token)
+                        .getPayload()
+                        .getSubject());
+            }
+            return id;
+        });
+        MicroBenchmark.run("jwt: shared parser, no cache", WARMUP, ROUNDS, OPS,
+                i -> uncached.verifyToken(token).orElseThrow().getUserId());
+        MicroBenchmark.run("jwt: shared parser, cache hit", WARMUP, ROUNDS, OPS,
+                i -> cached.verifyToken(token).orElseThrow().getUserId());
+
+        assertTrue(cached.verifyToken(token).isPresent());
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verificationCacheSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+
+    private static UserPrincipal principal() {
+        return UserPrincipal.create(User.builder()
+                .id(7L)
+                .email("owner@test.com")
+                .password("encoded_password")
+                .name("Owner User")
+                .role(UserRole.OWNER)
+                .buildingId(3L)
+                .isActive(true)
+                .build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.enums.UserRole;
+import com.buildingmanagement.buildingmanagementbackend.modules.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "1d71c0430abf3e6b5fe6d2fcd7148a74c84606c58063736037b05fdb75935af252c1313eafb5fdf65d1d762151836f143786aea7a1e9c9d0e73bac9908943849";
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "verificationCacheSize", 16);
+        tokenProvider.init();
+
+        User user = User.builder()
+                .id(7L)
+                .email("owner@test.com")
+                .password("encoded_password")
+                .name("Owner User")
+                .role(UserRole.OWNER)
+                .buildingId(3L)
+                .isActive(true)
+                .build();
+        UserPrincipal principal = UserPrincipal.create(user);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void verifyToken_ReturnsTypedClaims() {
+        String token = tokenProvider.generateToken(authentication);
+
+        Optional<TokenClaims> claims = tokenProvider.verifyToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(7L, claims.get().getUserId());
+        assertEquals(UserRole.OWNER, claims.get().getRole());
+        assertTrue(claims.get().getExpiresAt() > System.currentTimeMillis());
+    }
+
+    @Test
+    void verifyToken_ClaimsRebuildPrincipalWithoutDatabase() {
+        String token = tokenProvider.generateToken(authentication);
+
+        TokenClaims claims = tokenProvider.verifyToken(token).orElseThrow();
+        UserPrincipal principal = UserPrincipal.fromClaims(claims);
+
+        assertTrue(claims.hasIdentity());
+        assertEquals(7L, principal.getId());
+        assertEquals("Owner User", principal.getName());
+        assertEquals("owner@test.com", principal.getEmail());
+        assertEquals(3L, principal.getBuildingId());
+        assertEquals(UserRole.OWNER, principal.getRole());
+        assertEquals("ROLE_OWNER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void verifyToken_CachedTokenReturnsSameClaims() {
+        String token = tokenProvider.generateToken(authentication);
+
+        TokenClaims first = tokenProvider.verifyToken(token).orElseThrow();
+        TokenClaims second = tokenProvider.verifyToken(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void verifyToken_TokenSignedWithAnotherKeyIsRejected() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(otherProvider, "jwtSecret", SECRET.replace('1', '2'));
+        ReflectionTestUtils.setField(otherProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(otherProvider, "verificationCacheSize", 16);
+        otherProvider.init();
+
+        String foreignToken = otherProvider.generateToken(authentication);
+
+        assertTrue(tokenProvider.verifyToken(foreignToken).isEmpty());
+        assertFalse(tokenProvider.validateToken("not-a-jwt"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.buildingmanagement.buildingmanagementbackend.security;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "stripes", 4);
+        ReflectionTestUtils.setField(rateLimiter, "maxEntries", 8);
+        ReflectionTestUtils.setField(rateLimiter, "ipCapacity", 10);
+        ReflectionTestUtils.setField(rateLimiter, "ipRefillPerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "emailCapacity", 3);
+        ReflectionTestUtils.setField(rateLimiter, "emailRefillPerMinute", 1);
+        rateLimiter.init();
+    }
+
+    @Test
+    void checkLoginAttempt_RejectsEmailAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkLoginAttempt("10.0.0.1", "Victim@test.com");
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLoginAttempt("10.0.0.2", "victim@test.com"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        rateLimiter.checkLoginAttempt("10.0.0.2", "other@test.com");
+    }
+
+    @Test
+    void init_RejectsNonPositiveCapacityOrRefill() {
+        ReflectionTestUtils.setField(rateLimiter, "emailRefillPerMinute", 0);
+        assertThrows(IllegalStateException.class, () -> rateLimiter.init());
+
+        ReflectionTestUtils.setField(rateLimiter, "emailRefillPerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "ipCapacity", -1);
+        assertThrows(IllegalStateException.class, () -> rateLimiter.init());
+    }
+
+    @Test
+    void checkLoginAttempt_RejectsIpAfterCapacity() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.checkLoginAttempt("10.0.0.1", "user" + i + "@test.com");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLoginAttempt("10.0.0.1", "fresh@test.com"));
+        assertEquals(1L, metrics().get("rejectedByIp"));
+    }
+
+    @Test
+    void checkLoginAttempt_MemoryIsBounded() {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.checkLoginAttempt("10.0.1." + i, "user" + i + "@test.com");
+        }
+
+        assertTrue((Integer) metrics().get("ipBuckets") <= 8);
+        assertTrue((Integer) metrics().get("emailBuckets") <= 8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> metrics() {
+        return (Map<String, Object>) rateLimiter.getMetrics();
+    }
+}
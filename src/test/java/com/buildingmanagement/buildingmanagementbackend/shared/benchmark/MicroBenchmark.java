@@ -0,0 +1,93 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Arnés mínimo de medición en proceso. JMH no es dependencia del proyecto, así que
+ * los benchmarks son tests JUnit con @Tag("benchmark"), excluidos del build normal:
+ *
+ *   mvn -B test -Pbenchmark
+ *
+ * Los resultados se imprimen por consola; no se afirman tiempos para no depender de la máquina.
+ */
+public final class MicroBenchmark {
+
+    public static final String TAG = "benchmark";
+
+    // Evita que el JIT elimine el trabajo medido
+    private static volatile long sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Ejecuta rondas de calentamiento y de medida de opsPerRound operaciones cada una.
+     * Devuelve los ns/op de cada ronda medida, ordenados.
+     */
+    public static Result run(String name, int warmupRounds, int rounds, int opsPerRound, IntToLongFunction op) {
+        for (int round = 0; round < warmupRounds; round++) {
+            sink += runRound(opsPerRound, op);
+        }
+
+        double[] nsPerOp = new double[rounds];
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            sink += runRound(opsPerRound, op);
+            nsPerOp[round] = (double) (System.nanoTime() - start) / opsPerRound;
+        }
+        Arrays.sort(nsPerOp);
+
+        Result result = new Result(name, nsPerOp);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Percentil p (0-100) sobre latencias ya ordenadas.
+     */
+    public static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public static void report(String name, String format, Object... args) {
+        System.out.println(String.format(Locale.ROOT, "[benchmark] %-40s " + format, prepend(name, args)));
+    }
+
+    private static long runRound(int ops, IntToLongFunction op) {
+        long acc = 0;
+        for (int i = 0; i < ops; i++) {
+            acc += op.applyAsLong(i);
+        }
+        return acc;
+    }
+
+    private static Object[] prepend(Object first, Object[] rest) {
+        Object[] all = new Object[rest.length + 1];
+        all[0] = first;
+        System.arraycopy(rest, 0, all, 1, rest.length);
+        return all;
+    }
+
+    public record Result(String name, double[] nsPerOp) {
+
+        public double median() {
+            return nsPerOp[nsPerOp.length / 2];
+        }
+
+        public double best() {
+            return nsPerOp[0];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "[benchmark] %-40s median %10.1f ns/op  best %10.1f ns/op  (%d rounds)",
+                    name, median(), best(), nsPerOp.length);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.cache;
+
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Coste de tryAcquire con bucket existente, con altas que desalojan del LRU,
+ * bytes reservados por operación y rendimiento con varios hilos según el número de stripes.
+ */
+@Tag(MicroBenchmark.TAG)
+class StripedTokenBucketsBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final int OPS = 200_000;
+    private static final int THREADS = 4;
+
+    private final String[] keys = keys(KEYS, "10.0.");
+    private final String[] freshKeys = keys(OPS * 2, "172.16.");
+
+    @Test
+    void tryAcquire() throws Exception {
+        StripedTokenBuckets hot = new StripedTokenBuckets(64, 100_000, Integer.MAX_VALUE, 1);
+        MicroBenchmark.run("buckets: existing key", 5, 10, OPS,
+                i -> hot.tryAcquire(keys[i % KEYS], System.nanoTime()));
+        MicroBenchmark.report("buckets: existing key", "%8.2f bytes/op",
+                allocatedBytesPerOp(() -> {
+                    for (int i = 0; i < OPS; i++) {
+                        hot.tryAcquire(keys[i % KEYS], System.nanoTime());
+                    }
+                }));
+
+        StripedTokenBuckets churn = new StripedTokenBuckets(64, KEYS, Integer.MAX_VALUE, 1);
+        int[] next = {0};
+        MicroBenchmark.run("buckets: new key, LRU full", 2, 5, OPS / 10,
+                i -> churn.tryAcquire(freshKeys[next[0]++ % freshKeys.length], System.nanoTime()));
+
+        for (int stripes : new int[]{1, 64}) {
+            StripedTokenBuckets buckets = new StripedTokenBuckets(stripes, 100_000, Integer.MAX_VALUE, 1);
+            MicroBenchmark.report("buckets: " + THREADS + " threads, " + stripes + " stripes",
+                    "%10.0f ops/ms", concurrentOpsPerMs(buckets));
+        }
+
+        assertEquals(KEYS, hot.size());
+    }
+
+    private double concurrentOpsPerMs(StripedTokenBuckets buckets) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * (KEYS / THREADS);
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPS; i++) {
+                        buckets.tryAcquire(keys[(offset + i) % KEYS], System.nanoTime());
+                    }
+                    done.countDown();
+                    return null;
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await(1, TimeUnit.MINUTES);
+            return (double) OPS * THREADS / ((System.nanoTime() - begin) / 1e6);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static double allocatedBytesPerOp(Runnable work) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        work.run();
+        return (double) (threads.getThreadAllocatedBytes(threadId) - before) / OPS;
+    }
+
+    private static String[] keys(int count, String prefix) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = prefix + (i >>> 8 & 0xff) + "." + (i & 0xff) + "#" + i;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,76 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import com.buildingmanagement.buildingmanagementbackend.shared.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Money (centavos en long) frente a BigDecimal con escala 2 en las operaciones de cuotas:
+ * tarifa × área con HALF_UP, suma de importes y acumulado de sumas.
+ */
+@Tag(MicroBenchmark.TAG)
+class MoneyBenchmark {
+
+    private static final int VALUES = 10_000;
+    private static final int OPS = 1_000_000;
+
+    private final long[] rateCents = new long[VALUES];
+    private final long[] areaHundredths = new long[VALUES];
+    private final BigDecimal[] rates = new BigDecimal[VALUES];
+    private final BigDecimal[] areas = new BigDecimal[VALUES];
+    private final Money[] amounts = new Money[VALUES];
+    private final BigDecimal[] decimals = new BigDecimal[VALUES];
+
+    MoneyBenchmark() {
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            rateCents[i] = 50 + random.nextInt(20_000);
+            areaHundredths[i] = 1_000 + random.nextInt(30_000);
+            rates[i] = BigDecimal.valueOf(rateCents[i], 2);
+            areas[i] = BigDecimal.valueOf(areaHundredths[i], 2);
+            amounts[i] = Money.ofCents(random.nextInt(1_000_000));
+            decimals[i] = amounts[i].toBigDecimal();
+        }
+    }
+
+    @Test
+    void feeArithmetic() {
+        for (int i = 0; i < VALUES; i++) {
+            assertEquals(rates[i].multiply(areas[i]).setScale(2, RoundingMode.HALF_UP),
+                    Money.ofCents(Money.timesAreaCents(rateCents[i], areaHundredths[i])).toBigDecimal());
+        }
+
+        MicroBenchmark.run("money: rate x area, long cents", 5, 10, OPS,
+                i -> Money.timesAreaCents(rateCents[i % VALUES], areaHundredths[i % VALUES]));
+        MicroBenchmark.run("money: rate x area, BigDecimal", 5, 10, OPS,
+                i -> rates[i % VALUES].multiply(areas[i % VALUES]).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue());
+
+        MicroBenchmark.run("money: sum of 10k, long cents", 5, 10, 200,
+                i -> {
+                    long total = 0;
+                    for (Money amount : amounts) {
+                        total = Math.addExact(total, amount.cents());
+                    }
+                    return total;
+                });
+        MicroBenchmark.run("money: sum of 10k, BigDecimal", 5, 10, 200,
+                i -> {
+                    BigDecimal total = BigDecimal.ZERO;
+                    for (BigDecimal amount : decimals) {
+                        total = total.add(amount);
+                    }
+                    return total.unscaledValue().longValue();
+                });
+
+        MicroBenchmark.run("money: plus, Money", 5, 10, OPS,
+                i -> amounts[i % VALUES].plus(amounts[(i + 1) % VALUES]).cents());
+        MicroBenchmark.run("money: plus, BigDecimal", 5, 10, OPS,
+                i -> decimals[i % VALUES].add(decimals[(i + 1) % VALUES]).unscaledValue().longValue());
+    }
+}
@@ -0,0 +1,56 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.money;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void of_RejectsMoreThanTwoDecimals() {
+        assertEquals(1250, Money.of("12.5").cents());
+        assertEquals(new BigDecimal("12.50"), Money.ofCents(1250).toBigDecimal());
+        assertThrows(ArithmeticException.class, () -> Money.of("12.505"));
+    }
+
+    @Test
+    void timesArea_RoundsHalfUpToTheCent() {
+        // 2.50 × 55.65 = 139.125
+        assertEquals(Money.of("139.13"), Money.of("2.50").timesArea(5565));
+        assertEquals(Money.of("-139.13"), Money.of("-2.50").timesArea(5565));
+        assertEquals(Money.of("0.37"), Money.of("0.33").timesArea(1.12)); // 0.3696
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE / 10).timesArea(100));
+    }
+
+    @Test
+    void allocate_KeepsEveryCent() {
+        assertArrayEquals(new long[]{34, 33, 33}, Money.ofCents(100).allocate(1, 1, 1));
+        assertArrayEquals(new long[]{-34, -33, -33}, Money.ofCents(-100).allocate(1, 1, 1));
+        assertArrayEquals(new long[]{2500, 7500}, Money.of("100").allocate(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> Money.of("1").allocate(0, 0));
+    }
+
+    @Test
+    void sum_UsesPrimitiveCents() {
+        List<Money> amounts = List.of(Money.of("0.10"), Money.of("0.20"), Money.of("1000000.70"));
+
+        assertEquals(Money.of("1000001.00"), Money.sum(amounts, Money::cents));
+        assertEquals(60, Money.sumCents(10, 20, 30));
+        assertThrows(ArithmeticException.class, () -> Money.sumCents(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void json_RoundTripsAsNumber() throws Exception {
+        assertEquals("12.50", objectMapper.writeValueAsString(Money.of("12.5")));
+        assertEquals(Money.of("12.50"), objectMapper.readValue("12.5", Money.class));
+        assertEquals(Money.of("7.00"), objectMapper.readValue("\"7\"", Money.class));
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("1.234", Money.class));
+    }
+}
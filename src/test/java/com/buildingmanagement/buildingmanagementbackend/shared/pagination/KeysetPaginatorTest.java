@@ -0,0 +1,51 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.pagination;
+
+import com.buildingmanagement.buildingmanagementbackend.common.exceptions.BusinessException;
+import com.buildingmanagement.buildingmanagementbackend.modules.unit.entity.Unit;
+import com.buildingmanagement.buildingmanagementbackend.shared.dto.PageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPaginatorTest {
+
+    private final KeysetPaginator<Unit> paginator = new KeysetPaginator<Unit>(Unit::getId)
+            .field("unitNumber", Unit::getUnitNumber, Function.identity());
+
+    @Test
+    void query_RejectsUnregisteredSortField() {
+        assertThrows(BusinessException.class, () -> paginator.query("area", "asc", null, 10));
+        assertThrows(BusinessException.class, () -> paginator.query("unitNumber", "asc", "%%%", 10));
+    }
+
+    @Test
+    void toResponse_BuildsCursorFromLastRowAndSkipsExtraRow() {
+        KeysetPaginator.Query<Unit> query = paginator.query("unitNumber", "asc", null, 2);
+        assertEquals(3, query.limit());
+        assertEquals(Sort.by(Sort.Direction.ASC, "unitNumber").and(Sort.by(Sort.Direction.ASC, "id")), query.sort());
+
+        List<Unit> rows = List.of(unit(5L, "A-1"), unit(2L, "A-2"), unit(9L, "A-3"));
+        PageResponse<String> page = query.toResponse(rows, units -> units.stream().map(Unit::getUnitNumber).toList());
+
+        assertEquals(List.of("A-1", "A-2"), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(new KeysetCursor("unitNumber", "ASC", 2L, "A-2"), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void query_RejectsCursorFromAnotherSort() {
+        String cursor = new KeysetCursor("unitNumber", "ASC", 2L, "A-2").encode();
+
+        assertDoesNotThrow(() -> paginator.query("unitNumber", "asc", cursor, 2));
+        assertThrows(BusinessException.class, () -> paginator.query("unitNumber", "desc", cursor, 2));
+        assertThrows(BusinessException.class, () -> paginator.query("id", "asc", cursor, 2));
+    }
+
+    private static Unit unit(Long id, String unitNumber) {
+        return Unit.builder().id(id).unitNumber(unitNumber).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.persistence;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Test de repositorio contra el MySQL del perfil integration, excluido del build normal:
+ *
+ *   mvn -B test -Pintegration
+ *
+ * Sin transacción de test: los datos sembrados se confirman (ANALYZE TABLE y los índices
+ * FULLTEXT solo ven filas confirmadas) y cada test los borra al terminar.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(MySqlIntegrationTest.TAG)
+@DataJpaTest
+@ActiveProfiles("integration")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public @interface MySqlIntegrationTest {
+
+    String TAG = "integration";
+}
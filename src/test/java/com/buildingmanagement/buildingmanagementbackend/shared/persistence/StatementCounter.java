@@ -0,0 +1,43 @@
+package com.buildingmanagement.buildingmanagementbackend.shared.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+/**
+ * Cuenta las sentencias que Hibernate prepara durante una llamada (perfil h2 con
+ * hibernate.generate_statistics). Vacía el contexto de persistencia antes, para que
+ * la llamada no reutilice entidades ya cargadas, y hace flush después, para contar
+ * también los UPDATE pendientes.
+ */
+public final class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(Runnable call) {
+        return count(() -> {
+            call.run();
+            return null;
+        }).statements();
+    }
+
+    public <T> Counted<T> count(Supplier<T> call) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        T result = call.get();
+        entityManager.flush();
+        return new Counted<>(result, statistics.getPrepareStatementCount());
+    }
+
+    public record Counted<T>(T result, long statements) {
+    }
+}
@@ -0,0 +1,13 @@
+-- Defaults que en MySQL crean las migraciones (V11 y V15) y que
+-- ddl-auto no genera: columnas que JPA no escribe y que se rellenan con INSERT parciales
+ALTER TABLE buildings ALTER COLUMN total_units SET DEFAULT 0;
+ALTER TABLE buildings ALTER COLUMN occupied_units SET DEFAULT 0;
+ALTER TABLE buildings ALTER COLUMN total_area SET DEFAULT 0;
+ALTER TABLE buildings ALTER COLUMN assigned_occupants SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN total_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN occupied_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN apartment_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN parking_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN storage_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN commercial_units SET DEFAULT 0;
+ALTER TABLE building_unit_summaries ALTER COLUMN total_area SET DEFAULT 0;